@@ -0,0 +1,66 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 직렬화 벤치마크
+ * codec* : 미리 만든 ObjectReader / ObjectWriter 를 재사용하는 ChatMessageCodec
+ * legacy* : 이전 방식. Redis 에는 Jackson2JsonRedisSerializer 로 쓰고, 구독 시 문자열로 바꾼 뒤 ObjectMapper 로 다시 파싱한다.
+ * 연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatMessageCodecBenchmark {
+
+    private static final String MESSAGE_JSON =
+            "{\"messageType\":\"TALK\",\"chatMessageId\":7,\"sender\":\"보낸사람\",\"message\":\"오늘 운동 같이 해요\"," +
+                    "\"redisRoomId\":\"room\",\"readCount\":1,\"imageUrl\":\"https://image\",\"messageCreatedAt\":\"2023-11-01T09:30:15\"}";
+
+    private ChatMessageCodec chatMessageCodec;
+    private ObjectMapper objectMapper;
+    private Jackson2JsonRedisSerializer<ChatMessageDto> jackson2JsonRedisSerializer;
+    private StringRedisSerializer stringRedisSerializer;
+
+    private ChatMessageDto chatMessageDto;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        chatMessageCodec = new ChatMessageCodec(objectMapper);
+        jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, ChatMessageDto.class);
+        stringRedisSerializer = new StringRedisSerializer();
+
+        payload = MESSAGE_JSON.getBytes(StandardCharsets.UTF_8);
+        chatMessageDto = chatMessageCodec.deserialize(payload);
+    }
+
+    @Benchmark
+    public byte[] codecSerialize() {
+        return chatMessageCodec.serialize(chatMessageDto);
+    }
+
+    @Benchmark
+    public byte[] legacySerialize() {
+        return jackson2JsonRedisSerializer.serialize(chatMessageDto);
+    }
+
+    @Benchmark
+    public ChatMessageDto codecDeserialize() {
+        return chatMessageCodec.deserialize(payload);
+    }
+
+    @Benchmark
+    public ChatMessageDto legacyDeserialize() throws Exception {
+        String publishMessage = stringRedisSerializer.deserialize(payload);
+        return objectMapper.readValue(publishMessage, ChatMessageDto.class);
+    }
+}
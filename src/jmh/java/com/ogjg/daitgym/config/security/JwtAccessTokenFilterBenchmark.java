@@ -0,0 +1,93 @@
+package com.ogjg.daitgym.config.security;
+
+import com.ogjg.daitgym.config.security.jwt.authentication.JwtAuthenticationProvider;
+import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.config.security.jwt.filter.JwtAccessTokenAuthenticationFilter;
+import com.ogjg.daitgym.config.security.jwt.filter.PermitUrlMatcher;
+import com.ogjg.daitgym.config.security.jwt.util.JwtUtils;
+import com.ogjg.daitgym.domain.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import static com.ogjg.daitgym.config.security.jwt.util.JwtUtils.*;
+
+/**
+ * access token 필터 체인 벤치마크
+ * filter* : 허용 URL 요청과 인증이 필요한 요청 한 건이 JwtAccessTokenAuthenticationFilter 를 통과하는 비용
+ * verify* : 같은 토큰을 반복 검증할 때, 검증된 claims 캐시를 쓰는 현재 방식과 요청마다 JwtParser 를 새로 만들어 파싱하던 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAccessTokenFilterBenchmark {
+
+    private static final String JWT_SECRET = "jmh-benchmark-secret-key-for-hs256-signature";
+
+    private JwtAccessTokenAuthenticationFilter filter;
+    private Key signingKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.invokeMethod(new JwtUtils(), "setJwtSecret", JWT_SECRET);
+        signingKey = new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        accessToken = TokenGenerator.generateAccessToken(new JwtUserClaimsDto("jmh@daitgym.com", "jmh", Role.USER));
+
+        filter = new JwtAccessTokenAuthenticationFilter(
+                new ProviderManager(new JwtAuthenticationProvider()),
+                (request, response, authException) -> response.setStatus(HttpServletResponse.SC_UNAUTHORIZED),
+                new PermitUrlMatcher(SecurityConfig.PERMIT_JWT_URL_LIST)
+        );
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterPermittedUrl() throws Exception {
+        return doFilter(new MockHttpServletRequest("GET", "/login/oauth2/code/kakao"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/routines");
+        request.addHeader(HEADER_AUTHORIZATION, TOKEN_PREFIX + accessToken);
+        return doFilter(request);
+    }
+
+    @Benchmark
+    public Claims verifyCachedToken() {
+        return TokenVerifier.verifyTokenAndGetClaims(accessToken);
+    }
+
+    @Benchmark
+    public Claims verifyWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ogjg.daitgym.config.security;
+
+import com.ogjg.daitgym.config.security.jwt.filter.PermitUrlMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 허용 URL 매칭 벤치마크
+ * compiled : 시작 시점에 하나의 Pattern 으로 컴파일한 PermitUrlMatcher
+ * perPattern : 이전 방식. 요청마다 허용 URL 정규식을 하나씩 Pattern.matches 로 컴파일하여 비교한다.
+ * requestUri 는 허용 목록 앞쪽 일치, 뒤쪽 일치, 불일치(인증이 필요한 API) 경우를 모두 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PermitUrlMatcherBenchmark {
+
+    @Param({"/favicon.ico", "/h2-console/login.do", "/api/routines/1"})
+    private String requestUri;
+
+    private final List<String> permitUrlList = SecurityConfig.PERMIT_JWT_URL_LIST;
+
+    private PermitUrlMatcher permitUrlMatcher;
+
+    @Setup
+    public void setUp() {
+        permitUrlMatcher = new PermitUrlMatcher(permitUrlList);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return permitUrlMatcher.matches(requestUri);
+    }
+
+    @Benchmark
+    public boolean perPattern() {
+        return permitUrlList.stream()
+                .filter((pattern) -> Pattern.matches(pattern, requestUri))
+                .findAny()
+                .isPresent();
+    }
+}
@@ -13,6 +13,7 @@ import com.ogjg.daitgym.domain.User;
 import com.ogjg.daitgym.user.repository.UserRepository;
 import com.ogjg.daitgym.user.service.UserHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -92,12 +93,28 @@ public class AdminService {
         ApproveStatus approveStatus = ApproveStatus.from(request.getApprovalStatus());
         approval.edit(approveStatus, request.getReason(), loginEmail);
 
+        User applicant = approval.getApplicant();
+        if (isLatestApproval(approval, applicant)) {
+            applicant.changeLatestApprovalStatus(approveStatus);
+        }
+
         if (approveStatus == ApproveStatus.APPROVAL) {
             User findUser = userHelper.findUserByNickname(request.getNickname());
             findUser.promoteToTrainer();
         }
     }
 
+    /**
+     * 사용자의 가장 최근 심사일 때만 사용자의 최근 심사 상태를 바꾼다.
+     * 새 심사를 요청한 뒤에 이전 심사가 처리되어도 새 심사의 상태가 유지된다.
+     */
+    private boolean isLatestApproval(Approval approval, User applicant) {
+        return approvalRepository.findIdsByApplicantEmailLatestFirst(applicant.getEmail(), PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(approval.getId()::equals)
+                .orElse(false);
+    }
+
     private Approval findById(Long approvalId) {
         return approvalRepository.findById(approvalId)
                 .orElseThrow(NotFoundApproval::new);
@@ -1,7 +1,9 @@
 package com.ogjg.daitgym.alarm.controller.fcm;
 
 import com.ogjg.daitgym.alarm.dto.FcmTokenRequestDto;
+import com.ogjg.daitgym.alarm.dto.NotificationScheduleRequestDto;
 import com.ogjg.daitgym.alarm.service.FcmTokenService;
+import com.ogjg.daitgym.alarm.service.NotificationScheduleService;
 import com.ogjg.daitgym.common.exception.ErrorCode;
 import com.ogjg.daitgym.common.response.ApiResponse;
 import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 public class FcmTokenController {
 
     private final FcmTokenService fcmTokenService;
+    private final NotificationScheduleService notificationScheduleService;
 
 
     @GetMapping("/token")
@@ -36,4 +39,11 @@ public class FcmTokenController {
         fcmTokenService.updateNotification(fcmTokenRequestDto, oAuth2JwtUserDetails);
         return new ApiResponse<>(ErrorCode.SUCCESS);
     }
+
+    @PutMapping("/schedule")
+    public ApiResponse<Void> updateSchedule(@RequestBody NotificationScheduleRequestDto notificationScheduleRequestDto,
+                                            @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        notificationScheduleService.updateSchedule(notificationScheduleRequestDto, oAuth2JwtUserDetails);
+        return new ApiResponse<>(ErrorCode.SUCCESS);
+    }
 }
@@ -0,0 +1,39 @@
+package com.ogjg.daitgym.alarm.controller.notification;
+
+import com.ogjg.daitgym.alarm.dto.InboxNotificationListResponse;
+import com.ogjg.daitgym.alarm.service.NotificationInboxService;
+import com.ogjg.daitgym.common.exception.ErrorCode;
+import com.ogjg.daitgym.common.response.ApiResponse;
+import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/notifications")
+public class NotificationInboxController {
+
+    private final NotificationInboxService notificationInboxService;
+
+    /**
+     * 알림함 조회
+     * cursor : 현재 가지고 있는 가장 오래된 알림의 id
+     */
+    @GetMapping
+    public ApiResponse<InboxNotificationListResponse> getNotifications(@RequestParam(required = false) Long cursor,
+                                                                       @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        return new ApiResponse<>(ErrorCode.SUCCESS, notificationInboxService.getNotifications(oAuth2JwtUserDetails.getEmail(), cursor));
+    }
+
+    @GetMapping("/unread-count")
+    public ApiResponse<Long> getUnreadCount(@AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        return new ApiResponse<>(ErrorCode.SUCCESS, notificationInboxService.getUnreadCount(oAuth2JwtUserDetails.getEmail()));
+    }
+
+    @PatchMapping("/read-all")
+    public ApiResponse<Void> markAllRead(@AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        notificationInboxService.markAllRead(oAuth2JwtUserDetails.getEmail());
+        return new ApiResponse<>(ErrorCode.SUCCESS);
+    }
+}
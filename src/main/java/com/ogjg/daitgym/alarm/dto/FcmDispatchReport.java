@@ -0,0 +1,56 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 전송 한 번의 실행 결과
+ * sent, failed : 전송에 성공/실패한 토큰 수
+ * pruned : FCM 이 유효하지 않다고 응답해 삭제한 토큰 수
+ * 배치는 여러 스레드에서 동시에 전송되므로 AtomicLong 으로 누적한다.
+ */
+public class FcmDispatchReport {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong pruned = new AtomicLong();
+    private volatile long durationMillis;
+
+    public void addSent(long count) {
+        sent.addAndGet(count);
+    }
+
+    public void addFailed(long count) {
+        failed.addAndGet(count);
+    }
+
+    public void addPruned(long count) {
+        pruned.addAndGet(count);
+    }
+
+    public FcmDispatchReport finish() {
+        durationMillis = System.currentTimeMillis() - startedAt;
+        return this;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getPruned() {
+        return pruned.get();
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "sent=" + getSent() + ", failed=" + getFailed() + ", pruned=" + getPruned() + ", durationMillis=" + durationMillis;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 토큰별 FCM 전송 결과
+ * errorCode : FCM 이 토큰별로 돌려준 에러 코드. 배치 전체가 실패한 경우처럼 토큰의 문제인지 알 수 없다면 null 이다.
+ */
+@Getter
+public class FcmSendResult {
+
+    /**
+     * 토큰이 더 이상 유효하지 않음을 뜻하는 FCM 에러 코드 (UNREGISTERED, INVALID_ARGUMENT)
+     */
+    private static final Set<String> INVALID_TOKEN_ERROR_CODES = Set.of(
+            "registration-token-not-registered",
+            "invalid-argument"
+    );
+
+    private final String token;
+    private final boolean successful;
+    private final String errorCode;
+
+    private FcmSendResult(String token, boolean successful, String errorCode) {
+        this.token = token;
+        this.successful = successful;
+        this.errorCode = errorCode;
+    }
+
+    public static FcmSendResult success(String token) {
+        return new FcmSendResult(token, true, null);
+    }
+
+    public static FcmSendResult failure(String token, String errorCode) {
+        return new FcmSendResult(token, false, errorCode);
+    }
+
+    /**
+     * 다시 보내도 성공할 수 없는 토큰인지 확인한다. 에러 코드를 모르는 실패는 일시적인 실패로 보고 토큰을 남긴다.
+     */
+    public boolean isInvalidToken() {
+        return !successful && errorCode != null && INVALID_TOKEN_ERROR_CODES.contains(errorCode);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import com.ogjg.daitgym.domain.InboxNotification;
+import com.ogjg.daitgym.domain.NotificationType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class InboxNotificationDto {
+    private Long id;
+    private String actorNickname;
+    private NotificationType type;
+    private Long targetId;
+    private String message;
+    private boolean read;
+    private LocalDateTime createdAt;
+
+    public InboxNotificationDto(InboxNotification notification) {
+        this.id = notification.getId();
+        this.actorNickname = notification.getActorNickname();
+        this.type = notification.getType();
+        this.targetId = notification.getTargetId();
+        this.message = notification.getMessage();
+        this.read = notification.isRead();
+        this.createdAt = notification.getCreatedAt();
+    }
+}
@@ -0,0 +1,25 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * nextCursor : 다음 페이지를 조회할 때 보낼 cursor. 마지막 페이지라면 null 이다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class InboxNotificationListResponse {
+    private List<InboxNotificationDto> notifications;
+    private Long nextCursor;
+    private long unreadCount;
+
+    public InboxNotificationListResponse(List<InboxNotificationDto> notifications, Long nextCursor, long unreadCount) {
+        this.notifications = notifications;
+        this.nextCursor = nextCursor;
+        this.unreadCount = unreadCount;
+    }
+}
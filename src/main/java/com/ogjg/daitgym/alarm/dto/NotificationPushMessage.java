@@ -0,0 +1,21 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 서버 간 Redis pub/sub 으로 전달하는 알림 push. 받는 사람과 알림을 함께 담는다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class NotificationPushMessage {
+    private String recipientEmail;
+    private InboxNotificationDto notification;
+
+    public NotificationPushMessage(String recipientEmail, InboxNotificationDto notification) {
+        this.recipientEmail = recipientEmail;
+        this.notification = notification;
+    }
+}
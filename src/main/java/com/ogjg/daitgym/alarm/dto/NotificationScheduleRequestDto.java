@@ -0,0 +1,15 @@
+package com.ogjg.daitgym.alarm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class NotificationScheduleRequestDto {
+    private LocalTime sendTime;
+    private String zoneId;
+}
@@ -0,0 +1,14 @@
+package com.ogjg.daitgym.alarm.pubsub;
+
+import com.ogjg.daitgym.alarm.dto.InboxNotificationDto;
+
+/**
+ * 알림을 모든 서버에 접속한 받는 사람의 구독(/sub/notifications/{email})으로 전달하는 발행기
+ * 채팅과 같이 chat.broker.mode 설정에 따라 Redis pub/sub 브릿지(simple) 또는 외부 STOMP 브로커 relay(relay) 구현이 등록된다.
+ */
+public interface NotificationPushPublisher {
+
+    String NOTIFICATION_DESTINATION_PREFIX = "/sub/notifications/";
+
+    void publish(String recipientEmail, InboxNotificationDto notification);
+}
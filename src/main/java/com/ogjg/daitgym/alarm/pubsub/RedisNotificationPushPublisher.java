@@ -0,0 +1,38 @@
+package com.ogjg.daitgym.alarm.pubsub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.alarm.dto.InboxNotificationDto;
+import com.ogjg.daitgym.alarm.dto.NotificationPushMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class RedisNotificationPushPublisher implements NotificationPushPublisher {
+
+    static final String NOTIFICATION_TOPIC = "notification:push";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림을 redis 서버로 발행
+     * 각 서버의 RedisNotificationPushSubscriber 가 알림을 받아 자신의 SimpleBroker 구독자에게 전달한다.
+     */
+    @Override
+    public void publish(String recipientEmail, InboxNotificationDto notification) {
+        try {
+            stringRedisTemplate.convertAndSend(
+                    NOTIFICATION_TOPIC,
+                    objectMapper.writeValueAsString(new NotificationPushMessage(recipientEmail, notification))
+            );
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("알림을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ogjg.daitgym.alarm.pubsub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.alarm.dto.NotificationPushMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import static com.ogjg.daitgym.alarm.pubsub.NotificationPushPublisher.NOTIFICATION_DESTINATION_PREFIX;
+import static com.ogjg.daitgym.alarm.pubsub.RedisNotificationPushPublisher.NOTIFICATION_TOPIC;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class RedisNotificationPushSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final ObjectMapper objectMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    /**
+     * 서버가 뜰 때 알림 topic 을 한 번 구독한다. 채팅방과 달리 topic 이 하나이다.
+     */
+    @PostConstruct
+    void subscribe() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(NOTIFICATION_TOPIC));
+    }
+
+    /**
+     * 다른 서버에서 발행한 알림도 받아, 이 서버에 접속한 받는 사람의 구독자에게 전달한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationPushMessage pushMessage = objectMapper.readValue(message.getBody(), NotificationPushMessage.class);
+            messagingTemplate.convertAndSend(
+                    NOTIFICATION_DESTINATION_PREFIX + pushMessage.getRecipientEmail(),
+                    pushMessage.getNotification()
+            );
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ogjg.daitgym.alarm.pubsub;
+
+import com.ogjg.daitgym.alarm.dto.InboxNotificationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "relay")
+public class StompRelayNotificationPushPublisher implements NotificationPushPublisher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    /**
+     * 외부 STOMP 브로커로 알림을 바로 보낸다.
+     * 브로커가 모든 서버의 구독자에게 알림을 전달하므로 Redis pub/sub 브릿지를 거치지 않는다.
+     */
+    @Override
+    public void publish(String recipientEmail, InboxNotificationDto notification) {
+        messagingTemplate.convertAndSend(NOTIFICATION_DESTINATION_PREFIX + recipientEmail, notification);
+    }
+}
@@ -3,10 +3,16 @@ package com.ogjg.daitgym.alarm.repository;
 import com.ogjg.daitgym.domain.FcmToken;
 import com.ogjg.daitgym.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
+public interface FcmTokenRepository extends JpaRepository<FcmToken, Long>, FcmTokenRepositoryCustom {
 
     boolean existsByUserAndToken(User user, String token);
 
@@ -15,5 +21,14 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     Optional<FcmToken> findByUser(User user);
 
     Optional<FcmToken> findByUserEmail(String email);
-}
 
+    List<FcmToken> findAllByUserEmailIn(Collection<String> emails);
+
+    /**
+     * FCM 이 유효하지 않다고 응답한 토큰을 한 번의 delete 로 지운다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from FcmToken f where f.token in :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
+}
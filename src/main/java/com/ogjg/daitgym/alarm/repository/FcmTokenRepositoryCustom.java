@@ -0,0 +1,10 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.querydsl.core.Tuple;
+
+import java.util.List;
+
+public interface FcmTokenRepositoryCustom {
+
+    List<Tuple> findNextPageOfSlot(int slotMinute, Long lastId, int size);
+}
@@ -0,0 +1,47 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.ogjg.daitgym.domain.QFcmToken.fcmToken;
+import static com.ogjg.daitgym.domain.QNotificationSchedule.notificationSchedule;
+import static com.ogjg.daitgym.domain.QUser.user;
+
+@RequiredArgsConstructor
+public class FcmTokenRepositoryImpl implements FcmTokenRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 슬롯에 속한 사용자의 토큰을 lastId 이후부터 id 순으로 size 개 조회한다.
+     * 사용자를 fetch join 하고, 사용자의 시간대(zoneId)를 함께 조회한다. 알림 시각을 설정하지 않은 사용자는 zoneId 가 null 이다.
+     */
+    @Override
+    public List<Tuple> findNextPageOfSlot(int slotMinute, Long lastId, int size) {
+        return jpaQueryFactory.select(fcmToken, notificationSchedule.zoneId)
+                .from(fcmToken)
+                .join(fcmToken.user, user).fetchJoin()
+                .leftJoin(notificationSchedule).on(notificationSchedule.email.eq(user.email))
+                .where(
+                        fcmToken.id.gt(lastId),
+                        inSlot(slotMinute)
+                )
+                .orderBy(fcmToken.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression inSlot(int slotMinute) {
+        BooleanExpression scheduled = notificationSchedule.slotMinute.eq(slotMinute);
+
+        if (slotMinute == NotificationSchedule.DEFAULT_SLOT_MINUTE) {
+            return notificationSchedule.email.isNull().or(scheduled);
+        }
+        return scheduled;
+    }
+}
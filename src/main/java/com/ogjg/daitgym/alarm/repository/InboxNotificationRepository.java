@@ -0,0 +1,23 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.InboxNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface InboxNotificationRepository extends JpaRepository<InboxNotification, Long> {
+
+    List<InboxNotification> findByRecipientEmailOrderByIdDesc(String recipientEmail, Pageable pageable);
+
+    List<InboxNotification> findByRecipientEmailAndIdLessThanOrderByIdDesc(String recipientEmail, Long cursor, Pageable pageable);
+
+    long countByRecipientEmailAndIsReadFalse(String recipientEmail);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update InboxNotification n set n.isRead = true where n.recipientEmail = :email and n.isRead = false")
+    int markAllRead(@Param("email") String email);
+}
@@ -0,0 +1,48 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 전송되지 않았고 다른 relay 가 claim 하지 않은 알림을 오래된 순으로 조회한다.
+     * 다른 서버의 relay 가 claim 중인 행은 건너뛰어(SKIP LOCKED) 같은 알림을 두 서버가 가져가지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o " +
+            "where o.published = false and (o.claimedUntil is null or o.claimedUntil < :now) " +
+            "order by o.id asc")
+    List<NotificationOutbox> findClaimableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox o set o.claimedBy = :owner, o.claimedUntil = :claimedUntil where o.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 아직 owner 가 claim 하고 있는 알림만 잠그고 조회한다. claim 이 만료되어 다른 서버가 가져간 알림은 제외된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from NotificationOutbox o " +
+            "where o.id in :ids and o.claimedBy = :owner and o.published = false " +
+            "order by o.id asc")
+    List<NotificationOutbox> findClaimedForUpdate(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox o set o.published = true where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids);
+
+    @Query("select o.id from NotificationOutbox o where o.published = true and o.createdAt < :before order by o.id asc")
+    List<Long> findPublishedIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface NotificationScheduleRepository extends JpaRepository<NotificationSchedule, String> {
+
+    @Query("select distinct s.slotMinute from NotificationSchedule s where s.slotMinute in :slotMinutes")
+    Set<Integer> findSlotMinutesIn(@Param("slotMinutes") Collection<Integer> slotMinutes);
+
+    @Query("select distinct s.zoneId from NotificationSchedule s")
+    List<String> findDistinctZoneIds();
+
+    @Query("select distinct s.sendTime from NotificationSchedule s where s.zoneId = :zoneId")
+    List<LocalTime> findDistinctSendTimesByZoneId(@Param("zoneId") String zoneId);
+
+    /**
+     * 시간대와 전송 시각이 같은 사용자 중 슬롯이 바뀐 사용자만 한 번에 갱신한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationSchedule s set s.slotMinute = :slotMinute " +
+            "where s.zoneId = :zoneId and s.sendTime = :sendTime and s.slotMinute <> :slotMinute")
+    int updateSlotMinute(@Param("zoneId") String zoneId,
+                         @Param("sendTime") LocalTime sendTime,
+                         @Param("slotMinute") int slotMinute);
+}
@@ -0,0 +1,22 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.ReminderSlotCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ReminderSlotCheckpointRepository extends JpaRepository<ReminderSlotCheckpoint, String> {
+
+    /**
+     * checkpoint 가 읽은 값(from) 그대로일 때만 to 로 옮긴다. 1 이면 이 서버가 from 다음 분부터 to 까지의 등록을 맡은 것이다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ReminderSlotCheckpoint c set c.lastEnqueuedAt = :to " +
+            "where c.name = :name and c.lastEnqueuedAt = :from")
+    int advance(@Param("name") String name,
+                @Param("from") LocalDateTime from,
+                @Param("to") LocalDateTime to);
+}
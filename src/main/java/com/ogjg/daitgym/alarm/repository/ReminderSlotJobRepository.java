@@ -0,0 +1,54 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import com.ogjg.daitgym.domain.ReminderSlotJob;
+import com.ogjg.daitgym.domain.ReminderSlotStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReminderSlotJobRepository extends JpaRepository<ReminderSlotJob, Long> {
+
+    @Query("select j.scheduledAt from ReminderSlotJob j where j.scheduledAt between :from and :to")
+    List<LocalDateTime> findScheduledAtsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    List<ReminderSlotJob> findAllByStatusAndScheduledAtBetweenOrderByScheduledAtAsc(
+            ReminderSlotStatus status, LocalDateTime from, LocalDateTime to
+    );
+
+    /**
+     * lease 가 없거나 만료된 대기 중인 슬롯을 조건부 update 로 가져온다. 1 이면 이 서버가 슬롯을 차지한 것이다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ReminderSlotJob j set j.leaseOwner = :owner, j.leaseUntil = :leaseUntil " +
+            "where j.id = :id and j.status = :pending and (j.leaseUntil is null or j.leaseUntil < :now)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now,
+              @Param("pending") ReminderSlotStatus pending);
+
+    /**
+     * 배치를 보낼 때마다 lease 를 연장한다. 0 이면 lease 가 만료되어 다른 서버가 슬롯을 가져간 것이다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ReminderSlotJob j set j.leaseUntil = :leaseUntil " +
+            "where j.id = :id and j.leaseOwner = :owner and j.status = :pending")
+    int renewLease(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("pending") ReminderSlotStatus pending);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ReminderSlotJob j set j.status = :done where j.id = :id and j.leaseOwner = :owner")
+    int complete(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("done") ReminderSlotStatus done);
+}
@@ -0,0 +1,100 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 안 읽은 알림 수 Redis 카운터
+ * 카운터는 DB 에서 한 번 센 값으로 채워진 뒤에만 증가시키므로, 키가 없으면 호출하는 쪽이 DB 에서 다시 센다.
+ * versionKey : 증가와 삭제마다 올라가는 값. DB 에서 세는 동안 버전이 바뀌었다면 채우지 않아, 그 사이의 증가가 빠진 카운터가 생기지 않는다.
+ * TTL 이 지나면 다시 DB 값으로 채워지므로 카운터가 어긋나도 TTL 이상 유지되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String VERSION_KEY_PREFIX = "notification:unread-version:";
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+    private static final String NO_VERSION = "0";
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class
+    );
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+                    "if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+                    "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<Long> find(String email) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key(email)))
+                .map(Long::valueOf);
+    }
+
+    /**
+     * DB 에서 센 값으로 카운터를 채우고, 센 값을 반환한다.
+     * 세기 전의 버전을 함께 넘겨, 카운터가 없고 그 사이 증가나 삭제가 없었을 때만 하나의 스크립트로 채운다.
+     */
+    public long fill(String email, LongSupplier unreadCounter) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(email));
+        long count = unreadCounter.getAsLong();
+
+        stringRedisTemplate.execute(
+                FILL_SCRIPT, keys(email),
+                version == null ? NO_VERSION : version, String.valueOf(count), String.valueOf(COUNTER_TTL.toMillis())
+        );
+        return count;
+    }
+
+    /**
+     * 카운터가 존재할 때만 증가시킨다. 존재 확인과 증가를 하나의 스크립트로 처리한다.
+     */
+    public void incrementIfPresent(String email, long delta) {
+        stringRedisTemplate.execute(
+                INCREMENT_IF_PRESENT_SCRIPT, keys(email),
+                String.valueOf(delta), String.valueOf(COUNTER_TTL.toMillis())
+        );
+    }
+
+    /**
+     * 카운터를 지운다. 다음 조회에서 DB 값으로 다시 채워진다.
+     */
+    public void evict(String email) {
+        stringRedisTemplate.execute(EVICT_SCRIPT, keys(email), String.valueOf(COUNTER_TTL.toMillis()));
+    }
+
+    private List<String> keys(String email) {
+        return List.of(key(email), versionKey(email));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    private String versionKey(String email) {
+        return VERSION_KEY_PREFIX + email;
+    }
+}
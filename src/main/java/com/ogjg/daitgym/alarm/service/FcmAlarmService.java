@@ -7,10 +7,9 @@ import com.google.firebase.messaging.WebpushNotification;
 import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
 import com.ogjg.daitgym.common.exception.exercise.NotFoundExercise;
 import com.ogjg.daitgym.common.exception.journal.NotFoundExerciseList;
-import com.ogjg.daitgym.domain.exercise.Exercise;
 import com.ogjg.daitgym.domain.journal.ExerciseJournal;
 import com.ogjg.daitgym.domain.journal.ExerciseList;
-import com.ogjg.daitgym.exercise.repository.ExerciseRepository;
+import com.ogjg.daitgym.exercise.service.ExerciseCatalog;
 import com.ogjg.daitgym.journal.repository.exerciselist.ExerciseListRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,35 +24,38 @@ import java.util.concurrent.ExecutionException;
 @RequiredArgsConstructor
 public class FcmAlarmService {
 
-    private final ExerciseRepository exerciseRepository;
+    public static final String ALARM_TITLE = "[DaItGym 운동 알림]";
+
+    public static final String EMPTY_JOURNAL_MESSAGE = "오늘 운동일지가 비어있어요!";
+
+    private final ExerciseCatalog exerciseCatalog;
     private final ExerciseListRepository exerciseListRepository;
 
 
     public String alarmMessage(ExerciseJournal exerciseJournal) {
-        String message = "";
-
         List<String> exercises = new ArrayList<>();
-        StringBuilder messageBuilder = new StringBuilder("오늘은 ");
 
         List<ExerciseList> exerciseList = exerciseListRepository.findByExerciseJournalId(exerciseJournal.getId())
                 .orElseThrow(NotFoundExerciseList::new);
 
         for (ExerciseList list : exerciseList) {
             Long exerciseId = list.getExercise().getId();
-            Exercise exercise = exerciseRepository.findById(exerciseId).orElseThrow(NotFoundExercise::new);
-            exercises.add(exercise.getName());
+            exercises.add(exerciseCatalog.findById(exerciseId)
+                    .orElseThrow(NotFoundExercise::new)
+                    .getName());
         }
 
-        for (int i = 0; i < exercises.size(); i++) {
-            messageBuilder.append(exercises.get(i));
-            if (i < exercises.size() - 1) {
-                messageBuilder.append(", ");
-            }
-        }
-        messageBuilder.append(" 하는 날입니다.");
-        message = messageBuilder.toString();
+        return alarmMessage(exercises);
+    }
 
-        return message;
+    /**
+     * 운동 이름 목록으로 알림 메시지를 만든다. 운동이 없다면 빈 운동일지 메시지를 돌려준다.
+     */
+    public String alarmMessage(List<String> exercises) {
+        if (exercises.isEmpty()) {
+            return EMPTY_JOURNAL_MESSAGE;
+        }
+        return "오늘은 " + String.join(", ", exercises) + " 하는 날입니다.";
     }
 
     public void sendNotification(NotificationRequestDto requestDto) throws ExecutionException, InterruptedException {
@@ -0,0 +1,171 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.FcmDispatchReport;
+import com.ogjg.daitgym.alarm.dto.FcmSendResult;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import com.ogjg.daitgym.alarm.repository.FcmTokenRepository;
+import com.ogjg.daitgym.domain.FcmToken;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.querydsl.core.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+import static com.ogjg.daitgym.alarm.service.FcmAlarmService.ALARM_TITLE;
+
+/**
+ * 운동 알림 일괄 전송
+ * 알림 슬롯에 속한 토큰을 BATCH_SIZE 개씩 페이지로 읽고, 한 페이지의 운동일지와 운동 이름을 운동일지 날짜별로 한 번의 쿼리로 조회한 뒤
+ * FCM sendAll 로 한 번에 보낸다. 전송은 모든 슬롯이 함께 쓰는 FcmSendExecutor 에서 하고, 슬롯마다 최대 MAX_CONCURRENT_BATCHES 개의 배치만 동시에 진행한다.
+ * FCM 이 UNREGISTERED, INVALID_ARGUMENT 로 응답한 토큰은 전송이 끝난 뒤 묶어서 삭제하여 다음 실행부터 보내지 않는다.
+ * 다음 페이지를 읽기 전마다 leaseRenewer 로 슬롯 lease 를 연장하고, 연장에 실패하면 남은 페이지는 보내지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmDispatchService {
+
+    /**
+     * FCM sendAll 이 한 번에 받을 수 있는 최대 메시지 수
+     */
+    public static final int BATCH_SIZE = 500;
+
+    static final int MAX_CONCURRENT_BATCHES = 4;
+
+    private final FcmAlarmService fcmAlarmService;
+    private final FcmMessagingClient fcmMessagingClient;
+    private final FcmSendExecutor fcmSendExecutor;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final ExerciseJournalRepository exerciseJournalRepository;
+
+    /**
+     * 슬롯에 속한 사용자들에게 운동 알림을 보낸다.
+     * 운동일지 날짜는 scheduledAt(UTC) 을 사용자의 시간대로 바꾼 날짜를 사용한다.
+     */
+    public FcmDispatchReport dispatchSlot(int slotMinute, LocalDateTime scheduledAt, BooleanSupplier leaseRenewer) {
+        FcmDispatchReport report = new FcmDispatchReport();
+        Instant sendAt = scheduledAt.toInstant(ZoneOffset.UTC);
+        Semaphore inFlight = new Semaphore(MAX_CONCURRENT_BATCHES);
+        List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+
+        try {
+            long lastId = 0L;
+            List<Tuple> page = fcmTokenRepository.findNextPageOfSlot(slotMinute, lastId, BATCH_SIZE);
+
+            while (!page.isEmpty()) {
+                List<NotificationRequestDto> notifications = createNotifications(page, sendAt);
+
+                inFlight.acquire();
+                batches.add(fcmSendExecutor.supplyAsync(() -> send(notifications, report))
+                        .whenComplete((result, e) -> inFlight.release()));
+
+                if (!leaseRenewer.getAsBoolean()) {
+                    log.warn("운동 알림 슬롯 lease 연장에 실패하여 남은 페이지를 보내지 않습니다. slotMinute={}", slotMinute);
+                    break;
+                }
+
+                lastId = page.get(page.size() - 1).get(0, FcmToken.class).getId();
+                page = fcmTokenRepository.findNextPageOfSlot(slotMinute, lastId, BATCH_SIZE);
+            }
+
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+            pruneInvalidTokens(batches.stream().flatMap(batch -> batch.join().stream()).toList(), report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("운동 알림 전송이 중단되었습니다.");
+        }
+
+        log.info("운동 알림 슬롯 전송 결과 slotMinute={}, {}", slotMinute, report.finish());
+        return report;
+    }
+
+    /**
+     * 한 페이지의 토큰을 사용자의 운동일지 날짜별로 나누고, 날짜마다 운동 이름을 한 번에 조회한다.
+     */
+    private List<NotificationRequestDto> createNotifications(List<Tuple> page, Instant sendAt) {
+        Map<LocalDate, Set<String>> emailsByJournalDate = new HashMap<>();
+
+        for (Tuple tuple : page) {
+            String email = tuple.get(0, FcmToken.class).getUser().getEmail();
+            LocalDate journalDate = LocalDate.ofInstant(sendAt, zoneOf(tuple.get(1, String.class)));
+            emailsByJournalDate.computeIfAbsent(journalDate, date -> new HashSet<>()).add(email);
+        }
+
+        Map<String, List<String>> exerciseNamesByEmail = new HashMap<>();
+        emailsByJournalDate.forEach((journalDate, emails) ->
+                exerciseNamesByEmail.putAll(findExerciseNamesByEmail(emails, journalDate)));
+
+        return page.stream()
+                .map(tuple -> tuple.get(0, FcmToken.class))
+                .map(fcmToken -> NotificationRequestDto.builder()
+                        .title(ALARM_TITLE)
+                        .message(fcmAlarmService.alarmMessage(
+                                exerciseNamesByEmail.getOrDefault(fcmToken.getUser().getEmail(), List.of())
+                        ))
+                        .token(fcmToken.getToken())
+                        .build())
+                .toList();
+    }
+
+    private ZoneId zoneOf(String zoneId) {
+        return zoneId == null ? NotificationSchedule.DEFAULT_ZONE : ZoneId.of(zoneId);
+    }
+
+    private Map<String, List<String>> findExerciseNamesByEmail(Set<String> emails, LocalDate journalDate) {
+        Map<String, List<String>> exerciseNamesByEmail = new HashMap<>();
+
+        for (Tuple tuple : exerciseJournalRepository.findExerciseNamesOfJournals(emails, journalDate)) {
+            List<String> exerciseNames = exerciseNamesByEmail.computeIfAbsent(tuple.get(0, String.class), email -> new ArrayList<>());
+            String exerciseName = tuple.get(1, String.class);
+            if (exerciseName != null) {
+                exerciseNames.add(exerciseName);
+            }
+        }
+        return exerciseNamesByEmail;
+    }
+
+    /**
+     * 배치를 전송하고 FCM 이 유효하지 않다고 응답한 토큰 목록을 돌려준다.
+     * 배치 하나가 실패해도 예외를 밖으로 던지지 않아 나머지 배치는 계속 전송된다.
+     */
+    private List<String> send(List<NotificationRequestDto> notifications, FcmDispatchReport report) {
+        List<FcmSendResult> results;
+        try {
+            results = fcmMessagingClient.sendAll(notifications);
+        } catch (RuntimeException e) {
+            report.addFailed(notifications.size());
+            log.error("운동 알림 배치 전송 실패 : " + e.getMessage());
+            return List.of();
+        }
+
+        long failed = results.stream().filter(result -> !result.isSuccessful()).count();
+        report.addSent(results.size() - failed);
+        report.addFailed(failed);
+
+        return results.stream()
+                .filter(FcmSendResult::isInvalidToken)
+                .map(FcmSendResult::getToken)
+                .toList();
+    }
+
+    /**
+     * 유효하지 않은 토큰을 BATCH_SIZE 개씩 나누어 삭제한다. 삭제는 전송 스레드가 아닌 호출 스레드에서 한다.
+     */
+    private void pruneInvalidTokens(List<String> invalidTokens, FcmDispatchReport report) {
+        for (int from = 0; from < invalidTokens.size(); from += BATCH_SIZE) {
+            List<String> chunk = invalidTokens.subList(from, Math.min(from + BATCH_SIZE, invalidTokens.size()));
+            try {
+                report.addPruned(fcmTokenRepository.deleteAllByTokenIn(chunk));
+            } catch (RuntimeException e) {
+                log.error("유효하지 않은 FCM 토큰 삭제 실패 : " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.FcmSendResult;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+
+import java.util.List;
+
+/**
+ * FCM 전송 클라이언트
+ * 한 번에 최대 FcmDispatchService.BATCH_SIZE 개의 알림을 보내고, 요청 순서대로 토큰별 결과를 돌려준다.
+ */
+public interface FcmMessagingClient {
+
+    List<FcmSendResult> sendAll(List<NotificationRequestDto> notifications);
+}
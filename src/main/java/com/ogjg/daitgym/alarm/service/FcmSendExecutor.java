@@ -0,0 +1,36 @@
+package com.ogjg.daitgym.alarm.service;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * FCM 배치 전송 스레드 풀
+ * 슬롯마다 풀을 만들지 않고 모든 슬롯이 이 풀 하나를 함께 사용한다. 스레드 이름은 fcm-send- 로 시작한다.
+ * 동시에 전송하는 슬롯 수 × 슬롯마다 동시에 보내는 배치 수만큼의 스레드를 두고,
+ * 대기열도 같은 크기로 제한한다. 대기열이 가득 차면 호출한 스레드에서 전송한다.
+ * 풀은 ScheduledService 의 @PreDestroy 에서 종료한다.
+ */
+@Component
+public class FcmSendExecutor {
+
+    private static final int THREADS = ScheduledService.DISPATCH_THREADS * FcmDispatchService.MAX_CONCURRENT_BATCHES;
+
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            THREADS, THREADS,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(THREADS),
+            new CustomizableThreadFactory("fcm-send-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
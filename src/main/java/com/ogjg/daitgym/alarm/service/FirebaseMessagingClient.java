@@ -0,0 +1,58 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.google.firebase.messaging.*;
+import com.ogjg.daitgym.alarm.dto.FcmSendResult;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class FirebaseMessagingClient implements FcmMessagingClient {
+
+    /**
+     * FirebaseMessaging.sendAll 로 알림을 한 번의 요청으로 보낸다.
+     * 배치 요청 자체가 실패하면 토큰의 문제인지 알 수 없으므로 에러 코드 없이 모두 실패로 돌려준다.
+     */
+    @Override
+    public List<FcmSendResult> sendAll(List<NotificationRequestDto> notifications) {
+        List<Message> messages = notifications.stream()
+                .map(this::toMessage)
+                .toList();
+
+        List<FcmSendResult> results = new ArrayList<>(notifications.size());
+        try {
+            List<SendResponse> responses = FirebaseMessaging.getInstance().sendAll(messages).getResponses();
+
+            for (int i = 0; i < responses.size(); i++) {
+                results.add(toResult(notifications.get(i).getToken(), responses.get(i)));
+            }
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 배치 전송 실패 : " + e.getMessage());
+            notifications.forEach(notification -> results.add(FcmSendResult.failure(notification.getToken(), null)));
+        }
+        return results;
+    }
+
+    private FcmSendResult toResult(String token, SendResponse response) {
+        if (response.isSuccessful()) {
+            return FcmSendResult.success(token);
+        }
+        return FcmSendResult.failure(token, response.getException().getErrorCode());
+    }
+
+    private Message toMessage(NotificationRequestDto requestDto) {
+        return Message.builder()
+                .setWebpushConfig(WebpushConfig.builder()
+                        .setNotification(WebpushNotification.builder()
+                                .setTitle(requestDto.getTitle())
+                                .setBody(requestDto.getMessage())
+                                .build())
+                        .build())
+                .setToken(requestDto.getToken())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.InboxNotificationDto;
+import com.ogjg.daitgym.alarm.dto.InboxNotificationListResponse;
+import com.ogjg.daitgym.alarm.pubsub.NotificationPushPublisher;
+import com.ogjg.daitgym.alarm.repository.InboxNotificationRepository;
+import com.ogjg.daitgym.alarm.repository.UnreadNotificationCounter;
+import com.ogjg.daitgym.common.transaction.AfterCommit;
+import com.ogjg.daitgym.domain.InboxNotification;
+import com.ogjg.daitgym.domain.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 앱 내 알림함
+ * 알림은 outbox relay 가 전송할 때 저장되고, 저장이 커밋된 뒤 NotificationPushPublisher 로 모든 서버의 /sub/notifications/{email} 구독자에게 STOMP push 된다.
+ * 안 읽은 알림 수는 UnreadNotificationCounter 에서 읽고, 카운터가 없을 때만 DB 에서 센다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final InboxNotificationRepository inboxNotificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationPushPublisher notificationPushPublisher;
+
+    /**
+     * 알림 목록 최신순 조회하기
+     * cursor : 현재 가지고 있는 가장 오래된 알림의 id. 없으면 첫 페이지를 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public InboxNotificationListResponse getNotifications(String email, Long cursor) {
+        PageRequest page = PageRequest.of(0, PAGE_SIZE + 1);
+        List<InboxNotification> notifications = cursor == null
+                ? inboxNotificationRepository.findByRecipientEmailOrderByIdDesc(email, page)
+                : inboxNotificationRepository.findByRecipientEmailAndIdLessThanOrderByIdDesc(email, cursor, page);
+
+        boolean hasNext = notifications.size() > PAGE_SIZE;
+        List<InboxNotificationDto> content = notifications.stream()
+                .limit(PAGE_SIZE)
+                .map(InboxNotificationDto::new)
+                .toList();
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+        return new InboxNotificationListResponse(content, nextCursor, getUnreadCount(email));
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String email) {
+        return unreadNotificationCounter.find(email)
+                .orElseGet(() -> unreadNotificationCounter.fill(
+                        email, () -> inboxNotificationRepository.countByRecipientEmailAndIsReadFalse(email)
+                ));
+    }
+
+    /**
+     * 안 읽은 알림 모두 읽음 처리하기. update 한 번으로 처리한다.
+     * 커밋 전후에 전달된 알림이 카운터에서 빠지지 않도록 0 으로 덮어쓰지 않고, 커밋된 뒤 카운터를 지워 다음 조회에서 다시 센다.
+     */
+    @Transactional
+    public void markAllRead(String email) {
+        inboxNotificationRepository.markAllRead(email);
+        AfterCommit.run(() -> unreadNotificationCounter.evict(email));
+    }
+
+    /**
+     * outbox 의 알림을 받는 사람들의 알림함에 저장하고, 커밋된 뒤 안 읽은 알림 수를 올리고 STOMP 로 push 한다.
+     */
+    @Transactional
+    public void deliver(List<NotificationOutbox> events) {
+        List<InboxNotification> notifications = inboxNotificationRepository.saveAll(
+                events.stream().map(InboxNotification::from).toList()
+        );
+
+        Map<String, List<InboxNotificationDto>> dtosByRecipient = notifications.stream()
+                .collect(Collectors.groupingBy(
+                        InboxNotification::getRecipientEmail,
+                        Collectors.mapping(InboxNotificationDto::new, Collectors.toList())
+                ));
+
+        AfterCommit.run(() -> dtosByRecipient.forEach((email, dtos) -> {
+            unreadNotificationCounter.incrementIfPresent(email, dtos.size());
+            dtos.forEach(dto -> notificationPushPublisher.publish(email, dto));
+        }));
+    }
+}
@@ -0,0 +1,181 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.FcmSendResult;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import com.ogjg.daitgym.alarm.repository.FcmTokenRepository;
+import com.ogjg.daitgym.alarm.repository.NotificationOutboxRepository;
+import com.ogjg.daitgym.domain.FcmToken;
+import com.ogjg.daitgym.domain.NotificationOutbox;
+import com.ogjg.daitgym.domain.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.ogjg.daitgym.alarm.service.FcmDispatchService.BATCH_SIZE;
+
+/**
+ * 소셜 알림 outbox relay
+ * 주기적으로 전송되지 않은 알림을 읽어 받는 사람별로 하나의 메시지로 합친 뒤 FCM sendAll 로 배치 전송한다.
+ * 같은 게시물에 대한 같은 종류의 알림은 "{닉네임}님 외 N명이 ..." 으로 합친다.
+ * 1. 짧은 트랜잭션에서 알림을 SKIP LOCKED 로 잠그고 CLAIM_DURATION 동안 이 서버의 것으로 claim 한 뒤 바로 커밋한다.
+ * 2. FCM 전송은 트랜잭션과 DB 잠금 없이 한다.
+ * 3. 다시 짧은 트랜잭션에서 아직 claim 하고 있는 알림만 알림함(NotificationInboxService)에 저장하고 published 로 표시한다.
+ * 전송 도중 서버가 죽으면 claim 이 만료된 뒤 다른 서버가 다시 보낸다(at-least-once).
+ * 전송을 마친 알림은 RETENTION 이 지나면 매일 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    public static final String SOCIAL_ALARM_TITLE = "[DaItGym 알림]";
+
+    private static final int RELAY_SIZE = 1000;
+
+    private static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final String workerId = UUID.randomUUID().toString();
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmMessagingClient fcmMessagingClient;
+    private final NotificationInboxService notificationInboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 5_000)
+    public void relay() {
+        List<NotificationOutbox> events = claim();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<NotificationOutbox>> eventsByRecipient = events.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getRecipientEmail, LinkedHashMap::new, Collectors.toList()));
+
+        List<NotificationRequestDto> notifications = new ArrayList<>();
+        for (FcmToken fcmToken : fcmTokenRepository.findAllByUserEmailIn(eventsByRecipient.keySet())) {
+            notifications.add(NotificationRequestDto.builder()
+                    .title(SOCIAL_ALARM_TITLE)
+                    .message(coalesce(eventsByRecipient.get(fcmToken.getUser().getEmail())))
+                    .token(fcmToken.getToken())
+                    .build());
+        }
+
+        send(notifications);
+        publish(events.stream().map(NotificationOutbox::getId).toList());
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 알림을 지운다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgePublished() {
+        purgePublishedBefore(LocalDateTime.now().minus(RETENTION));
+    }
+
+    /**
+     * before 이전에 만들어진 전송 완료 알림을 RELAY_SIZE 개씩 id 로 지운다.
+     */
+    int purgePublishedBefore(LocalDateTime before) {
+        int deleted = 0;
+        List<Long> ids = notificationOutboxRepository.findPublishedIdsBefore(before, PageRequest.of(0, RELAY_SIZE));
+
+        while (!ids.isEmpty()) {
+            notificationOutboxRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            ids = notificationOutboxRepository.findPublishedIdsBefore(before, PageRequest.of(0, RELAY_SIZE));
+        }
+
+        log.info("전송 완료 소셜 알림 삭제 before={}, deleted={}", before, deleted);
+        return deleted;
+    }
+
+    private List<NotificationOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+
+        return transactionTemplate.execute(status -> {
+            List<NotificationOutbox> events = notificationOutboxRepository.findClaimableForUpdate(now, PageRequest.of(0, RELAY_SIZE));
+            if (!events.isEmpty()) {
+                notificationOutboxRepository.claim(
+                        events.stream().map(NotificationOutbox::getId).toList(), workerId, now.plus(CLAIM_DURATION)
+                );
+            }
+            return events;
+        });
+    }
+
+    private void publish(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<NotificationOutbox> claimed = notificationOutboxRepository.findClaimedForUpdate(ids, workerId);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            notificationInboxService.deliver(claimed);
+            notificationOutboxRepository.markPublished(claimed.stream().map(NotificationOutbox::getId).toList());
+        });
+    }
+
+    /**
+     * 한 사람이 받을 알림들을 하나의 메시지로 합친다.
+     * 가장 최근 알림과 같은 게시물, 같은 종류의 알림은 보낸 사람 수로 합치고, 나머지는 "외 N건" 으로 덧붙인다.
+     */
+    String coalesce(List<NotificationOutbox> events) {
+        NotificationOutbox latest = events.get(events.size() - 1);
+
+        Set<String> actors = new LinkedHashSet<>();
+        int others = 0;
+        for (NotificationOutbox event : events) {
+            if (isSameGroup(latest, event)) {
+                actors.add(event.getActorNickname());
+            } else {
+                others++;
+            }
+        }
+
+        String message = message(latest.getActorNickname(), actors.size() - 1, latest.getType());
+        if (others > 0) {
+            message += " 외 새 알림 " + others + "건이 있습니다.";
+        }
+        return message;
+    }
+
+    private boolean isSameGroup(NotificationOutbox latest, NotificationOutbox event) {
+        return latest.getType() == event.getType() && Objects.equals(latest.getTargetId(), event.getTargetId());
+    }
+
+    private String message(String actorNickname, int otherActors, NotificationType type) {
+        if (otherActors == 0) {
+            return actorNickname + "님이 " + type.getAction();
+        }
+        return actorNickname + "님 외 " + otherActors + "명이 " + type.getAction();
+    }
+
+    private void send(List<NotificationRequestDto> notifications) {
+        long sent = 0;
+        long failed = 0;
+
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            List<NotificationRequestDto> batch = notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size()));
+            try {
+                List<FcmSendResult> results = fcmMessagingClient.sendAll(batch);
+                long batchFailed = results.stream().filter(result -> !result.isSuccessful()).count();
+                sent += results.size() - batchFailed;
+                failed += batchFailed;
+            } catch (RuntimeException e) {
+                failed += batch.size();
+                log.error("소셜 알림 배치 전송 실패 : " + e.getMessage());
+            }
+        }
+        log.info("소셜 알림 전송 sent={}, failed={}", sent, failed);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.repository.NotificationOutboxRepository;
+import com.ogjg.daitgym.domain.NotificationOutbox;
+import com.ogjg.daitgym.domain.NotificationType;
+import com.ogjg.daitgym.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 소셜 알림 기록하기
+ * 알림을 일으킨 작업(좋아요, 댓글, 팔로우 등)과 같은 트랜잭션에서 outbox 에 저장만 하고, 전송은 NotificationOutboxRelay 가 한다.
+ * 작업이 롤백되면 알림도 함께 사라지고, 요청 스레드는 FCM 을 기다리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    /**
+     * 자기 자신의 게시물에 대한 활동은 알리지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User recipient, User actor, NotificationType type, Long targetId) {
+        if (recipient.getEmail().equals(actor.getEmail())) {
+            return;
+        }
+        notificationOutboxRepository.save(new NotificationOutbox(recipient, actor, type, targetId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.NotificationScheduleRequestDto;
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.common.exception.fcmtoken.InvalidZoneId;
+import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationScheduleService {
+
+    private final NotificationScheduleRepository notificationScheduleRepository;
+
+    /**
+     * 운동 알림 받을 시각과 시간대 설정하기
+     * 값을 보내지 않으면 기본값(한국 시간 8시)을 사용한다.
+     */
+    @Transactional
+    public void updateSchedule(NotificationScheduleRequestDto requestDto, OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        String email = oAuth2JwtUserDetails.getEmail();
+        LocalTime sendTime = requestDto.getSendTime() == null
+                ? NotificationSchedule.DEFAULT_SEND_TIME : requestDto.getSendTime();
+        ZoneId zoneId = toZoneId(requestDto.getZoneId());
+
+        notificationScheduleRepository.findById(email)
+                .ifPresentOrElse(
+                        schedule -> schedule.change(sendTime, zoneId),
+                        () -> notificationScheduleRepository.save(new NotificationSchedule(email, sendTime, zoneId))
+                );
+    }
+
+    private ZoneId toZoneId(String zoneId) {
+        if (zoneId == null) {
+            return NotificationSchedule.DEFAULT_ZONE;
+        }
+
+        try {
+            return ZoneId.of(zoneId);
+        } catch (DateTimeException e) {
+            throw new InvalidZoneId();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.common.lock.RedisJobLock;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * 일광 절약 시간 전환에 맞춰 운동 알림 슬롯 다시 계산
+ * slotMinute 는 저장한 날의 UTC offset 으로 계산되므로, offset 이 바뀌는 시간대의 사용자는 그대로 두면 한 시간 어긋난 슬롯으로 알림을 받는다.
+ * 30분마다 offset 이 고정되지 않은 시간대의 (시간대, 전송 시각) 별로 오늘의 슬롯을 계산하여 바뀐 사용자만 갱신한다.
+ * 30분 단위 offset 을 쓰는 시간대도 전환 직후에 갱신되도록 매시 1분, 31분에 실행하고, RedisJobLock 을 잡은 서버에서만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationScheduleSlotRefresher {
+
+    private static final String JOB_NAME = "notification-schedule-slot-refresh";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final NotificationScheduleRepository notificationScheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisJobLock redisJobLock;
+
+    @Scheduled(cron = "0 1,31 * * * *")
+    public void refreshScheduled() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::refresh);
+    }
+
+    void refresh() {
+        int refreshed = 0;
+
+        for (String zoneId : notificationScheduleRepository.findDistinctZoneIds()) {
+            Optional<ZoneId> zone = variableOffsetZone(zoneId);
+            if (zone.isEmpty()) {
+                continue;
+            }
+
+            LocalDate today = LocalDate.now(zone.get());
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (LocalTime sendTime : notificationScheduleRepository.findDistinctSendTimesByZoneId(zoneId)) {
+                    int slotMinute = NotificationSchedule.toSlotMinute(sendTime, zone.get(), today);
+                    count += notificationScheduleRepository.updateSlotMinute(zoneId, sendTime, slotMinute);
+                }
+                return count;
+            });
+            refreshed += updated == null ? 0 : updated;
+        }
+
+        if (refreshed > 0) {
+            log.info("운동 알림 슬롯 다시 계산 완료 schedules={}", refreshed);
+        }
+    }
+
+    /**
+     * offset 이 고정된 시간대와 알 수 없는 시간대는 다시 계산하지 않는다.
+     */
+    private Optional<ZoneId> variableOffsetZone(String zoneId) {
+        if (zoneId == null) {
+            return Optional.empty();
+        }
+
+        try {
+            ZoneId zone = ZoneId.of(zoneId);
+            return zone.getRules().isFixedOffset() ? Optional.empty() : Optional.of(zone);
+        } catch (DateTimeException e) {
+            log.warn("알 수 없는 알림 시간대입니다. zoneId={}", zoneId);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,70 +1,215 @@
 package com.ogjg.daitgym.alarm.service;
 
-import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
-import com.ogjg.daitgym.alarm.repository.FcmTokenRepository;
-import com.ogjg.daitgym.domain.FcmToken;
-import com.ogjg.daitgym.domain.User;
-import com.ogjg.daitgym.domain.journal.ExerciseJournal;
-import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.ogjg.daitgym.alarm.dto.FcmDispatchReport;
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.alarm.repository.ReminderSlotCheckpointRepository;
+import com.ogjg.daitgym.alarm.repository.ReminderSlotJobRepository;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import com.ogjg.daitgym.domain.ReminderSlotCheckpoint;
+import com.ogjg.daitgym.domain.ReminderSlotJob;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.ExecutionException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.ogjg.daitgym.domain.ReminderSlotCheckpoint.REMINDER;
+import static com.ogjg.daitgym.domain.ReminderSlotStatus.DONE;
+import static com.ogjg.daitgym.domain.ReminderSlotStatus.PENDING;
+
+/**
+ * 운동 알림 슬롯 worker
+ * 매 분 마지막으로 등록한 슬롯(checkpoint) 다음 분부터 현재 분까지, 알림을 받을 사용자가 있는 슬롯 작업을 큐(reminder_slot_job)에 등록하고,
+ * 대기 중인 슬롯 작업을 lease 로 차지한 서버만 전송한다. 여러 서버가 떠 있어도 같은 슬롯은 한 서버만 보낸다.
+ * 전송은 스케줄러 스레드가 아닌 dispatchExecutor 에서 하고, 배치를 보낼 때마다 lease 를 연장한다.
+ * 전송 도중 서버가 죽으면 lease 가 만료된 뒤 다른 서버가 슬롯을 다시 가져간다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduledService {
 
-    private final FcmAlarmService notificationService;
-    private final FcmTokenRepository fcmTokenRepository;
-    private final ExerciseJournalRepository exerciseJournalRepository;
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+
+    /**
+     * 서버가 잠시 멈춰 있던 경우에도 놓친 슬롯을 보낼 수 있도록 이 시간 이내의 슬롯까지 등록하고 처리한다.
+     */
+    private static final Duration CATCH_UP_WINDOW = Duration.ofHours(1);
+
+    static final int DISPATCH_THREADS = 2;
+
+    private final String workerId = UUID.randomUUID().toString();
 
+    private final ExecutorService dispatchExecutor = Executors.newFixedThreadPool(
+            DISPATCH_THREADS, new CustomizableThreadFactory("reminder-dispatch-")
+    );
 
     /**
-     * 8시에 알림 메세지 보내기
+     * 이 서버에서 전송 대기 중이거나 전송 중인 슬롯 작업. 같은 작업을 매 분 다시 넘기지 않는다.
      */
-    @Scheduled(cron = "0 0 8 * * ?")
-    public void scheduledSend() throws ExecutionException, InterruptedException {
+    private final Set<Long> inFlightJobIds = ConcurrentHashMap.newKeySet();
 
-        List<FcmToken> fcmTokens = fcmTokenRepository.findAll();
+    private final FcmDispatchService fcmDispatchService;
+    private final FcmSendExecutor fcmSendExecutor;
+    private final NotificationScheduleRepository notificationScheduleRepository;
+    private final ReminderSlotJobRepository reminderSlotJobRepository;
+    private final ReminderSlotCheckpointRepository reminderSlotCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
 
-        if (fcmTokens.isEmpty()) {
-            log.info("FCM 토큰이 비어있어, 알림전송 실패");
+    @Scheduled(cron = "0 * * * * *")
+    public void scheduledSend() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+
+        enqueue(now);
+        for (ReminderSlotJob job : findDueJobs(now)) {
+            submit(job);
+        }
+    }
+
+    /**
+     * 슬롯 전송 스레드를 먼저 멈춘 뒤, 슬롯들이 함께 쓰는 FCM 배치 전송 스레드 풀을 종료한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+        fcmSendExecutor.shutdown();
+    }
+
+    /**
+     * checkpoint 다음 분부터 now 까지 알림을 받을 사용자가 있는 슬롯 작업을 등록한다.
+     * checkpoint 를 조건부 update 로 옮긴 서버만 같은 트랜잭션에서 작업을 등록하므로, 같은 분을 두 서버가 등록하지 않는다.
+     * 모든 서버가 멈춰 있어 지나간 분도 CATCH_UP_WINDOW 이내라면 다음 실행에서 등록된다.
+     */
+    void enqueue(LocalDateTime now) {
+        Optional<LocalDateTime> checkpoint = findOrCreateCheckpoint(now);
+        if (checkpoint.isEmpty() || !checkpoint.get().isBefore(now)) {
             return;
         }
 
-        for (FcmToken fcmToken : fcmTokens) {
-            User user = fcmToken.getUser();
-            Optional<ExerciseJournal> optionalExerciseJournal = exerciseJournalRepository.findByUserAndJournalDate(user, LocalDate.now());
+        LocalDateTime lastEnqueuedAt = checkpoint.get();
+        LocalDateTime catchUpFrom = now.minus(CATCH_UP_WINDOW);
+        LocalDateTime from = lastEnqueuedAt.isBefore(catchUpFrom) ? catchUpFrom : lastEnqueuedAt.plusMinutes(1);
 
-            if (optionalExerciseJournal.isPresent()) {
-                ExerciseJournal exerciseJournal = optionalExerciseJournal.get();
-                String message = notificationService.alarmMessage(exerciseJournal);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (reminderSlotCheckpointRepository.advance(REMINDER, lastEnqueuedAt, now) == 0) {
+                return;
+            }
+            reminderSlotJobRepository.saveAll(createPendingJobs(from, now));
+        });
+    }
 
-                NotificationRequestDto notificationRequestDto = NotificationRequestDto.builder()
-                        .title("[DaItGym 운동 알림]")
-                        .message(message)
-                        .token(fcmToken.getToken())
-                        .build();
+    /**
+     * checkpoint 가 없다면 직전 분까지 등록한 것으로 만든다. 다른 서버가 먼저 만들었다면 다음 실행에서 등록한다.
+     */
+    private Optional<LocalDateTime> findOrCreateCheckpoint(LocalDateTime now) {
+        Optional<ReminderSlotCheckpoint> checkpoint = reminderSlotCheckpointRepository.findById(REMINDER);
+        if (checkpoint.isPresent()) {
+            return checkpoint.map(ReminderSlotCheckpoint::getLastEnqueuedAt);
+        }
 
-                notificationService.sendNotification(notificationRequestDto);
+        try {
+            return Optional.of(reminderSlotCheckpointRepository.save(new ReminderSlotCheckpoint(REMINDER, now.minusMinutes(1)))
+                    .getLastEnqueuedAt());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 생성된 알림 슬롯 checkpoint 입니다.");
+            return Optional.empty();
+        }
+    }
 
-            } else {
-                NotificationRequestDto notificationRequestDto = NotificationRequestDto.builder()
-                        .title("[DaItGym 운동 알림]")
-                        .message("오늘 운동일지가 비어있어요!")
-                        .token(fcmToken.getToken())
-                        .build();
+    /**
+     * from 부터 to 까지의 분 중 알림을 받을 사용자가 있고 아직 등록되지 않은 슬롯 작업을 만든다.
+     * 사용자가 있는 슬롯과 등록된 슬롯은 각각 한 번의 쿼리로 조회한다.
+     */
+    private List<ReminderSlotJob> createPendingJobs(LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> minutes = new ArrayList<>();
+        for (LocalDateTime minute = from; !minute.isAfter(to); minute = minute.plusMinutes(1)) {
+            minutes.add(minute);
+        }
+
+        Set<Integer> activeSlotMinutes = new HashSet<>(notificationScheduleRepository.findSlotMinutesIn(
+                minutes.stream().map(ReminderSlotJob::slotMinuteOf).toList()
+        ));
+        activeSlotMinutes.add(NotificationSchedule.DEFAULT_SLOT_MINUTE);
+        Set<LocalDateTime> enqueued = new HashSet<>(reminderSlotJobRepository.findScheduledAtsBetween(from, to));
+
+        return minutes.stream()
+                .filter(minute -> activeSlotMinutes.contains(ReminderSlotJob.slotMinuteOf(minute)))
+                .filter(minute -> !enqueued.contains(minute))
+                .map(ReminderSlotJob::pending)
+                .toList();
+    }
+
+    private List<ReminderSlotJob> findDueJobs(LocalDateTime now) {
+        return reminderSlotJobRepository.findAllByStatusAndScheduledAtBetweenOrderByScheduledAtAsc(
+                PENDING, now.minus(CATCH_UP_WINDOW), now
+        );
+    }
+
+    private void submit(ReminderSlotJob job) {
+        if (!inFlightJobIds.add(job.getId())) {
+            return;
+        }
 
-                notificationService.sendNotification(notificationRequestDto);
+        try {
+            dispatchExecutor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    inFlightJobIds.remove(job.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightJobIds.remove(job.getId());
+        }
+    }
+
+    /**
+     * 전송 직전에 lease 를 차지하여, 전송 대기 중에 lease 시간이 흘러가지 않도록 한다.
+     * lease 연장에 실패했다면 남은 배치는 보내지 않고, 작업도 완료 처리하지 않는다.
+     */
+    private void process(ReminderSlotJob job) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        int claimed = reminderSlotJobRepository.claim(job.getId(), workerId, now.plus(LEASE_DURATION), now, PENDING);
+        if (claimed == 0) {
+            return;
+        }
+
+        AtomicBoolean leaseLost = new AtomicBoolean();
+        try {
+            FcmDispatchReport report = fcmDispatchService.dispatchSlot(
+                    job.getSlotMinute(), job.getScheduledAt(), () -> renewLease(job, leaseLost)
+            );
+            if (leaseLost.get()) {
+                log.warn("운동 알림 슬롯 lease 를 잃어 전송을 중단했습니다. scheduledAt={}, worker={}", job.getScheduledAt(), workerId);
+                return;
             }
+            reminderSlotJobRepository.complete(job.getId(), workerId, DONE);
+            log.info("운동 알림 슬롯 전송 완료 scheduledAt={}, worker={}, {}", job.getScheduledAt(), workerId, report);
+        } catch (RuntimeException e) {
+            log.error("운동 알림 슬롯 전송 실패 scheduledAt={} : {}", job.getScheduledAt(), e.getMessage());
+        }
+    }
+
+    private boolean renewLease(ReminderSlotJob job, AtomicBoolean leaseLost) {
+        LocalDateTime leaseUntil = LocalDateTime.now(ZoneOffset.UTC).plus(LEASE_DURATION);
+        boolean renewed = reminderSlotJobRepository.renewLease(job.getId(), workerId, leaseUntil, PENDING) == 1;
+        if (!renewed) {
+            leaseLost.set(true);
         }
-        log.info("웹푸시 보냈어!");
+        return renewed;
     }
 }
@@ -1,9 +1,22 @@
 package com.ogjg.daitgym.approval.repository;
 
 import com.ogjg.daitgym.domain.Approval;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ApprovalRepository extends JpaRepository<Approval, Long> {
-}
+import java.util.List;
 
+public interface ApprovalRepository extends JpaRepository<Approval, Long> {
 
+    /**
+     * 사용자가 요청한 수상 경력, 자격증 심사의 id 를 최신순(created_at, id)으로 조회한다.
+     * UserCounterReconciler 와 같은 순서로 가장 최근 심사를 정한다.
+     */
+    @Query("SELECT a.id FROM Approval a WHERE " +
+            "EXISTS (SELECT 1 FROM Award aw WHERE aw.approval = a AND aw.user.email = :email) OR " +
+            "EXISTS (SELECT 1 FROM Certification c WHERE c.approval = a AND c.user.email = :email) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Long> findIdsByApplicantEmailLatestFirst(@Param("email") String email, Pageable pageable);
+}
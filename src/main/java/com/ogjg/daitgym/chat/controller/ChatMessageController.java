@@ -1,14 +1,13 @@
 package com.ogjg.daitgym.chat.controller;
 
 import com.ogjg.daitgym.chat.dto.ChatMessageDto;
-import com.ogjg.daitgym.chat.pubsub.RedisPublisher;
+import com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher;
 import com.ogjg.daitgym.chat.service.ChatMessageService;
-import com.ogjg.daitgym.chat.service.ChatRoomService;
+import com.ogjg.daitgym.config.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -19,28 +18,26 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class ChatMessageController {
 
-    private final RedisPublisher redisPublisher;
-    private final ChatRoomService chatRoomService;
+    private final ChatMessagePublisher chatMessagePublisher;
     private final ChatMessageService messageService;
 
 
     /**
      * websocket "/pub/chat/message/" 로 들어오는 메시지를 처리한다.
-     * convertAndSend : Websocket 에 발행된 메시지를 redis 로 발행(publish)
+     * publish : chat.broker.mode 에 따라 redis 또는 외부 STOMP 브로커로 발행(publish)
+     * principal : CONNECT 시 StompHandler 가 세션에 저장한 인증 정보
      */
     @MessageMapping("/message")
-    public void message(ChatMessageDto chatMessageDto, @Header("Authentication") String token) {
-
-        chatRoomService.enterChatRoom(chatMessageDto.getRedisRoomId());
+    public void message(ChatMessageDto chatMessageDto, SimpMessageHeaderAccessor headerAccessor) {
+        StompPrincipal principal = StompPrincipal.from(headerAccessor.getSessionAttributes());
 
         chatMessageDto.setMessageCreatedAt(LocalDateTime.now());
         ChatMessageDto savedChatMessageDto = chatMessageDto;
         log.info("채팅 메시지");
 
-        ChannelTopic topic = chatRoomService.getTopic(chatMessageDto.getRedisRoomId());
         if (!Objects.equals(chatMessageDto.getMessageType(), "ENTER")) {
-            savedChatMessageDto = messageService.save(chatMessageDto, token);
+            savedChatMessageDto = messageService.save(chatMessageDto, principal);
         }
-        redisPublisher.publish(topic, savedChatMessageDto);
+        chatMessagePublisher.publish(chatMessageDto.getRedisRoomId(), savedChatMessageDto);
     }
 }
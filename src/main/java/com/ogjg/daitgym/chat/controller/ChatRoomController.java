@@ -1,9 +1,11 @@
 package com.ogjg.daitgym.chat.controller;
 
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
 import com.ogjg.daitgym.chat.dto.CreateChatRoomRequest;
 import com.ogjg.daitgym.chat.dto.ChatRoomsResponse;
 import com.ogjg.daitgym.chat.dto.ChatRoomResponse;
 import com.ogjg.daitgym.chat.dto.SelectedChatRoomResponse;
+import com.ogjg.daitgym.chat.service.ChatMessageService;
 import com.ogjg.daitgym.chat.service.ChatRoomService;
 import com.ogjg.daitgym.common.exception.ErrorCode;
 import com.ogjg.daitgym.common.response.ApiResponse;
@@ -23,6 +25,7 @@ public class ChatRoomController {
 
 
     private final ChatRoomService chatService;
+    private final ChatMessageService chatMessageService;
 
     /**
      * 채팅방 생성
@@ -52,4 +55,14 @@ public class ChatRoomController {
 
     }
 
+    /**
+     * 선택된 채팅방의 이전 메시지 조회
+     * cursor : 현재 가지고 있는 가장 오래된 메시지의 id
+     */
+    @GetMapping("/rooms/{redisRoomId}/messages")
+    public ApiResponse<List<ChatMessageDto>> findPreviousMessages(@PathVariable String redisRoomId,
+                                                                  @RequestParam Long cursor) {
+        return new ApiResponse<>(ErrorCode.SUCCESS, chatMessageService.loadPreviousMessages(redisRoomId, cursor));
+    }
+
 }
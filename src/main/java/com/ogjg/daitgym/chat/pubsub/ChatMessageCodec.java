@@ -0,0 +1,79 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.time.ZoneId;
+
+/**
+ * ChatMessageDto 전용 직렬화기
+ * 미리 만들어 둔 ObjectReader / ObjectWriter 를 재사용하며(thread-safe), null 필드는 생략한 compact JSON 으로 직렬화한다.
+ * Redis 메시지 캐시, Redis pub/sub 발행과 구독, WebSocket 전송에서 모두 이 직렬화기를 사용한다.
+ * WebSocket 으로는 직렬화된 JSON 을 그대로 전달하여 MessageConverter 가 다시 직렬화하지 않도록 한다.
+ */
+@Component
+public class ChatMessageCodec implements RedisSerializer<ChatMessageDto> {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public ChatMessageCodec(ObjectMapper objectMapper) {
+        ObjectMapper compactMapper = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.reader = compactMapper.readerFor(ChatMessageDto.class);
+        this.writer = compactMapper.writerFor(ChatMessageDto.class);
+    }
+
+    @Override
+    public byte[] serialize(ChatMessageDto chatMessageDto) throws SerializationException {
+        if (chatMessageDto == null) {
+            return new byte[0];
+        }
+        try {
+            return writer.writeValueAsBytes(chatMessageDto);
+        } catch (IOException e) {
+            throw new SerializationException("채팅 메시지를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public ChatMessageDto deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("채팅 메시지를 역직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 직렬화된 채팅 메시지를 WebSocket 구독자에게 보낼 Message 로 감싼다.
+     * sent-at : 메시지 생성 시각(messageCreatedAt, epoch millis). simple / relay 모드 모두 같은 값을 헤더로 전달하여 전달 지연시간을 측정한다.
+     */
+    public Message<byte[]> toStompMessage(byte[] payload, ChatMessageDto chatMessageDto) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create();
+        headerAccessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (chatMessageDto.getMessageCreatedAt() != null) {
+            headerAccessor.setNativeHeader(ChatMessagePublisher.SENT_AT_HEADER, String.valueOf(sentAt(chatMessageDto)));
+        }
+        headerAccessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+    }
+
+    private long sentAt(ChatMessageDto chatMessageDto) {
+        return chatMessageDto.getMessageCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
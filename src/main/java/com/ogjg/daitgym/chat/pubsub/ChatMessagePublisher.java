@@ -0,0 +1,19 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+
+/**
+ * 채팅 메시지를 모든 서버의 구독자에게 전달하는 발행기
+ * chat.broker.mode 설정에 따라 Redis pub/sub 브릿지(simple) 또는 외부 STOMP 브로커 relay(relay) 구현이 등록된다.
+ */
+public interface ChatMessagePublisher {
+
+    String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+    /**
+     * 메시지 생성 시각(epoch millis). 구독자에게 전달되기까지의 지연시간 측정에 사용한다.
+     */
+    String SENT_AT_HEADER = "sent-at";
+
+    void publish(String redisRoomId, ChatMessageDto chatMessageDto);
+}
@@ -1,22 +1,29 @@
 package com.ogjg.daitgym.chat.pubsub;
 
 import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.service.ChatRoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class RedisPublisher {
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class RedisPublisher implements ChatMessagePublisher {
 
+    private final ChatRoomService chatRoomService;
     private final RedisTemplate<String, ChatMessageDto> redisTemplate;
 
     /**
      * 메시지를 redis 서버로 발행
+     * 각 서버의 RedisSubscriber 가 메시지를 받아 자신의 SimpleBroker 구독자에게 전달한다.
      */
-
-    public void publish(ChannelTopic topic, ChatMessageDto chatMessageDto) {
+    @Override
+    public void publish(String redisRoomId, ChatMessageDto chatMessageDto) {
+        chatRoomService.enterChatRoom(redisRoomId);
+        ChannelTopic topic = chatRoomService.getTopic(redisRoomId);
         redisTemplate.convertAndSend(topic.getTopic(), chatMessageDto);
     }
-}
\ No newline at end of file
+}
@@ -1,42 +1,40 @@
 package com.ogjg.daitgym.chat.pubsub;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ogjg.daitgym.chat.dto.ChatMessageDto;
-import com.ogjg.daitgym.chat.repository.ChatMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
+import static com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher.ROOM_DESTINATION_PREFIX;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate redisTemplate;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageCodec chatMessageCodec;
     private final SimpMessageSendingOperations messagingTemplate;
-    private final RedisTemplate<String, ChatMessageDto> redisTemplateMessage;
 
 
     /**
      * Redis에서 메시지가 발행(publish)되면 대기하고 있던 onMessage가 해당 메시지를 받아 처리한다.
-     * publishMessage : redis에서 발행된 데이터를 받아 deserialize
-     * roomMessage :  ChatMessage 객채로 맵핑
-     * messagingTemplate.convertAndSend : Websocket 구독자에게 채팅 메시지 Send
+     * chatMessageCodec.deserialize : redis에서 발행된 데이터를 ChatMessageDto 로 한 번만 역직렬화
+     * messagingTemplate.send : 발행된 JSON 을 다시 직렬화하지 않고 그대로 Websocket 구독자에게 Send
+     * sent-at : 메시지 생성 시각을 헤더로 전달하여 전달 지연시간을 측정한다.
      */
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String publishMessage = (String) redisTemplate.getStringSerializer().deserialize(message.getBody());
-            ChatMessageDto chatMessageDto = objectMapper.readValue(publishMessage, ChatMessageDto.class);
-            messagingTemplate.convertAndSend("/sub/chat/room/" + chatMessageDto.getRedisRoomId(), chatMessageDto);
+            ChatMessageDto chatMessageDto = chatMessageCodec.deserialize(message.getBody());
+            messagingTemplate.send(
+                    ROOM_DESTINATION_PREFIX + chatMessageDto.getRedisRoomId(),
+                    chatMessageCodec.toStompMessage(message.getBody(), chatMessageDto)
+            );
 
         } catch (Exception e) {
             log.error(e.getMessage());
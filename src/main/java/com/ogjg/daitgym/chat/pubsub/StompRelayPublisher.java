@@ -0,0 +1,29 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "relay")
+public class StompRelayPublisher implements ChatMessagePublisher {
+
+    private final ChatMessageCodec chatMessageCodec;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    /**
+     * 외부 STOMP 브로커로 메시지를 바로 보낸다.
+     * 브로커가 모든 서버의 구독자에게 메시지를 전달하므로 Redis pub/sub 브릿지를 거치지 않는다.
+     */
+    @Override
+    public void publish(String redisRoomId, ChatMessageDto chatMessageDto) {
+        byte[] payload = chatMessageCodec.serialize(chatMessageDto);
+        messagingTemplate.send(
+                ROOM_DESTINATION_PREFIX + redisRoomId,
+                chatMessageCodec.toStompMessage(payload, chatMessageDto)
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.ogjg.daitgym.chat.repository;
+
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.pubsub.ChatMessageCodec;
+import com.ogjg.daitgym.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ * Redis list 에 채팅방의 최근 HOT_MESSAGE_SIZE 개 메시지만 LTRIM 으로 유지한다.
+ * list 는 DB 에서 첫 페이지를 채울 때만 생성되고, 이후 메시지는 list 가 존재할 때만(RPUSHX) 추가되므로
+ * list 가 존재하면 항상 해당 채팅방의 최신 메시지 첫 페이지 전체를 담고 있다.
+ * versionKey : 메시지 추가와 캐시 삭제마다 증가하는 값. DB 를 읽는 동안 버전이 바뀌었다면 채우지 않아, 그 사이 추가된 메시지가 빠진 list 가 생기지 않는다.
+ * 메시지 추가와 캐시 삭제는 트랜잭션 커밋 이후에 반영하고, 커밋과 추가 사이에 채워진 경우 생길 수 있는 중복 메시지는 조회 시 제거한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageCacheRepository {
+
+    public static final int HOT_MESSAGE_SIZE = 50;
+
+    private static final long CACHE_TTL_SECONDS = 60 * 60;
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String NO_VERSION = "0";
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+                    "local size = redis.call('RPUSHX', KEYS[1], ARGV[1]) " +
+                    "if size > tonumber(ARGV[3]) then redis.call('LTRIM', KEYS[1], -tonumber(ARGV[3]), -1) end " +
+                    "return size",
+            Long.class
+    );
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+                    "if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class
+    );
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+                    "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, ChatMessageDto> redisTemplateMessage;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageCodec chatMessageCodec;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 존재하는 채팅방에만 메시지를 추가하고 최근 HOT_MESSAGE_SIZE 개만 남긴다.
+     */
+    public void appendAfterCommit(ChatMessageDto chatMessageDto) {
+        String redisRoomId = chatMessageDto.getRedisRoomId();
+        byte[] message = chatMessageCodec.serialize(chatMessageDto);
+
+        AfterCommit.run(() -> execute(
+                APPEND_SCRIPT, redisRoomId,
+                message, bytes(CACHE_TTL_SECONDS), bytes(HOT_MESSAGE_SIZE)
+        ));
+    }
+
+    /**
+     * 최신 메시지 첫 페이지를 조회한다. 캐시가 없다면 empty 를 반환한다.
+     */
+    public Optional<List<ChatMessageDto>> findLatestPage(String redisRoomId) {
+        List<ChatMessageDto> messages = redisTemplateMessage.opsForList().range(redisRoomId, 0, -1);
+
+        if (messages == null || messages.isEmpty()) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(distinct(messages));
+    }
+
+    public Optional<ChatMessageDto> findLatest(String redisRoomId) {
+        return Optional.ofNullable(redisTemplateMessage.opsForList().index(redisRoomId, -1));
+    }
+
+    /**
+     * DB 에서 최신 메시지 첫 페이지를 읽어 캐시를 채우고, 읽은 페이지를 반환한다.
+     * 읽기 전의 버전을 함께 넘겨, 캐시가 없고 그 사이 메시지 추가나 캐시 삭제가 없었을 때만 하나의 스크립트로 채운다.
+     */
+    public List<ChatMessageDto> fill(String redisRoomId, Supplier<List<ChatMessageDto>> latestPageLoader) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(redisRoomId));
+        List<ChatMessageDto> latestPage = latestPageLoader.get();
+        if (latestPage.isEmpty()) {
+            return latestPage;
+        }
+
+        List<byte[]> args = new ArrayList<>(latestPage.size() + 2);
+        args.add(bytes(version == null ? NO_VERSION : version));
+        args.add(bytes(CACHE_TTL_SECONDS));
+        latestPage.forEach(chatMessageDto -> args.add(chatMessageCodec.serialize(chatMessageDto)));
+
+        execute(FILL_SCRIPT, redisRoomId, args.toArray());
+        return latestPage;
+    }
+
+    /**
+     * 캐시된 메시지의 readCount 가 DB 와 달라진 경우, 트랜잭션이 커밋된 뒤 캐시를 비운다.
+     */
+    public void evictAfterCommit(String redisRoomId) {
+        AfterCommit.run(() -> execute(EVICT_SCRIPT, redisRoomId, bytes(CACHE_TTL_SECONDS)));
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void logHitRate() {
+        log.info("채팅 메시지 캐시 hit={}, miss={}, hitRate={}", hitCount.get(), missCount.get(), getHitRate());
+    }
+
+    /**
+     * 직렬화된 메시지를 그대로 넘기도록 인자는 모두 byte[] 로 전달한다.
+     */
+    private void execute(RedisScript<Long> script, String redisRoomId, Object... args) {
+        stringRedisTemplate.execute(
+                script, RedisSerializer.byteArray(), LONG_RESULT_SERIALIZER,
+                List.of(redisRoomId, versionKey(redisRoomId)), args
+        );
+    }
+
+    private List<ChatMessageDto> distinct(List<ChatMessageDto> messages) {
+        Set<Long> chatMessageIds = new HashSet<>();
+        return messages.stream()
+                .filter(message -> message.getChatMessageId() == null || chatMessageIds.add(message.getChatMessageId()))
+                .toList();
+    }
+
+    private byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String versionKey(String redisRoomId) {
+        return redisRoomId + VERSION_KEY_SUFFIX;
+    }
+}
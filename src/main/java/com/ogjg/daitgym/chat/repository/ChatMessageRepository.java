@@ -2,6 +2,7 @@ package com.ogjg.daitgym.chat.repository;
 
 import com.ogjg.daitgym.domain.ChatMessage;
 import com.ogjg.daitgym.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,5 +13,9 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     List<ChatMessage> findAllByRedisRoomIdOrderByMessageCreatedAtAsc(String roomId);
 
+    List<ChatMessage> findByRedisRoomIdOrderByIdDesc(String roomId, Pageable pageable);
+
+    List<ChatMessage> findByRedisRoomIdAndIdLessThanOrderByIdDesc(String roomId, Long cursor, Pageable pageable);
+
     List<ChatMessage> findAllByRedisRoomIdAndReadCountAndUserNot(String redisRoomId, int i, User user);
 }
@@ -17,4 +17,8 @@ public interface UsersChattingRoomRepository extends JpaRepository<UsersChatting
     List<UsersChattingRoom> findAllByUser(User user);
 
     UsersChattingRoom findByChatRoomAndUserNot(ChatRoom chatRoom, User user);
+
+    @Query("select u.usersChattingRoomPk.email from UsersChattingRoom u " +
+            "where u.chatRoom = :chatRoom and u.usersChattingRoomPk.email <> :email")
+    List<String> findOtherMemberEmails(@Param("chatRoom") ChatRoom chatRoom, @Param("email") String email);
 }
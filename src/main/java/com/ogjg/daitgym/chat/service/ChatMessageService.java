@@ -1,55 +1,59 @@
 package com.ogjg.daitgym.chat.service;
 
 import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.repository.ChatMessageCacheRepository;
 import com.ogjg.daitgym.chat.repository.ChatMessageRepository;
 import com.ogjg.daitgym.chat.repository.ChatRoomRepository;
-import com.ogjg.daitgym.common.exception.user.NotFoundUser;
-import com.ogjg.daitgym.config.security.jwt.util.JwtUtils;
+import com.ogjg.daitgym.chat.repository.UsersChattingRoomRepository;
+import com.ogjg.daitgym.config.websocket.StompPrincipal;
 import com.ogjg.daitgym.domain.ChatMessage;
 import com.ogjg.daitgym.domain.ChatRoom;
 import com.ogjg.daitgym.domain.User;
 import com.ogjg.daitgym.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.ogjg.daitgym.chat.repository.ChatMessageCacheRepository.HOT_MESSAGE_SIZE;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
-    private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisTemplate<String, ChatMessageDto> redisTemplateMessage;
+    private final UsersChattingRoomRepository usersChattingRoomRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatMessageCacheRepository chatMessageCacheRepository;
 
     /**
      * 메세지 저장하는 로직
      * ReadCount 란, 메세지를 읽은 사람의 수를 나타낸다.
      * 처음에는 2로 값을 세팅하고, sub에 접속될 때 -1를 한다.
      * 따라서 메신저를 보내는 사람은 pub으로 메신저를 보내고, sub에 접속한 상태이므로 readCount는 1이된다.
-     * 이때 상대방도 sub이 되면 readCount는 0이 되므로, readCount가 0일 때 읽음 표시를 해주면 된다.
+     * 이때 상대방도 채팅방에 접속 중(ChatPresenceService)이라면 readCount는 0이 되므로, readCount가 0일 때 읽음 표시를 해주면 된다.
+     * 상대방의 접속 여부는 채팅방 접속자 전체를 읽지 않고 상대방 email 의 ZSCORE 로 확인한다.
+     * 발신자 정보는 세션에 저장된 principal 을 사용하고, 연관관계에는 조회 없이 프록시 참조만 건다.
      */
 
     @Transactional
-    public ChatMessageDto save(ChatMessageDto chatMessageDto, String token) {
-        String email = jwtUtils.getEmail(jwtUtils.getAccessToken(token));
-        User user = getUserByEmail(email);
+    public ChatMessageDto save(ChatMessageDto chatMessageDto, StompPrincipal principal) {
+        User user = userRepository.getReferenceById(principal.getEmail());
 
         ChatRoom chatroom = chatRoomRepository.findByRedisRoomId(chatMessageDto.getRedisRoomId());
 
-        int size = Math.toIntExact(redisTemplate.opsForSet().size(chatroom.getRedisRoomId() + "set"));
+        boolean isReceiverOnline = usersChattingRoomRepository.findOtherMemberEmails(chatroom, principal.getEmail()).stream()
+                .anyMatch(receiverEmail -> chatPresenceService.isOnline(chatroom.getRedisRoomId(), receiverEmail));
 
-        if (size == 2) {
+        if (isReceiverOnline) {
             chatMessageDto.setReadCount(0);
         } else {
             chatMessageDto.setReadCount(1);
@@ -65,65 +69,85 @@ public class ChatMessageService {
 
         chatMessageRepository.save(chatMessage);
         chatMessageDto.setChatMessageId(chatMessage.getId());
-        chatMessageDto.setImageUrl(user.getImageUrl());
-        chatMessageDto.setSender(user.getNickname());
+        chatMessageDto.setImageUrl(principal.getImageUrl());
+        chatMessageDto.setSender(principal.getNickname());
 
-        redisTemplateMessage.setValueSerializer(new Jackson2JsonRedisSerializer<>(ChatMessageDto.class));
-        redisTemplateMessage.opsForList().rightPush(chatMessageDto.getRedisRoomId(), chatMessageDto);
-        redisTemplateMessage.expire(chatMessageDto.getRedisRoomId(), 60, TimeUnit.MINUTES);
+        chatMessageCacheRepository.appendAfterCommit(chatMessageDto);
         return chatMessageDto;
     }
 
     /**
-     * 전체 메세지 로드하기
+     * 최신 메세지 첫 페이지 로드하기
      * Connect 되어 두사람이 채팅방에 있을 때, readCount가 0이 되어야하기 때문에 redis에 저장된 readCount값이 1이라면 0으로 바꿔준다.
-     * Long size 란 채팅방에 접속해있는 인원을 의미한다.
+     * 첫 페이지는 redis 캐시에서 읽고, 캐시가 없다면 DB 에서 읽어 캐시를 채운다.
+     * 읽음 처리한 메시지가 있다면 캐시는 커밋 후 비워지므로, 캐시를 거치지 않고 DB 에서 읽는다.
      */
     @Transactional
     public List<ChatMessageDto> loadMessage(String redisRoomId, User user) {
 
-        updateReadCount(redisRoomId, user);
+        if (updateReadCount(redisRoomId, user)) {
+            return findLatestPage(redisRoomId);
+        }
 
-        List<ChatMessageDto> chatMessageDtos = new ArrayList<>();
-        List<ChatMessage> dbMessageList = chatMessageRepository.findAllByRedisRoomIdOrderByMessageCreatedAtAsc(redisRoomId);
+        return chatMessageCacheRepository.findLatestPage(redisRoomId)
+                .orElseGet(() -> chatMessageCacheRepository.fill(redisRoomId, () -> findLatestPage(redisRoomId)));
+    }
 
-        for (ChatMessage chatMessage : dbMessageList) {
-            User sender = chatMessage.getUser();
-            chatMessageDtos.add(new ChatMessageDto(chatMessage, sender));
-        }
-        return chatMessageDtos;
+    /**
+     * 이전 메세지 로드하기
+     * cursor : 클라이언트가 가진 가장 오래된 메시지의 id. 그보다 이전 메시지를 HOT_MESSAGE_SIZE 개씩 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> loadPreviousMessages(String redisRoomId, Long cursor) {
+        return toAscendingDtos(
+                chatMessageRepository.findByRedisRoomIdAndIdLessThanOrderByIdDesc(redisRoomId, cursor, PageRequest.of(0, HOT_MESSAGE_SIZE))
+        );
     }
 
     /**
      * 채팅 목록 가져올 때, 가장 최신 메시지 하나만 보여주기 위한 로직
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ChatMessageDto latestMessage(String redisRoomId) {
 
-        ChatMessageDto latestMessage = redisTemplateMessage.opsForList().index(redisRoomId, -1);
-
-        if (latestMessage == null) {
-            ChatMessage dbLatestMessage = chatMessageRepository.findTop1ByRedisRoomIdOrderByMessageCreatedAtDesc(redisRoomId);
-
-            if (dbLatestMessage != null) {
-                latestMessage = new ChatMessageDto(dbLatestMessage, dbLatestMessage.getUser());
-                redisTemplateMessage.opsForList().rightPush(redisRoomId, latestMessage);
-            }
-        }
-        return latestMessage;
+        return chatMessageCacheRepository.findLatest(redisRoomId)
+                .orElseGet(() -> {
+                    ChatMessage dbLatestMessage = chatMessageRepository.findTop1ByRedisRoomIdOrderByMessageCreatedAtDesc(redisRoomId);
+                    return dbLatestMessage == null ? null : new ChatMessageDto(dbLatestMessage, dbLatestMessage.getUser());
+                });
     }
 
+    /**
+     * 읽지 않은 메시지를 읽음 처리한다. 캐시된 메시지의 readCount 가 달라지므로 커밋 후 캐시를 비운다.
+     * 읽음 처리한 메시지가 있다면 true 를 반환한다.
+     */
     @Transactional
-    public void updateReadCount(String redisRoomId, User user) {
+    public boolean updateReadCount(String redisRoomId, User user) {
         List<ChatMessage> chatMessages = chatMessageRepository.findAllByRedisRoomIdAndReadCountAndUserNot(redisRoomId, 1, user);
 
         for (ChatMessage chatMessage : chatMessages) {
             chatMessage.setReadCount(0);
             chatMessageRepository.save(chatMessage);
         }
+
+        if (chatMessages.isEmpty()) {
+            return false;
+        }
+        chatMessageCacheRepository.evictAfterCommit(redisRoomId);
+        return true;
+    }
+
+    private List<ChatMessageDto> findLatestPage(String redisRoomId) {
+        return toAscendingDtos(
+                chatMessageRepository.findByRedisRoomIdOrderByIdDesc(redisRoomId, PageRequest.of(0, HOT_MESSAGE_SIZE))
+        );
     }
 
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email).orElseThrow(NotFoundUser::new);
+    private List<ChatMessageDto> toAscendingDtos(List<ChatMessage> descendingMessages) {
+        List<ChatMessageDto> chatMessageDtos = descendingMessages.stream()
+                .map(chatMessage -> new ChatMessageDto(chatMessage, chatMessage.getUser()))
+                .collect(Collectors.toList());
+        Collections.reverse(chatMessageDtos);
+        return chatMessageDtos;
     }
 }
@@ -0,0 +1,159 @@
+package com.ogjg.daitgym.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 접속 상태(presence) 관리
+ * sessionKey : 세션별 접속 정보(roomId, email). heartbeat 마다 TTL 이 갱신되고, DISCONNECT 를 놓쳐도 TTL 이 지나면 사라진다.
+ * roomKey : 채팅방별 접속 사용자 ZSET. score 는 마지막 heartbeat 시각으로, TTL 이내의 사용자만 접속 중으로 본다.
+ * userSessionsKey : 채팅방에 접속한 사용자의 세션 ZSET. 같은 사용자가 여러 기기로 접속한 경우 마지막 세션이 끊길 때만 roomKey 에서 사용자를 제거한다.
+ * ROOMS_KEY : 접속자가 있는 채팅방 목록. 주기적으로 만료된 사용자를 정리하는 데 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    public static final Duration PRESENCE_TTL = Duration.ofSeconds(30);
+
+    private static final String SESSION_KEY_PREFIX = "chat:presence:session:";
+    private static final String ROOM_KEY_PREFIX = "chat:presence:room:";
+    private static final String USER_SESSIONS_KEY_PREFIX = "chat:presence:user-sessions:";
+    private static final String ROOMS_KEY = "chat:presence:rooms";
+    private static final String ROOM_ID = "roomId";
+    private static final String EMAIL = "email";
+
+    /**
+     * 세션 TTL, 채팅방 접속 시각, 사용자의 세션 접속 시각을 한 번에 갱신한다.
+     */
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1]) " +
+                    "redis.call('ZADD', KEYS[3], ARGV[4], ARGV[2]) " +
+                    "return redis.call('PEXPIRE', KEYS[3], ARGV[3])",
+            Long.class
+    );
+
+    /**
+     * 세션과 만료된 세션을 지우고, 남은 세션이 없을 때만 채팅방에서 사용자를 제거한다.
+     */
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) " +
+                    "if redis.call('ZCARD', KEYS[1]) > 0 then return 0 end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return redis.call('ZREM', KEYS[2], ARGV[2])",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 채팅방 구독 시 세션과 사용자를 접속 상태로 등록한다.
+     */
+    public void connect(String sessionId, String roomId, String email) {
+        String sessionKey = sessionKey(sessionId);
+        stringRedisTemplate.opsForHash().putAll(sessionKey, Map.of(ROOM_ID, roomId, EMAIL, email));
+        stringRedisTemplate.opsForSet().add(ROOMS_KEY, roomId);
+        touch(sessionId, roomId, email);
+    }
+
+    /**
+     * heartbeat 또는 메시지 수신 시 세션의 TTL 과 채팅방 접속 시각을 갱신한다.
+     */
+    public void heartbeat(String sessionId, String roomId, String email) {
+        touch(sessionId, roomId, email);
+    }
+
+    /**
+     * 연결 종료 시 세션 정보를 지운다. roomId, email 을 모르는 경우 세션 정보에서 찾는다.
+     * 같은 사용자의 다른 세션이 남아 있다면 채팅방 접속 상태는 유지한다.
+     */
+    public void disconnect(String sessionId, String roomId, String email) {
+        String sessionKey = sessionKey(sessionId);
+
+        if (roomId == null || email == null) {
+            Map<Object, Object> session = stringRedisTemplate.opsForHash().entries(sessionKey);
+            roomId = (String) session.get(ROOM_ID);
+            email = (String) session.get(EMAIL);
+        }
+
+        stringRedisTemplate.delete(sessionKey);
+        if (roomId != null && email != null) {
+            stringRedisTemplate.execute(
+                    LEAVE_SCRIPT, List.of(userSessionsKey(roomId, email), roomKey(roomId)),
+                    sessionId, email, String.valueOf(expiredBefore())
+            );
+        }
+    }
+
+    /**
+     * 사용자가 채팅방에 접속 중인지 확인한다. ZSCORE 한 번으로 조회한다.
+     */
+    public boolean isOnline(String roomId, String email) {
+        Double lastSeen = stringRedisTemplate.opsForZSet().score(roomKey(roomId), email);
+        return lastSeen != null && lastSeen >= expiredBefore();
+    }
+
+    /**
+     * 채팅방에 접속 중인 사용자 email 목록
+     */
+    public Set<String> getOnlineUsers(String roomId) {
+        return stringRedisTemplate.opsForZSet()
+                .rangeByScore(roomKey(roomId), expiredBefore(), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * heartbeat 가 끊긴 사용자를 채팅방에서 정리하고, 접속자가 없는 채팅방은 목록에서 제거한다.
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void sweepExpired() {
+        Set<String> roomIds = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (roomIds == null) {
+            return;
+        }
+
+        double expiredBefore = expiredBefore();
+        for (String roomId : roomIds) {
+            String roomKey = roomKey(roomId);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(roomKey, Double.NEGATIVE_INFINITY, expiredBefore);
+
+            Long remaining = stringRedisTemplate.opsForZSet().zCard(roomKey);
+            if (remaining == null || remaining == 0) {
+                stringRedisTemplate.opsForSet().remove(ROOMS_KEY, roomId);
+            }
+        }
+    }
+
+    private void touch(String sessionId, String roomId, String email) {
+        stringRedisTemplate.execute(
+                TOUCH_SCRIPT, List.of(sessionKey(sessionId), roomKey(roomId), userSessionsKey(roomId, email)),
+                email, sessionId, String.valueOf(PRESENCE_TTL.toMillis()), String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    private double expiredBefore() {
+        return System.currentTimeMillis() - PRESENCE_TTL.toMillis();
+    }
+
+    private String sessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    private String roomKey(String roomId) {
+        return ROOM_KEY_PREFIX + roomId;
+    }
+
+    private String userSessionsKey(String roomId, String email) {
+        return USER_SESSIONS_KEY_PREFIX + roomId + ":" + email;
+    }
+}
@@ -101,7 +101,7 @@ public class ChatRoomService {
 
     /**
      * 선택된 채팅방 가져오기
-     * loadMessage : 채팅 목록 가져오기
+     * loadMessage : 최신 채팅 목록 첫 페이지 가져오기. 이전 메시지는 /rooms/{redisRoomId}/messages 로 조회한다.
      */
 
     public SelectedChatRoomResponse findRoom(String redisRoomId,
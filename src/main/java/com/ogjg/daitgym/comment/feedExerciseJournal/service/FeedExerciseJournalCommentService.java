@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.comment.feedExerciseJournal.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.comment.feedExerciseJournal.dto.request.EditFeedJournalCommentRequest;
 import com.ogjg.daitgym.comment.feedExerciseJournal.dto.request.FeedJournalCommentRequest;
 import com.ogjg.daitgym.comment.feedExerciseJournal.dto.response.CreateFeedJournalCommentResponse;
@@ -28,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 
+import static com.ogjg.daitgym.domain.NotificationType.FEED_JOURNAL_COMMENT;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class FeedExerciseJournalCommentService {
     private final FeedExerciseJournalRepository feedJournalRepository;
     private final UserRepository userRepository;
     private final FeedExerciseJournalCommentRepository feedJournalCommentRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 댓글/대댓글 작성하기
@@ -60,6 +64,7 @@ public class FeedExerciseJournalCommentService {
             feedJournalComment.updateCommentParent(parentComment);
         }
         feedJournalCommentRepository.save(feedJournalComment);
+        notificationOutboxService.record(feedJournal.getExerciseJournal().getUser(), user, FEED_JOURNAL_COMMENT, feedJournalId);
 
         return CreateFeedJournalCommentResponse.builder()
                 .parentId(request.getParentId())
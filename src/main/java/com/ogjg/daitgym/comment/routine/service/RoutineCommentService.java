@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.comment.routine.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.comment.feedExerciseJournal.dto.request.EditFeedJournalCommentRequest;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.NotFoundUser;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.WrongApproach;
@@ -26,12 +27,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 
+import static com.ogjg.daitgym.domain.NotificationType.ROUTINE_COMMENT;
+
 @Service
 @RequiredArgsConstructor
 public class RoutineCommentService {
     private final RoutineCommentRepository routineCommentRepository;
     private final RoutineRepository routineRepository;
     private final UserRepository userRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 루틴에 대한 댓글/대댓글 작성
@@ -56,6 +60,7 @@ public class RoutineCommentService {
             routineComment.updateCommentParent(parentComment);
         }
         routineCommentRepository.save(routineComment);
+        notificationOutboxService.record(routine.getUser(), user, ROUTINE_COMMENT, routineId);
 
         return CreateRoutineCommentResponse.builder()
                 .parentId(request.getParentId())
@@ -16,6 +16,7 @@ public enum ErrorCode implements ErrorType {
     UNAUTHORIZED_USER_ACCESS(HttpStatus.FORBIDDEN, "403", "접근 권한이 부족합니다."),
     WRONG_APPROACH(HttpStatus.FORBIDDEN, "403", "잘못된 접근입니다"),
     FORBIDDEN_KAKAO_SOCIAL(HttpStatus.FORBIDDEN,"403","카카오 정보동의가 필요합니다"),
+    KAKAO_API_FAIL(HttpStatus.BAD_GATEWAY, "502", "카카오 서버와 통신에 실패했습니다"),
 
     //NOT_FOUND
     NOT_FOUNT_USER_AUTHENTICATION(HttpStatus.NOT_FOUND,"404","유저 인증정보를 찾을 수 없습니다"),
@@ -55,6 +56,7 @@ public enum ErrorCode implements ErrorType {
     ALREADY_SCRAPPED_ROUTINE(HttpStatus.BAD_REQUEST, "400", "이미 스크랩한 루틴입니다."),
     ALREADY_PROCEEDING_APPROVAL(HttpStatus.BAD_REQUEST, "400", "이미 심사가 진행중입니다."),
     NOT_FOUND_FCM_TOKEN(HttpStatus.BAD_REQUEST, "404", "FCM토큰이 존재하지 않습니다"),
+    INVALID_ZONE_ID(HttpStatus.BAD_REQUEST, "400", "지원하지 않는 시간대입니다"),
     ;
 
     @JsonIgnore
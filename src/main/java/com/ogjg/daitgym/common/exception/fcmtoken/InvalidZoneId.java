@@ -0,0 +1,21 @@
+package com.ogjg.daitgym.common.exception.fcmtoken;
+
+import com.ogjg.daitgym.common.exception.CustomException;
+import com.ogjg.daitgym.common.exception.ErrorCode;
+import com.ogjg.daitgym.common.exception.ErrorData;
+
+public class InvalidZoneId extends CustomException {
+
+
+    public InvalidZoneId() {
+        super(ErrorCode.INVALID_ZONE_ID);
+    }
+
+    public InvalidZoneId(String message) {
+        super(ErrorCode.INVALID_ZONE_ID, message);
+    }
+
+    public InvalidZoneId(ErrorData errorData) {
+        super(ErrorCode.INVALID_ZONE_ID, errorData);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ogjg.daitgym.common.exception.user;
+
+import com.ogjg.daitgym.common.exception.CustomException;
+import com.ogjg.daitgym.common.exception.ErrorCode;
+import com.ogjg.daitgym.common.exception.ErrorData;
+
+public class FailedKaKaoApi extends CustomException {
+    public FailedKaKaoApi() {
+        super(ErrorCode.KAKAO_API_FAIL);
+    }
+
+    public FailedKaKaoApi(String message) {
+        super(ErrorCode.KAKAO_API_FAIL, message);
+    }
+
+    public FailedKaKaoApi(ErrorData errorData) {
+        super(ErrorCode.KAKAO_API_FAIL, errorData);
+    }
+}
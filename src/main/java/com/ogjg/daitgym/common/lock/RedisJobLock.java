@@ -0,0 +1,57 @@
+package com.ogjg.daitgym.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업을 실행하기 위한 Redis 잠금
+ * SET NX PX 로 잠금을 잡고, 작업이 끝나면 자신이 잡은 잠금일 때만 풀어준다.
+ * lockAtMostFor : 작업 중 서버가 죽어도 잠금이 풀리는 시간. 작업은 이 시간 안에 끝나야 한다.
+ * lockAtLeastFor : 작업이 빨리 끝나도 잠금을 유지하는 시간. 서버마다 시계가 조금씩 다른 정해진 시각의 작업이 두 번 실행되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "job-lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+                    "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 잠금을 잡았을 때만 작업을 실행한다. 실행했다면 true 를 반환한다.
+     */
+    public boolean runExclusively(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        String key = KEY_PREFIX + jobName;
+        String owner = UUID.randomUUID().toString();
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, owner, lockAtMostFor))) {
+            log.info("다른 서버에서 실행 중인 작업입니다. job={}", jobName);
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            job.run();
+            return true;
+        } finally {
+            long remaining = lockAtLeastFor.toMillis() - (System.currentTimeMillis() - startedAt);
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner, String.valueOf(Math.max(remaining, 0)));
+        }
+    }
+}
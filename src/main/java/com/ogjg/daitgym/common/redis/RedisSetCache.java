@@ -0,0 +1,137 @@
+package com.ogjg.daitgym.common.redis;
+
+import com.ogjg.daitgym.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * DB 에서 전체를 한 번 채운 뒤에만 변경을 반영하는 Redis set 캐시
+ * 키가 존재하면 항상 전체 값을 담고 있으므로, 키가 없을 때만 DB 를 읽는다.
+ * 값이 없어도 키가 남도록 실제 값이 될 수 없는 EMPTY_MARKER 를 함께 넣는다.
+ * versionKey : 변경마다 올라가는 값. DB 를 읽는 동안 버전이 바뀌었다면 채우지 않아, 그 사이의 변경이 빠진 set 이 생기지 않는다.
+ * 확인, 채우기, 변경은 각각 Lua 스크립트 하나로 처리하고, 변경은 DB 트랜잭션이 커밋된 뒤에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSetCache {
+
+    public static final String EMPTY_MARKER = "0";
+
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String NO_VERSION = "0";
+    private static final int SADD_CHUNK_SIZE = 5_000;
+
+    private static final RedisScript<Long> IS_MEMBER_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class
+    );
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MEMBERS_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end return redis.call('SMISMEMBER', KEYS[1], unpack(ARGV))",
+            List.class
+    );
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+                    "if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "for i = 3, #ARGV, " + SADD_CHUNK_SIZE + " do " +
+                    "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + " + (SADD_CHUNK_SIZE - 1) + ", #ARGV))) " +
+                    "end " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class
+    );
+    private static final RedisScript<Long> ADD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('SADD', KEYS[1], ARGV[1]) end return -1",
+            Long.class
+    );
+    private static final RedisScript<Long> REMOVE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('SREM', KEYS[1], ARGV[1]) end return -1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 캐시가 채워져 있다면 member 포함 여부를 반환한다. 캐시가 없다면 empty 를 반환한다.
+     */
+    public Optional<Boolean> contains(String key, String member) {
+        Long result = stringRedisTemplate.execute(IS_MEMBER_IF_PRESENT_SCRIPT, List.of(key), member);
+
+        if (result == null || result < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(result == 1);
+    }
+
+    /**
+     * 캐시가 채워져 있다면 members 각각의 포함 여부를 같은 순서로 반환한다. 캐시가 없다면 empty 를 반환한다.
+     */
+    public Optional<List<Boolean>> containsAll(String key, List<String> members) {
+        List<?> membership = stringRedisTemplate.execute(MEMBERS_IF_PRESENT_SCRIPT, List.of(key), members.toArray());
+
+        if (membership == null || membership.size() != members.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(membership.stream()
+                .map(Long.valueOf(1)::equals)
+                .toList());
+    }
+
+    /**
+     * DB 에서 읽은 전체 값으로 캐시를 채우고, 읽은 값을 반환한다.
+     * 읽기 전의 버전을 함께 넘겨, 캐시가 없고 그 사이 변경이 없었을 때만 하나의 스크립트로 채운다.
+     */
+    public <T extends Collection<?>> T fill(String key, Duration ttl, Supplier<T> loader) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(key));
+        T members = loader.get();
+
+        List<String> args = new ArrayList<>(members.size() + 3);
+        args.add(version == null ? NO_VERSION : version);
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(EMPTY_MARKER);
+        members.forEach(member -> args.add(String.valueOf(member)));
+
+        stringRedisTemplate.execute(FILL_SCRIPT, keys(key), args.toArray());
+        return members;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 member 를 추가한다.
+     */
+    public void addAfterCommit(String key, String member, Duration ttl) {
+        AfterCommit.run(() -> stringRedisTemplate.execute(
+                ADD_IF_PRESENT_SCRIPT, keys(key), member, String.valueOf(ttl.toMillis())
+        ));
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 member 를 제거한다.
+     */
+    public void removeAfterCommit(String key, String member, Duration ttl) {
+        AfterCommit.run(() -> stringRedisTemplate.execute(
+                REMOVE_IF_PRESENT_SCRIPT, keys(key), member, String.valueOf(ttl.toMillis())
+        ));
+    }
+
+    private List<String> keys(String key) {
+        return List.of(key, versionKey(key));
+    }
+
+    private String versionKey(String key) {
+        return key + VERSION_KEY_SUFFIX;
+    }
+}
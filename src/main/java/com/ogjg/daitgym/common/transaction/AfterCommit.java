@@ -0,0 +1,28 @@
+package com.ogjg.daitgym.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DB 트랜잭션이 커밋된 뒤에 실행할 작업을 등록한다.
+ * 캐시 반영이나 알림 전송처럼 롤백되면 안 되는 외부 작업에 사용한다. 트랜잭션 밖에서 호출하면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.ogjg.daitgym.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class KakaoClientConfig {
+
+    public static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    public static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final int MAX_CONNECTIONS = 50;
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(3);
+
+    /**
+     * 카카오 API 호출에 공유되는 WebClient
+     * 커넥션 풀을 재사용하고 연결/응답 timeout 을 건다.
+     * Boot 가 제공하는 WebClient.Builder 를 사용하므로 애플리케이션의 ObjectMapper 로 JSON 을 변환한다.
+     */
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(MAX_CONNECTIONS)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) CONNECT_TIMEOUT.toMillis())
+                .responseTimeout(RESPONSE_TIMEOUT);
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
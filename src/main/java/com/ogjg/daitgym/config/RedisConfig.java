@@ -1,6 +1,7 @@
 package com.ogjg.daitgym.config;
 
 import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.pubsub.ChatMessageCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -35,14 +36,16 @@ public class RedisConfig {
     }
 
     /**
-     * Redis 에 메시지 내역을 저장하기 위한 RedisTemplate 을 설정
+     * Redis 에 메시지 내역을 저장하고 pub/sub 으로 발행하기 위한 RedisTemplate 을 설정
+     * 값은 공유되는 ChatMessageCodec 으로만 직렬화한다.
      */
     @Bean
-    public RedisTemplate<String, ChatMessageDto> redisTemplateMessage(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, ChatMessageDto> redisTemplateMessage(RedisConnectionFactory connectionFactory,
+                                                                      ChatMessageCodec chatMessageCodec) {
         RedisTemplate<String, ChatMessageDto> redisTemplateMessage = new RedisTemplate<>();
         redisTemplateMessage.setConnectionFactory(connectionFactory);
         redisTemplateMessage.setKeySerializer(new StringRedisSerializer());
-        redisTemplateMessage.setValueSerializer(new Jackson2JsonRedisSerializer<>(ChatMessageDto.class));
+        redisTemplateMessage.setValueSerializer(chatMessageCodec);
 
         return redisTemplateMessage;
     }
@@ -2,6 +2,7 @@ package com.ogjg.daitgym.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ogjg.daitgym.config.security.jwt.handler.CustomAccessDeniedHandler;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService;
 import com.ogjg.daitgym.config.security.oauth.handler.Oauth2AuthenticationSuccessHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -15,10 +16,11 @@ import org.springframework.security.web.savedrequest.RequestCache;
 @RequiredArgsConstructor
 public class HandlerConfig {
     private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
 
     @Bean
     public AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler() {
-        return new Oauth2AuthenticationSuccessHandler(httpSessionRequestCache(), objectMapper);
+        return new Oauth2AuthenticationSuccessHandler(httpSessionRequestCache(), objectMapper, refreshTokenService);
     }
 
     @Bean
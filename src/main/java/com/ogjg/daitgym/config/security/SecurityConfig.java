@@ -1,9 +1,12 @@
 package com.ogjg.daitgym.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ogjg.daitgym.config.security.jwt.authentication.JwtAuthenticationProvider;
 import com.ogjg.daitgym.config.security.jwt.filter.JwtAccessTokenAuthenticationFilter;
 import com.ogjg.daitgym.config.security.jwt.filter.JwtRefreshTokenAuthenticationFilter;
+import com.ogjg.daitgym.config.security.jwt.filter.PermitUrlMatcher;
 import com.ogjg.daitgym.config.security.jwt.handler.JwtAuthenticationEntryPoint;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService;
 import com.ogjg.daitgym.config.security.oauth.CustomOAuth2UserService;
 import com.ogjg.daitgym.domain.Role;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +31,6 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -47,19 +49,22 @@ public class SecurityConfig {
 
     private final AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler;
 
-    private final List<String> permitJwtUrlList = new ArrayList<>(
-            List.of(
-                    "/",
-                    "/favicon.ico",
-                    "/login/oauth2/callback/kakao.*",
-                    "/login/oauth2/code/.*",
-                    "/api/users/token",
-                    "/api/token/new",
-                    "/health",
-                    "/ws/.*",
-                    "/chat/.*",
-                    "/h2-console/.*"
-            ));
+    private final RefreshTokenService refreshTokenService;
+
+    private final ObjectMapper objectMapper;
+
+    static final List<String> PERMIT_JWT_URL_LIST = List.of(
+            "/",
+            "/favicon.ico",
+            "/login/oauth2/callback/kakao.*",
+            "/login/oauth2/code/.*",
+            "/api/users/token",
+            "/api/token/new",
+            "/health",
+            "/ws/.*",
+            "/chat/.*",
+            "/h2-console/.*"
+    );
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -122,12 +127,12 @@ public class SecurityConfig {
     @Bean
     public JwtAccessTokenAuthenticationFilter jwtAccessTokenAuthenticationFilter() throws Exception {
         authenticationManagerBuilder.authenticationProvider(jwtAuthenticationProvider());
-        return new JwtAccessTokenAuthenticationFilter(authenticationManager(), jwtAuthenticationEntryPoint(), permitJwtUrlList);
+        return new JwtAccessTokenAuthenticationFilter(authenticationManager(), jwtAuthenticationEntryPoint(), new PermitUrlMatcher(PERMIT_JWT_URL_LIST));
     }
 
     @Bean
     public JwtRefreshTokenAuthenticationFilter jwtRefreshTokenAuthenticationFilter() throws Exception {
-        return new JwtRefreshTokenAuthenticationFilter(authenticationManager(), jwtAuthenticationEntryPoint());
+        return new JwtRefreshTokenAuthenticationFilter(authenticationManager(), jwtAuthenticationEntryPoint(), refreshTokenService, objectMapper);
     }
 
     @Bean
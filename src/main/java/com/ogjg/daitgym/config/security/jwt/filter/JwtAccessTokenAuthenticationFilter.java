@@ -16,8 +16,6 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.regex.Pattern;
 
 import static com.ogjg.daitgym.config.security.jwt.util.JwtUtils.*;
 
@@ -28,7 +26,7 @@ public class JwtAccessTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
-    private final List<String> permitUrlList;
+    private final PermitUrlMatcher permitUrlMatcher;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -51,10 +49,7 @@ public class JwtAccessTokenAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean isPermitted(String requestUri) {
-        return permitUrlList.stream()
-                .filter((pattern) -> Pattern.matches(pattern, requestUri))
-                .findAny()
-                .isPresent();
+        return permitUrlMatcher.matches(requestUri);
     }
 
     private Authentication authenticate(HttpServletRequest request) {
@@ -7,6 +7,7 @@ import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
 import com.ogjg.daitgym.config.security.jwt.authentication.JwtAuthenticationToken;
 import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
 import com.ogjg.daitgym.config.security.jwt.exception.RefreshTokenException;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,6 +15,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
@@ -24,6 +26,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 
+import static com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService.REFRESH_TOKEN_COOKIE;
 import static com.ogjg.daitgym.config.security.jwt.util.JwtUtils.*;
 
 @RequiredArgsConstructor
@@ -35,6 +38,9 @@ public class JwtRefreshTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
+    private final RefreshTokenService refreshTokenService;
+
+    private final ObjectMapper objectMapper;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -44,13 +50,15 @@ public class JwtRefreshTokenAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            Authentication authentication = authenticate(request);
+            String refreshToken = getRefreshToken(request);
+            Authentication authentication = authenticationManager.authenticate(new JwtAuthenticationToken(refreshToken));
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            String accessToken = generateAccessToken(authentication);
-            addTokenInHeader(response, accessToken);
+            JwtUserClaimsDto jwtUserClaimsDto = JwtUserClaimsDto.from((OAuth2JwtUserDetails) authentication.getPrincipal());
+            String rotatedRefreshToken = refreshTokenService.rotate(refreshToken, jwtUserClaimsDto);
 
-            ObjectMapper objectMapper = new ObjectMapper();
+            addTokenInHeader(response, TokenGenerator.generateAccessToken(jwtUserClaimsDto));
+            response.setHeader(HttpHeaders.SET_COOKIE, refreshTokenService.createCookie(rotatedRefreshToken).toString());
 
             ApiResponse<?> apiResponse = new ApiResponse<>(ErrorCode.SUCCESS);
             String successResponse = objectMapper.writeValueAsString(apiResponse);
@@ -72,25 +80,19 @@ public class JwtRefreshTokenAuthenticationFilter extends OncePerRequestFilter {
         return TOKEN_REGENERATE_REQUEST_URL.equals(request.getRequestURI());
     }
 
-    private Authentication authenticate(HttpServletRequest request) {
-        String refreshToken = getRefreshToken(request);
-        Authentication authentication = authenticationManager.authenticate(new JwtAuthenticationToken(refreshToken));
-        return authentication;
-    }
     private String getRefreshToken(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            throw new RefreshTokenException();
+        }
+
         return Arrays.stream(cookies)
-                .filter(cookie -> "refreshToken".equals(cookie.getName()))
+                .filter(cookie -> REFRESH_TOKEN_COOKIE.equals(cookie.getName()))
                 .findFirst()
                 .orElseThrow(RefreshTokenException::new)
                 .getValue();
     }
 
-    private static String generateAccessToken(Authentication authentication) {
-        OAuth2JwtUserDetails userDetails = (OAuth2JwtUserDetails) authentication.getPrincipal();
-        return TokenGenerator.generateAccessToken(JwtUserClaimsDto.from(userDetails));
-    }
-
     private void addTokenInHeader(HttpServletResponse response, String accessToken) {
         response.addHeader(HEADER_AUTHORIZATION, TOKEN_PREFIX + accessToken);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -0,0 +1,25 @@
+package com.ogjg.daitgym.config.security.jwt.filter;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * JWT 인증 없이 허용하는 URL 매처
+ * 허용 URL 정규식들을 시작 시점에 "(?:p1)|(?:p2)|..." 하나의 Pattern 으로 컴파일한다.
+ * 요청마다 정규식을 다시 컴파일하지 않고, 전체 일치(matches) 한 번으로 어느 하나라도 일치하는지 확인한다.
+ */
+public class PermitUrlMatcher {
+
+    private final Pattern pattern;
+
+    public PermitUrlMatcher(List<String> permitUrlPatterns) {
+        this.pattern = Pattern.compile(permitUrlPatterns.stream()
+                .map(permitUrlPattern -> "(?:" + permitUrlPattern + ")")
+                .collect(Collectors.joining("|")));
+    }
+
+    public boolean matches(String requestUri) {
+        return requestUri != null && pattern.matcher(requestUri).matches();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis refresh token family 저장소
+ * familyKey : family 의 사용자 email, 현재 token id, 직전 token id 와 교체 시각을 담은 hash. TTL 은 refresh token 유효기간과 같다.
+ * userKey : 사용자의 family id 목록. 모든 기기 로그아웃에 사용한다.
+ * 저장과 교체는 각각 Lua 스크립트 하나로 원자적으로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final String USER_KEY_PREFIX = "refresh:user:";
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'email', ARGV[2], 'current', ARGV[3]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[1]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+                    "return 1",
+            Long.class
+    );
+
+    /**
+     * 반환값 : {결과, 발급할 token id}. 1 = 교체, 0 = 폐기된 family, -1 = 재사용
+     * ARGV : 제시된 token id, 새 token id, TTL(ms), 현재 시각(ms), grace(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+                    "if not current then return {'0', ''} end " +
+                    "if current == ARGV[1] then " +
+                    "  redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotatedAt', ARGV[4]) " +
+                    "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "  return {'1', ARGV[2]} " +
+                    "end " +
+                    "local previous = redis.call('HGET', KEYS[1], 'previous') " +
+                    "local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotatedAt') or '0') " +
+                    "if previous == ARGV[1] and tonumber(ARGV[4]) - rotatedAt <= tonumber(ARGV[5]) then " +
+                    "  return {'1', current} " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return {'-1', ''}",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(String familyId, String email, String tokenId, Duration ttl) {
+        stringRedisTemplate.execute(
+                SAVE_SCRIPT, List.of(familyKey(familyId), userKey(email)),
+                familyId, email, tokenId, String.valueOf(ttl.toMillis())
+        );
+    }
+
+    @Override
+    public Rotation rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl, Duration grace) {
+        List<?> result = stringRedisTemplate.execute(
+                ROTATE_SCRIPT, List.of(familyKey(familyId)),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(grace.toMillis())
+        );
+
+        if (result == null || result.isEmpty() || "0".equals(result.get(0))) {
+            return Rotation.of(RotationResult.REVOKED);
+        }
+        if ("-1".equals(result.get(0))) {
+            return Rotation.of(RotationResult.REUSED);
+        }
+        return Rotation.rotated((String) result.get(1));
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        stringRedisTemplate.delete(familyKey(familyId));
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        String userKey = userKey(email);
+        Set<String> familyIds = stringRedisTemplate.opsForSet().members(userKey);
+
+        if (familyIds != null && !familyIds.isEmpty()) {
+            stringRedisTemplate.delete(familyIds.stream().map(this::familyKey).toList());
+        }
+        stringRedisTemplate.delete(userKey);
+    }
+
+    private String familyKey(String familyId) {
+        return FAMILY_KEY_PREFIX + familyId;
+    }
+
+    private String userKey(String email) {
+        return USER_KEY_PREFIX + email;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenStore.Rotation;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenStore.RotationResult;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.ogjg.daitgym.config.security.jwt.util.JwtUtils.*;
+
+/**
+ * refresh token 발급, 교체, 폐기
+ * refresh token 은 사용할 때마다 새 token 으로 교체되고, 이미 교체된 token 이 다시 사용되면 family 전체를 폐기한다.
+ * 교체와 폐기 여부 확인은 RefreshTokenStore 왕복 한 번으로 처리한다.
+ * 여러 탭에서 같은 token 으로 동시에 교체를 요청할 수 있으므로, 교체 직후 ROTATION_GRACE 동안은 직전 token 도 받아 현재 token id 로 발급한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    public static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofMillis(REFRESH_TOKEN_VALID_TIME);
+
+    private static final Duration ROTATION_GRACE = Duration.ofSeconds(10);
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * 로그인 시 새 family 의 refresh token 을 발급한다.
+     */
+    public String issue(JwtUserClaimsDto jwtUserClaimsDto) {
+        String familyId = newId();
+        String tokenId = newId();
+
+        refreshTokenStore.save(familyId, jwtUserClaimsDto.getEmail(), tokenId, REFRESH_TOKEN_TTL);
+        return TokenGenerator.generateRefreshToken(jwtUserClaimsDto, familyId, tokenId);
+    }
+
+    /**
+     * 서명이 검증된 refresh token 을 새 token 으로 교체한다.
+     * family 정보가 없는 token, 폐기된 family 의 token, grace 가 지난 뒤 다시 사용된 token 은 JwtException 으로 거부한다.
+     */
+    public String rotate(String refreshToken, JwtUserClaimsDto jwtUserClaimsDto) {
+        Claims claims = TokenVerifier.verifyRefreshTokenAndGetClaims(refreshToken);
+        String familyId = claims.get(FAMILY_ID_KEY, String.class);
+        String tokenId = claims.getId();
+        if (familyId == null || tokenId == null) {
+            throw new JwtException("refresh token family 정보가 없습니다.");
+        }
+
+        Rotation rotation = refreshTokenStore.rotate(familyId, tokenId, newId(), REFRESH_TOKEN_TTL, ROTATION_GRACE);
+        RotationResult result = rotation.result();
+
+        if (result == RotationResult.REUSED) {
+            log.warn("재사용된 refresh token 으로 family 를 폐기합니다. email={}", jwtUserClaimsDto.getEmail());
+            throw new JwtException("이미 사용된 refresh token 입니다.");
+        }
+        if (result == RotationResult.REVOKED) {
+            throw new JwtException("폐기된 refresh token 입니다.");
+        }
+        return TokenGenerator.generateRefreshToken(jwtUserClaimsDto, familyId, rotation.tokenId());
+    }
+
+    /**
+     * 현재 기기의 refresh token family 를 폐기한다. 유효하지 않은 token 이라면 무시한다.
+     */
+    public void revoke(String refreshToken) {
+        if (refreshToken == null) {
+            return;
+        }
+
+        try {
+            String familyId = TokenVerifier.verifyRefreshTokenAndGetClaims(refreshToken).get(FAMILY_ID_KEY, String.class);
+            if (familyId != null) {
+                refreshTokenStore.revokeFamily(familyId);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("폐기할 수 없는 refresh token 입니다. : " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 기기에서 로그아웃
+     */
+    public void revokeAll(String email) {
+        refreshTokenStore.revokeAll(email);
+    }
+
+    public ResponseCookie createCookie(String refreshToken) {
+        return ResponseCookie.from(REFRESH_TOKEN_COOKIE, refreshToken)
+                .maxAge(REFRESH_TOKEN_TTL)
+                .path("/")
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("None")
+                .build();
+    }
+
+    private String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import java.time.Duration;
+
+/**
+ * refresh token family 저장소
+ * 로그인 한 번으로 시작되는 refresh token 들을 하나의 family 로 묶고, family 마다 현재 유효한 token id 와 직전 token id 를 저장한다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 family 를 저장하고 사용자의 family 목록에 추가한다.
+     */
+    void save(String familyId, String email, String tokenId, Duration ttl);
+
+    /**
+     * family 의 현재 token id 가 presentedTokenId 라면 newTokenId 로 교체한다.
+     * 교체된 지 grace 가 지나지 않은 직전 token id 는 동시에 보낸 요청으로 보고, 이미 교체된 현재 token id 를 돌려준다.
+     * 그 외에 이미 교체된 token id 가 다시 사용되면 탈취로 보고 family 를 삭제한다. 저장소 왕복 한 번으로 처리해야 한다.
+     */
+    Rotation rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl, Duration grace);
+
+    void revokeFamily(String familyId);
+
+    /**
+     * 사용자의 모든 family 를 삭제한다. 모든 기기에서 로그아웃할 때 사용한다.
+     */
+    void revokeAll(String email);
+
+    enum RotationResult {
+        ROTATED, REUSED, REVOKED
+    }
+
+    /**
+     * tokenId : 교체된 경우 새로 발급할 token 의 id
+     */
+    record Rotation(RotationResult result, String tokenId) {
+
+        static Rotation rotated(String tokenId) {
+            return new Rotation(RotationResult.ROTATED, tokenId);
+        }
+
+        static Rotation of(RotationResult result) {
+            return new Rotation(result, null);
+        }
+    }
+}
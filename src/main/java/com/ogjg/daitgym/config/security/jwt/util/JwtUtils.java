@@ -50,7 +50,9 @@ public class JwtUtils {
 
     private static final int ACCESS_TOKEN_VALID_TIME = MINUTE * 5;
 
-    private static final long REFRESH_TOKEN_VALID_TIME = DAY * 30L;
+    public static final long REFRESH_TOKEN_VALID_TIME = DAY * 30L;
+
+    public static final String FAMILY_ID_KEY = "fid";
 
     private static Key SIGNATURE_KEY;
 
@@ -69,10 +71,18 @@ public class JwtUtils {
                     .compact();
         }
 
-        public static String generateRefreshToken(JwtUserClaimsDto userClaimsDto) {
+        /**
+         * familyId : 로그인 한 번으로 시작된 refresh token 묶음의 id
+         * tokenId : 교체될 때마다 새로 발급되는 token 의 id (jti)
+         */
+        public static String generateRefreshToken(JwtUserClaimsDto userClaimsDto, String familyId, String tokenId) {
+            Map<String, Object> claims = createClaims(userClaimsDto);
+            claims.put(FAMILY_ID_KEY, familyId);
+
             return Jwts.builder()
                     .setHeader(createHeader())
-                    .setClaims(createClaims(userClaimsDto))
+                    .setClaims(claims)
+                    .setId(tokenId)
                     .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_VALID_TIME))
                     .signWith(generateKey())
                     .compact();
@@ -103,18 +113,49 @@ public class JwtUtils {
         }
     }
 
+    /**
+     * 토큰 검증기
+     * JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용한다.
+     * 검증된 access token 의 claims 는 토큰이 만료될 때까지 캐시하여, 같은 토큰의 서명 검증과 claims 파싱은 한 번만 한다.
+     * refresh token 은 교체될 때 한 번만 검증하므로 캐시하지 않는다.
+     */
     public static class TokenVerifier {
+
+        private static final VerifiedTokenCache VERIFIED_TOKEN_CACHE = new VerifiedTokenCache();
+
+        private static volatile JwtParser PARSER;
+
+        /**
+         * 토큰이 없거나 비어 있다면 캐시를 거치지 않고, jjwt 와 같은 IllegalArgumentException 을 던진다.
+         */
         public static Claims verifyTokenAndGetClaims(String jwt) {
-            Jws<Claims> claimsJws = parseAndVerify(jwt);
-            return claimsJws.getBody();
+            if (jwt == null || jwt.isBlank()) {
+                throw new IllegalArgumentException("JWT 토큰이 존재하지 않습니다.");
+            }
+
+            Claims cached = VERIFIED_TOKEN_CACHE.get(jwt);
+            if (cached != null) {
+                return cached;
+            }
+
+            Claims claims = parser().parseClaimsJws(jwt).getBody();
+            if (claims.get(FAMILY_ID_KEY) == null) {
+                VERIFIED_TOKEN_CACHE.put(jwt, claims);
+            }
+            return claims;
         }
 
-        private static Jws<Claims> parseAndVerify(String token) {
-            Jws<Claims> claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(TokenGenerator.generateKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return claimsJws;
+        public static Claims verifyRefreshTokenAndGetClaims(String jwt) {
+            return parser().parseClaimsJws(jwt).getBody();
+        }
+
+        private static JwtParser parser() {
+            if (PARSER == null) {
+                PARSER = Jwts.parserBuilder()
+                        .setSigningKey(TokenGenerator.generateKey())
+                        .build();
+            }
+            return PARSER;
         }
     }
 
@@ -146,9 +187,16 @@ public class JwtUtils {
     }
 
     public boolean validateToken(String token) {
+        getValidatedClaims(token);
+        return true;
+    }
+
+    /**
+     * 토큰을 검증하고 claims 를 반환한다. 검증 실패 시 STOMP 에러 프레임으로 변환되는 UnauthorizedException 을 던진다.
+     */
+    public Claims getValidatedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(SIGNATURE_KEY).build().parseClaimsJws(token);
-            return true;
+            return TokenVerifier.verifyTokenAndGetClaims(token);
         } catch (SecurityException | MalformedJwtException e) {
             throw UnauthorizedException.of(e.getClass().getName(), "잘못된 JWT 토큰입니다.");
         } catch (ExpiredJwtException e) {
@@ -177,7 +225,7 @@ public class JwtUtils {
     }
 
     public String getEmail(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(SIGNATURE_KEY).build().parseClaimsJws(token).getBody();
+        Claims claims = TokenVerifier.verifyTokenAndGetClaims(token);
         return claims.get("email", String.class);
     }
 }
\ No newline at end of file
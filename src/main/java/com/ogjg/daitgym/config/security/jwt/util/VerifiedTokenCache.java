@@ -0,0 +1,104 @@
+package com.ogjg.daitgym.config.security.jwt.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 access token 의 claims 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰의 exp 가 지나면 캐시에서도 사용하지 않는다.
+ * 최대 maxSize 개까지 접근 순서로 저장하며, 가득 차면 가장 오래 쓰이지 않은 항목을 하나 내보낸다.
+ * 호출하는 쪽이 claims 를 수정해도 캐시가 바뀌지 않도록 저장할 때와 꺼낼 때 모두 복사본을 사용한다.
+ * null 토큰은 저장하지 않고 조회 결과도 없다.
+ */
+class VerifiedTokenCache {
+
+    private static final int MAX_SIZE = 10_000;
+
+    private final Map<String, CachedClaims> cache;
+
+    VerifiedTokenCache() {
+        this(MAX_SIZE);
+    }
+
+    VerifiedTokenCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Claims get(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        String key = hash(token);
+        synchronized (cache) {
+            CachedClaims cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+
+            if (cached.isExpired(System.currentTimeMillis())) {
+                cache.remove(key);
+                return null;
+            }
+            return Jwts.claims(cached.claims());
+        }
+    }
+
+    void put(String token, Claims claims) {
+        if (token == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        CachedClaims cached = new CachedClaims(Jwts.claims(claims), claims.getExpiration().getTime());
+        String key = hash(token);
+        synchronized (cache) {
+            cache.put(key, cached);
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedClaims {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+
+        Claims claims() {
+            return claims;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
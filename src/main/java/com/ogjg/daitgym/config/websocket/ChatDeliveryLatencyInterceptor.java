@@ -0,0 +1,89 @@
+package com.ogjg.daitgym.config.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher.SENT_AT_HEADER;
+
+/**
+ * 클라이언트로 나가는 채팅 메시지의 발행 → 전달 지연시간을 기록한다.
+ * simple / relay 어느 브로커 모드에서도 메시지 생성 시각을 담은 sent-at 헤더를 기준으로 측정한다.
+ * 프레임마다의 지연시간은 debug 로만 남기고, 1분마다 전달 수와 p50, 최대 지연시간을 info 로 남긴다.
+ * p50 은 구간마다 최대 MAX_SAMPLES 개를 reservoir sampling 으로 골라 계산한다.
+ */
+@Slf4j
+@Component
+class ChatDeliveryLatencyInterceptor implements ChannelInterceptor {
+
+    private static final int MAX_SAMPLES = 4096;
+
+    private final long[] samples = new long[MAX_SAMPLES];
+    private long count;
+    private long max;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(message);
+        String sentAt = headerAccessor.getFirstNativeHeader(SENT_AT_HEADER);
+        if (sentAt == null) {
+            return message;
+        }
+
+        long latency = System.currentTimeMillis() - Long.parseLong(sentAt);
+        record(latency);
+        if (log.isDebugEnabled()) {
+            log.debug("채팅 메시지 전달 지연시간 destination={}, session={}, latency={}ms",
+                    headerAccessor.getDestination(), headerAccessor.getSessionId(), latency);
+        }
+        return message;
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void report() {
+        LatencySnapshot snapshot = drain();
+        if (snapshot.count() > 0) {
+            log.info("채팅 메시지 전달 지연시간 count={}, p50={}ms, max={}ms",
+                    snapshot.count(), snapshot.p50(), snapshot.max());
+        }
+    }
+
+    synchronized void record(long latency) {
+        if (count < MAX_SAMPLES) {
+            samples[(int) count] = latency;
+        } else {
+            long index = ThreadLocalRandom.current().nextLong(count + 1);
+            if (index < MAX_SAMPLES) {
+                samples[(int) index] = latency;
+            }
+        }
+        count++;
+        max = count == 1 ? latency : Math.max(max, latency);
+    }
+
+    /**
+     * 지금까지의 집계를 반환하고 다음 구간을 위해 비운다.
+     */
+    synchronized LatencySnapshot drain() {
+        long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, MAX_SAMPLES));
+        LatencySnapshot snapshot = new LatencySnapshot(count, 0, max);
+        count = 0;
+        max = 0;
+
+        if (sorted.length == 0) {
+            return snapshot;
+        }
+        Arrays.sort(sorted);
+        return new LatencySnapshot(snapshot.count(), sorted[(sorted.length - 1) / 2], snapshot.max());
+    }
+
+    record LatencySnapshot(long count, long p50, long max) {
+    }
+}
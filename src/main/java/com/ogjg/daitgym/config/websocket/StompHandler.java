@@ -1,50 +1,58 @@
 package com.ogjg.daitgym.config.websocket;
 
+import com.ogjg.daitgym.chat.service.ChatPresenceService;
+import com.ogjg.daitgym.common.exception.chat.UnauthorizedException;
+import com.ogjg.daitgym.common.exception.user.NotFoundUser;
 import com.ogjg.daitgym.config.security.jwt.util.JwtUtils;
-import jakarta.annotation.PostConstruct;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+
+import static com.ogjg.daitgym.alarm.pubsub.NotificationPushPublisher.NOTIFICATION_DESTINATION_PREFIX;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 class StompHandler implements ChannelInterceptor {
 
+    private static final String REDIS_ROOM_ID = "RedisRoomId";
+
     private final JwtUtils jwtUtils;
-    private Map<String, String> sessionId;
-    private HashOperations<String, String, String> hashOperations;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    @PostConstruct
-    private void init() {
-        hashOperations = redisTemplate.opsForHash();
-        sessionId = new HashMap<>();
-    }
+    private final UserRepository userRepository;
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * Websocket 연결 시 요청 header 의 jwt token 유효성을 검증하는 코드를 추가한다. 유효하지 않은 JWT 토큰일 경우, websocket을 연결하지 않고 예외 처리 한다.
      * headerAccessor : Websocket 프로토콜에서 사용되는 헤더 정보를 추출하기 위해 stompHeaderAccessor 를 사용하여 메시지를 매핑한다.
      * presend() : 메시지가 실제로 채널에 전송되기전에 호출된다. 즉, publisher가 send 하기 전에 호출된다.
+     * heartbeat 프레임은 command 가 없으므로 접속 상태 갱신에만 사용한다.
      */
 
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor headerAccessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
         String session = (String) headerAccessor.getHeader("simpSessionId");
-        handleMessage(headerAccessor.getCommand(), headerAccessor, session);
+
+        if (SimpMessageType.HEARTBEAT.equals(headerAccessor.getMessageType())) {
+            refreshPresence(headerAccessor, session);
+            return message;
+        }
+
+        if (headerAccessor.getCommand() != null) {
+            handleMessage(headerAccessor.getCommand(), headerAccessor, session);
+        }
 
         return message;
     }
@@ -53,60 +61,109 @@ class StompHandler implements ChannelInterceptor {
         switch (stompCommand) {
 
             case CONNECT:
+                if (headerAccessor.getFirstNativeHeader("Authentication") != null) {
+                    authenticate(headerAccessor);
+                }
                 break;
             case SEND:
-                verifyAccessToken(headerAccessor);
+                verifySession(headerAccessor);
+                refreshPresence(headerAccessor, session);
                 break;
             case SUBSCRIBE:
-                verifyAccessToken(headerAccessor);
-                connectToChatRoom(headerAccessor, session);
+                StompPrincipal principal = verifySession(headerAccessor);
+                checkNotificationSubscription(headerAccessor, principal);
+                connectToChatRoom(headerAccessor, session, principal);
                 break;
             case DISCONNECT:
-                disConnectToChatRoom(session);
+                disConnectToChatRoom(headerAccessor, session);
                 break;
         }
     }
 
     /**
-     * 토큰검증로직
+     * CONNECT 시 토큰을 한 번 검증하고, 사용자 정보를 세션 attribute 에 저장한다.
+     * 이후 프레임은 세션에 저장된 인증 정보를 사용하므로 매 프레임마다 토큰을 파싱하거나 사용자를 조회하지 않는다.
      */
-    private boolean verifyAccessToken(StompHeaderAccessor headerAccessor) {
+    private StompPrincipal authenticate(StompHeaderAccessor headerAccessor) {
         String token = headerAccessor.getFirstNativeHeader("Authentication");
-        String tokenStompHeader = jwtUtils.getTokenStompHeader(token);
-        return jwtUtils.validateToken(tokenStompHeader);
+        Claims claims = jwtUtils.getValidatedClaims(jwtUtils.getTokenStompHeader(token));
+        User user = userRepository.findByEmail(claims.get("email", String.class))
+                .orElseThrow(NotFoundUser::new);
+
+        StompPrincipal principal = StompPrincipal.of(user, claims.getExpiration());
+        Objects.requireNonNull(headerAccessor.getSessionAttributes())
+                .put(StompPrincipal.SESSION_ATTRIBUTE_KEY, principal);
+        return principal;
     }
 
     /**
-     * CONNET 상태 일때, redis에 SessionId값으로 redisRoomId와 email값을 저장한다.
-     * 인원수를 알기 위해 redisRoomId를 key로 가지고 email을 value로 가지는 setOperations를 저장한다.
-     * 연결되었을 때, 2로 설정되어있던 인원수를 1로 업데이트해준다.
+     * 세션의 인증 정보를 확인한다. CONNECT 에서 인증되지 않았거나 토큰이 만료된 경우에만 프레임의 토큰으로 다시 인증한다.
      */
-    private void connectToChatRoom(StompHeaderAccessor headerAccessor, String session) {
-        ChannelTopic redisRoomId = ChannelTopic.of(headerAccessor.getFirstNativeHeader("RedisRoomId"));
-        String stringRedisRoomID = redisRoomId.toString();
-        String token = headerAccessor.getFirstNativeHeader("Authentication");
-        String tokenStompHeader = jwtUtils.getTokenStompHeader(token);
-        String email = jwtUtils.getEmail(tokenStompHeader);
+    private StompPrincipal verifySession(StompHeaderAccessor headerAccessor) {
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        Object principal = sessionAttributes == null ? null : sessionAttributes.get(StompPrincipal.SESSION_ATTRIBUTE_KEY);
 
+        if (principal instanceof StompPrincipal stompPrincipal && !stompPrincipal.isExpired()) {
+            return stompPrincipal;
+        }
+        return authenticate(headerAccessor);
+    }
 
-        hashOperations.put(session, "RedisRoomId", stringRedisRoomID);
-        hashOperations.put(session, "email", email);
+    /**
+     * 알림 채널은 본인의 채널(/sub/notifications/{email})만 구독할 수 있다.
+     */
+    private void checkNotificationSubscription(StompHeaderAccessor headerAccessor, StompPrincipal principal) {
+        String destination = headerAccessor.getDestination();
+        if (destination != null && destination.startsWith(NOTIFICATION_DESTINATION_PREFIX)
+                && !destination.equals(NOTIFICATION_DESTINATION_PREFIX + principal.getEmail())) {
+            throw UnauthorizedException.of(StompHandler.class.getName(), "다른 사용자의 알림은 구독할 수 없습니다.");
+        }
+    }
+
+    /**
+     * SUBSCRIBE 시 세션을 채팅방 접속 상태로 등록한다.
+     * 이후 heartbeat 에서 Redis 조회 없이 갱신할 수 있도록 redisRoomId 를 세션 attribute 에도 저장한다.
+     */
+    private void connectToChatRoom(StompHeaderAccessor headerAccessor, String session, StompPrincipal principal) {
+        String redisRoomId = headerAccessor.getFirstNativeHeader(REDIS_ROOM_ID);
+        if (redisRoomId == null) {
+            return;
+        }
 
-        SetOperations<String, Object> setOperations = redisTemplate.opsForSet();
-        setOperations.add(stringRedisRoomID + "set", email);
+        Objects.requireNonNull(headerAccessor.getSessionAttributes()).put(REDIS_ROOM_ID, redisRoomId);
+        chatPresenceService.connect(session, redisRoomId, principal.getEmail());
     }
 
     /**
-     * disConnect 일때는 값을 보낼 수가 없어서 connect일 때 저장한 session값으로 redisRoomId와 email을 찾는다.
-     * redisRoomId 와 email을 가지고 SetOperations에 저장된 값을 하나 지운다.
-     * 삭제로 인해,  redisRoomId 에 들어있는 인원이 한명 줄어들었음을 알 수 있다.
+     * heartbeat 나 메시지를 받을 때마다 세션의 접속 상태 TTL 을 갱신한다.
      */
+    private void refreshPresence(StompHeaderAccessor headerAccessor, String session) {
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return;
+        }
 
-    private void disConnectToChatRoom(String session) {
+        Object redisRoomId = sessionAttributes.get(REDIS_ROOM_ID);
+        Object principal = sessionAttributes.get(StompPrincipal.SESSION_ATTRIBUTE_KEY);
+        if (redisRoomId != null && principal instanceof StompPrincipal stompPrincipal) {
+            chatPresenceService.heartbeat(session, (String) redisRoomId, stompPrincipal.getEmail());
+        }
+    }
 
-        String redisRoomId = (String) redisTemplate.opsForHash().get(session, "RedisRoomId");
-        String email = (String) redisTemplate.opsForHash().get(session, "email");
-        redisTemplate.opsForSet().remove(redisRoomId + "set", email);
+    /**
+     * disConnect 일때는 값을 보낼 수가 없어서 SUBSCRIBE 때 세션에 저장한 값으로 redisRoomId와 email을 찾는다.
+     * 세션 정보가 없다면 presence 서비스가 Redis 에 저장된 세션 정보로 찾는다.
+     */
+    private void disConnectToChatRoom(StompHeaderAccessor headerAccessor, String session) {
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        String redisRoomId = null;
+        String email = null;
+
+        if (sessionAttributes != null) {
+            redisRoomId = (String) sessionAttributes.get(REDIS_ROOM_ID);
+            Object principal = sessionAttributes.get(StompPrincipal.SESSION_ATTRIBUTE_KEY);
+            email = principal instanceof StompPrincipal stompPrincipal ? stompPrincipal.getEmail() : null;
+        }
+        chatPresenceService.disconnect(session, redisRoomId, email);
     }
 }
-
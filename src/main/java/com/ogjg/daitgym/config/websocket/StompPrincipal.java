@@ -0,0 +1,51 @@
+package com.ogjg.daitgym.config.websocket;
+
+import com.ogjg.daitgym.common.exception.chat.UnauthorizedException;
+import com.ogjg.daitgym.domain.User;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * CONNECT 시 한 번 인증된 사용자 정보. WebSocket 세션 attribute 에 저장되어
+ * 이후 SEND / SUBSCRIBE 프레임과 @MessageMapping 핸들러에서 토큰 파싱이나 DB 조회 없이 사용된다.
+ * expiration : 인증에 사용된 토큰의 만료 시각. 만료 이후의 프레임에서만 토큰을 다시 검증한다.
+ */
+@Getter
+public class StompPrincipal implements Serializable {
+
+    public static final String SESSION_ATTRIBUTE_KEY = "stompPrincipal";
+
+    private final String email;
+    private final String nickname;
+    private final String imageUrl;
+    private final Date expiration;
+
+    private StompPrincipal(String email, String nickname, String imageUrl, Date expiration) {
+        this.email = email;
+        this.nickname = nickname;
+        this.imageUrl = imageUrl;
+        this.expiration = expiration;
+    }
+
+    public static StompPrincipal of(User user, Date expiration) {
+        return new StompPrincipal(user.getEmail(), user.getNickname(), user.getImageUrl(), expiration);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * 세션 attribute 에서 인증 정보를 꺼낸다. 인증되지 않은 세션이라면 예외를 던진다.
+     */
+    public static StompPrincipal from(Map<String, Object> sessionAttributes) {
+        Object principal = sessionAttributes == null ? null : sessionAttributes.get(SESSION_ATTRIBUTE_KEY);
+        if (!(principal instanceof StompPrincipal)) {
+            throw UnauthorizedException.of(StompPrincipal.class.getName(), "인증되지 않은 WebSocket 세션입니다.");
+        }
+        return (StompPrincipal) principal;
+    }
+}
@@ -3,9 +3,14 @@ package com.ogjg.daitgym.config.websocket;
 import com.ogjg.daitgym.common.exception.chat.StompExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -17,7 +22,34 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSockConfig implements WebSocketMessageBrokerConfigurer {
     private final StompHandler stompHandler;
     private final StompExceptionHandler stompExceptionHandler;
+    private final ChatDeliveryLatencyInterceptor chatDeliveryLatencyInterceptor;
 
+    private static final String BROKER_MODE_RELAY = "relay";
+
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 10_000;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
 
     /**
      * 서버와 처음 연결해주는 부분
@@ -39,10 +71,25 @@ public class WebSockConfig implements WebSocketMessageBrokerConfigurer {
      * 클라이언트와 서버 간의 메시지 교환을 관리하고 구성할 수 있으며, 클라이언트는 "/sub" 주제를 구독하여 서버로부터 메시지를 수신하고, "/pub" 주제를 사용하여 서버로 메시지를 보낼 수 있게 된다.
      * 이것은 STOMP 프로토콜을 통해 구현된 실시간 메시징 시스템을 구성하는데 사용된다.
      * enableSimpleBroker : sub로 보내면 이곳을 한번 거쳐서 프론트에 데이터전달, sub로 보내면 이곳을 한번 거쳐서 프론트에 데이터전달,클라이언트는 이 주제를 구독하여 서버에서 전송되는 메시지를 수신할 수 있음
+     * enableStompBrokerRelay : chat.broker.mode=relay 일 때 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ 등)로 구독과 발행을 위임한다.
+     * 브로커가 모든 서버의 구독자에게 메시지를 전달하므로 서버를 여러 대로 늘려도 Redis pub/sub 브릿지가 필요 없다.
+     * setHeartbeatValue : 클라이언트와 heartbeat 를 주고받아 ChatPresenceService 의 접속 상태 TTL 을 갱신한다.
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        if (BROKER_MODE_RELAY.equals(brokerMode)) {
+            registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker("/sub")
+                    .setHeartbeatValue(new long[]{HEARTBEAT_INTERVAL_MILLIS, HEARTBEAT_INTERVAL_MILLIS})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         registry.setApplicationDestinationPrefixes("/pub/chat");
     }
 
@@ -50,4 +97,9 @@ public class WebSockConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatDeliveryLatencyInterceptor);
+    }
 }
@@ -75,6 +75,16 @@ public class Approval extends BaseEntity {
     }
 
     public boolean isProceeding() {
-        return approveStatus == ApproveStatus.WAITING || approveStatus == ApproveStatus.SUSPENSION;
+        return approveStatus != null && approveStatus.isProceeding();
+    }
+
+    /**
+     * 심사를 요청한 사용자. 수상 경력이 없다면 자격증에서 찾는다.
+     */
+    public User getApplicant() {
+        if (awards == null || awards.isEmpty()) {
+            return certifications.get(FIRST_ELEMENT).getUser();
+        }
+        return awards.get(FIRST_ELEMENT).getUser();
     }
 }
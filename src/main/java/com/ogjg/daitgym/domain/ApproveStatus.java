@@ -23,4 +23,8 @@ public enum ApproveStatus {
     ApproveStatus(String title) {
         this.title = title;
     }
+
+    public boolean isProceeding() {
+        return this == WAITING || this == SUSPENSION;
+    }
 }
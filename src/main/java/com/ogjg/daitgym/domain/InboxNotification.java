@@ -0,0 +1,49 @@
+package com.ogjg.daitgym.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 앱 내 알림함
+ * outbox relay 가 알림을 보낼 때 받는 사람의 알림함에 하나씩 쌓는다.
+ * (recipientEmail, id) 인덱스로 최신순 cursor 페이지 조회와 안 읽은 알림 일괄 읽음 처리를 한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_inbox_notification_recipient", columnList = "recipientEmail, inbox_notification_id"))
+public class InboxNotification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "inbox_notification_id")
+    private Long id;
+
+    private String recipientEmail;
+
+    private String actorNickname;
+
+    @Enumerated(STRING)
+    private NotificationType type;
+
+    private Long targetId;
+
+    private String message;
+
+    private boolean isRead;
+
+    public static InboxNotification from(NotificationOutbox outbox) {
+        InboxNotification notification = new InboxNotification();
+        notification.recipientEmail = outbox.getRecipientEmail();
+        notification.actorNickname = outbox.getActorNickname();
+        notification.type = outbox.getType();
+        notification.targetId = outbox.getTargetId();
+        notification.message = outbox.getActorNickname() + "님이 " + outbox.getType().getAction();
+        return notification;
+    }
+}
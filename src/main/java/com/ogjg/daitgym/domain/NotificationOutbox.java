@@ -0,0 +1,54 @@
+package com.ogjg.daitgym.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 소셜 알림 outbox
+ * 좋아요, 댓글, 팔로우 등과 같은 트랜잭션에서 저장되고, 별도의 relay 가 모아서 FCM 으로 전송한 뒤 published 로 표시한다.
+ * targetId : 알림 대상 게시물의 id (피드 운동일지, 루틴). 팔로우처럼 대상 게시물이 없다면 null 이다.
+ * claimedBy, claimedUntil : 전송 중인 relay 서버와 claim 만료 시각. claim 이 유효한 동안 다른 서버는 알림을 가져갈 수 없다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_notification_outbox_published", columnList = "published, notification_outbox_id"))
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "notification_outbox_id")
+    private Long id;
+
+    private String recipientEmail;
+
+    private String actorEmail;
+
+    private String actorNickname;
+
+    @Enumerated(STRING)
+    private NotificationType type;
+
+    private Long targetId;
+
+    private boolean published;
+
+    private String claimedBy;
+
+    private LocalDateTime claimedUntil;
+
+    public NotificationOutbox(User recipient, User actor, NotificationType type, Long targetId) {
+        this.recipientEmail = recipient.getEmail();
+        this.actorEmail = actor.getEmail();
+        this.actorNickname = actor.getNickname();
+        this.type = type;
+        this.targetId = targetId;
+    }
+}
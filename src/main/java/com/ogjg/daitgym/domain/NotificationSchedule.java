@@ -0,0 +1,68 @@
+package com.ogjg.daitgym.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.*;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 사용자별 운동 알림 전송 시각
+ * slotMinute : 전송 시각을 UTC 기준 하루 중 몇 번째 분인지로 바꾼 값. 같은 분에 보낼 사용자들을 한 슬롯으로 묶는다.
+ * 일광 절약 시간을 쓰는 시간대는 offset 이 바뀔 때마다 slotMinute 도 다시 계산된다.
+ * 설정하지 않은 사용자는 DEFAULT_SEND_TIME(한국 시간 8시) 슬롯으로 보낸다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_notification_schedule_slot_minute", columnList = "slotMinute"))
+public class NotificationSchedule extends BaseEntity {
+
+    public static final LocalTime DEFAULT_SEND_TIME = LocalTime.of(8, 0);
+
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    public static final int DEFAULT_SLOT_MINUTE = toSlotMinute(DEFAULT_SEND_TIME, DEFAULT_ZONE);
+
+    @Id
+    private String email;
+
+    private LocalTime sendTime;
+
+    private String zoneId;
+
+    private int slotMinute;
+
+    public NotificationSchedule(String email, LocalTime sendTime, ZoneId zoneId) {
+        this.email = email;
+        change(sendTime, zoneId);
+    }
+
+    public void change(LocalTime sendTime, ZoneId zoneId) {
+        this.sendTime = sendTime.withSecond(0).withNano(0);
+        this.zoneId = zoneId.getId();
+        this.slotMinute = toSlotMinute(this.sendTime, zoneId);
+    }
+
+    /**
+     * 오늘의 UTC offset 으로 슬롯을 계산한다.
+     * 일광 절약 시간을 쓰는 시간대는 offset 이 바뀌면 NotificationScheduleSlotRefresher 가 다시 계산한다.
+     */
+    public static int toSlotMinute(LocalTime sendTime, ZoneId zoneId) {
+        return toSlotMinute(sendTime, zoneId, LocalDate.now(zoneId));
+    }
+
+    /**
+     * date 날짜의 UTC offset 으로 슬롯을 계산한다.
+     */
+    public static int toSlotMinute(LocalTime sendTime, ZoneId zoneId, LocalDate date) {
+        ZonedDateTime utc = ZonedDateTime.of(date, sendTime, zoneId)
+                .withZoneSameInstant(ZoneOffset.UTC);
+        return utc.getHour() * 60 + utc.getMinute();
+    }
+}
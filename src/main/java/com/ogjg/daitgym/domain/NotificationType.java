@@ -0,0 +1,22 @@
+package com.ogjg.daitgym.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소셜 알림 종류
+ * action : 알림 메시지에서 "{닉네임}님이 " 뒤에 붙는 문구
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationType {
+    FEED_JOURNAL_LIKE("회원님의 운동일지를 좋아합니다."),
+    FEED_JOURNAL_COMMENT("회원님의 운동일지에 댓글을 남겼습니다."),
+    ROUTINE_LIKE("회원님의 루틴을 좋아합니다."),
+    ROUTINE_COMMENT("회원님의 루틴에 댓글을 남겼습니다."),
+    ROUTINE_SCRAP("회원님의 루틴을 스크랩했습니다."),
+    JOURNAL_REPLICATION("회원님의 운동일지를 가져갔습니다."),
+    FOLLOW("회원님을 팔로우하기 시작했습니다.");
+
+    private final String action;
+}
@@ -0,0 +1,34 @@
+package com.ogjg.daitgym.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 알림 슬롯 등록 checkpoint
+ * lastEnqueuedAt : 마지막으로 슬롯 작업 등록을 마친 UTC 시각(분 단위). 다음 등록은 이 다음 분부터 시작한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+public class ReminderSlotCheckpoint {
+
+    public static final String REMINDER = "reminder";
+
+    @Id
+    @Column(name = "checkpoint_name")
+    private String name;
+
+    private LocalDateTime lastEnqueuedAt;
+
+    public ReminderSlotCheckpoint(String name, LocalDateTime lastEnqueuedAt) {
+        this.name = name;
+        this.lastEnqueuedAt = lastEnqueuedAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ogjg.daitgym.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 알림 슬롯 작업 큐
+ * scheduledAt : 슬롯의 UTC 전송 시각(분 단위). 같은 슬롯은 한 번만 등록된다.
+ * leaseOwner, leaseUntil : 슬롯을 처리 중인 서버와 lease 만료 시각. lease 가 유효한 동안 다른 서버는 슬롯을 가져갈 수 없다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = "scheduledAt"))
+public class ReminderSlotJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "reminder_slot_job_id")
+    private Long id;
+
+    private LocalDateTime scheduledAt;
+
+    private int slotMinute;
+
+    @Enumerated(STRING)
+    private ReminderSlotStatus status;
+
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    public static ReminderSlotJob pending(LocalDateTime scheduledAt) {
+        ReminderSlotJob job = new ReminderSlotJob();
+        job.scheduledAt = scheduledAt;
+        job.slotMinute = slotMinuteOf(scheduledAt);
+        job.status = ReminderSlotStatus.PENDING;
+        return job;
+    }
+
+    public static int slotMinuteOf(LocalDateTime scheduledAt) {
+        return scheduledAt.getHour() * 60 + scheduledAt.getMinute();
+    }
+}
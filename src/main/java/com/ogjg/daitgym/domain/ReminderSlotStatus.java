@@ -0,0 +1,5 @@
+package com.ogjg.daitgym.domain;
+
+public enum ReminderSlotStatus {
+    PENDING, DONE
+}
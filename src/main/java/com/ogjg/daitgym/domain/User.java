@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Pattern;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -20,6 +21,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Table(name = "users")
 @NoArgsConstructor(access = PROTECTED)
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE users SET is_deleted = true WHERE email = ?")
 @Where(clause = "is_deleted = false")
 public class User extends BaseEntity {
@@ -58,6 +60,28 @@ public class User extends BaseEntity {
 
     private boolean isDeleted;
 
+    /**
+     * 프로필 조회용 비정규화 값
+     * 팔로우, 언팔로우와 운동일지 생성, 삭제 시 UserRepository 의 증감 쿼리로 갱신하고, UserCounterReconciler 가 매일 실제 값으로 맞춘다.
+     * 증감 쿼리로 바뀐 값을 프로필 수정 등의 dirty checking 이 덮어쓰지 않도록 @DynamicUpdate 로 바뀐 컬럼만 갱신한다.
+     */
+    private int followerCount;
+
+    private int followingCount;
+
+    private int journalCount;
+
+    @Enumerated(STRING)
+    private ApproveStatus latestApprovalStatus;
+
+    /**
+     * 검색 결과의 인바디 평균 점수용 누적 값. 인바디 등록 시 증감 쿼리로 갱신한다.
+     * 컬럼이 추가되기 전의 사용자는 서버가 뜰 때 실행되는 UserCounterReconciler 가 채운다.
+     */
+    private long inbodyScoreSum;
+
+    private int inbodyCount;
+
     @Builder
     public User(String email, HealthClub healthClub, Routine activeRoutine, String nickname, LocalDate birth, String phoneNumber, String introduction, String imageUrl, Role role, ExerciseSplit preferredSplit, boolean isDeleted) {
         this.email = email;
@@ -100,6 +124,19 @@ public class User extends BaseEntity {
         this.healthClub = newHealthClub;
     }
 
+    public void changeLatestApprovalStatus(ApproveStatus approveStatus) {
+        this.latestApprovalStatus = approveStatus;
+    }
+
+    public int getInbodyScoreAverage() {
+        if (inbodyCount == 0) return 0;
+        return (int) Math.round((double) inbodyScoreSum / inbodyCount);
+    }
+
+    public boolean hasProceedingApproval() {
+        return latestApprovalStatus != null && latestApprovalStatus.isProceeding();
+    }
+
     public void promoteToTrainer() {
         if (this.role == Role.USER) {
             this.role = Role.TRAINER;
@@ -11,9 +11,15 @@ import java.io.Serializable;
 import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
+/**
+ * 팔로우 관계
+ * PK 는 (follower_email, target_email) 순서라 팔로잉 기준 피드, 루틴 조회와 팔로잉 목록은 PK 로 처리되고,
+ * 팔로워 목록과 팔로워 수는 (target_email, follower_email) 인덱스로 처리된다.
+ */
 @Entity
 @NoArgsConstructor(access = PROTECTED)
 @Getter
+@Table(indexes = @Index(name = "idx_follow_target", columnList = "target_email, follower_email"))
 public class Follow {
 
     @EmbeddedId
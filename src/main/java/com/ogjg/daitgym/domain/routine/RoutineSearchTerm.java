@@ -0,0 +1,38 @@
+package com.ogjg.daitgym.domain.routine;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 루틴 검색용 역색인
+ * 루틴 하나당 제목, 설명의 2-gram 과 운동, 운동부위마다 한 행씩 저장한다.
+ * duration 을 함께 두어 (term, routine_id, duration) 인덱스만으로 검색어별 최신순 keyset 조회와 기간 조건을 처리하고 routine 테이블은 읽지 않는다.
+ * 루틴 생성, 삭제 시 RoutineSearchIndex 에서 함께 저장, 삭제한다.
+ * 같은 루틴의 같은 검색어가 두 번 저장되어 검색 결과에 루틴이 중복되지 않도록 (term, routine_id) 는 unique 이다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "uk_routine_search_term_term_routine", columnList = "term, routine_id", unique = true),
+        @Index(name = "idx_routine_search_term_keyset", columnList = "term, routine_id, duration"),
+        @Index(name = "idx_routine_search_term_routine", columnList = "routine_id")
+})
+public class RoutineSearchTerm {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String term;
+
+    @Column(name = "routine_id", nullable = false)
+    private Long routineId;
+
+    private int duration;
+}
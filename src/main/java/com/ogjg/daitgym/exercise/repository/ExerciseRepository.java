@@ -2,9 +2,25 @@ package com.ogjg.daitgym.exercise.repository;
 
 import com.ogjg.daitgym.domain.exercise.Exercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
     Optional<Exercise> findByName(String name);
+
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.exercisePart")
+    List<Exercise> findAllWithExercisePart();
+
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.exercisePart WHERE e.id = :exerciseId")
+    Optional<Exercise> findWithExercisePartById(@Param("exerciseId") Long exerciseId);
+
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.exercisePart WHERE e.name = :name")
+    Optional<Exercise> findWithExercisePartByName(@Param("name") String name);
+
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.exercisePart WHERE e.name IN :names")
+    List<Exercise> findAllByNameIn(@Param("names") Collection<String> names);
 }
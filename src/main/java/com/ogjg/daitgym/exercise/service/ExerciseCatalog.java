@@ -0,0 +1,199 @@
+package com.ogjg.daitgym.exercise.service;
+
+import com.ogjg.daitgym.domain.exercise.Exercise;
+import com.ogjg.daitgym.exercise.repository.ExerciseRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 운동, 운동부위 목록 캐시
+ * 운동 목록은 거의 바뀌지 않는 기준 데이터이므로 시작할 때 전체를 읽어 id, 이름, 부위별 불변 Map 으로 들고 있는다.
+ * 캐시에 없는 운동은 DB 에서 조회해 캐시에 더하고(read-through), 여러 이름이 없다면 IN 쿼리 한 번으로 조회한다.
+ * DB 에도 없는 이름은 MISSING_NAME_TTL 동안 기억해 같은 이름으로 DB 를 다시 조회하지 않는다. 최대 MAX_MISSING_NAMES 개까지만 기억한다.
+ * 운동 데이터를 바꾼 뒤에는 refresh 로 없는 이름 기록까지 모두 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseCatalog {
+
+    private static final Duration MISSING_NAME_TTL = Duration.ofMinutes(1);
+    private static final int MAX_MISSING_NAMES = 1_000;
+
+    private final ExerciseRepository exerciseRepository;
+
+    private final Map<String, Long> missingNameExpiresAt = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void refresh() {
+        missingNameExpiresAt.clear();
+        snapshot = new Snapshot(exerciseRepository.findAllWithExercisePart().stream()
+                .map(CatalogExercise::from)
+                .toList());
+        log.info("운동 목록 캐시 로딩 exercises={}", snapshot.byId.size());
+    }
+
+    public Optional<CatalogExercise> findById(Long exerciseId) {
+        return find(snapshot.byId.get(exerciseId), () -> exerciseRepository.findWithExercisePartById(exerciseId));
+    }
+
+    public Optional<CatalogExercise> findByName(String exerciseName) {
+        CatalogExercise cached = snapshot.byName.get(exerciseName);
+        if (cached == null && isKnownMissing(exerciseName, System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+
+        Optional<CatalogExercise> found = find(cached, () -> exerciseRepository.findWithExercisePartByName(exerciseName));
+        if (found.isEmpty()) {
+            rememberMissing(List.of(exerciseName));
+        }
+        return found;
+    }
+
+    /**
+     * 이름별 운동. 캐시에 없는 이름은 IN 쿼리 한 번으로 조회하고, DB 에도 없는 이름은 결과에서 빠진다.
+     */
+    public Map<String, CatalogExercise> findAllByNames(Collection<String> exerciseNames) {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        Map<String, CatalogExercise> found = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+
+        for (String exerciseName : exerciseNames) {
+            CatalogExercise cached = current.byName.get(exerciseName);
+            if (cached != null) {
+                found.put(exerciseName, cached);
+            } else if (!isKnownMissing(exerciseName, now)) {
+                misses.add(exerciseName);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        List<CatalogExercise> loaded = exerciseRepository.findAllByNameIn(misses).stream()
+                .map(CatalogExercise::from)
+                .toList();
+        addAll(loaded);
+        loaded.forEach(exercise -> {
+            found.put(exercise.getName(), exercise);
+            misses.remove(exercise.getName());
+        });
+        rememberMissing(misses);
+        return found;
+    }
+
+    /**
+     * 운동부위에 속하는 운동 목록. 캐시에서만 조회한다.
+     */
+    public List<CatalogExercise> findAllByPart(String part) {
+        return snapshot.byPart.getOrDefault(part, List.of());
+    }
+
+    private Optional<CatalogExercise> find(CatalogExercise cached, Supplier<Optional<Exercise>> loader) {
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<CatalogExercise> loaded = loader.get().map(CatalogExercise::from);
+        loaded.ifPresent(this::add);
+        return loaded;
+    }
+
+    private void add(CatalogExercise exercise) {
+        addAll(List.of(exercise));
+    }
+
+    /**
+     * 운동을 더한 새 Snapshot 으로 교체한다(copy-on-write). 이미 읽어간 Snapshot 의 Map 은 바뀌지 않는다.
+     */
+    private synchronized void addAll(List<CatalogExercise> loaded) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CatalogExercise> exercises = new HashMap<>(snapshot.byId);
+        loaded.forEach(exercise -> exercises.put(exercise.getId(), exercise));
+        snapshot = new Snapshot(new ArrayList<>(exercises.values()));
+    }
+
+    private boolean isKnownMissing(String exerciseName, long now) {
+        Long expiresAt = missingNameExpiresAt.get(exerciseName);
+        if (expiresAt == null) {
+            return false;
+        }
+
+        if (expiresAt <= now) {
+            missingNameExpiresAt.remove(exerciseName, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void rememberMissing(Collection<String> exerciseNames) {
+        if (exerciseNames.isEmpty()) {
+            return;
+        }
+
+        if (missingNameExpiresAt.size() + exerciseNames.size() > MAX_MISSING_NAMES) {
+            missingNameExpiresAt.clear();
+        }
+        long expiresAt = System.currentTimeMillis() + MISSING_NAME_TTL.toMillis();
+        exerciseNames.stream()
+                .limit(MAX_MISSING_NAMES)
+                .forEach(exerciseName -> missingNameExpiresAt.put(exerciseName, expiresAt));
+    }
+
+    @Getter
+    public static class CatalogExercise {
+        private final Long id;
+        private final String name;
+        private final String part;
+
+        private CatalogExercise(Long id, String name, String part) {
+            this.id = id;
+            this.name = name;
+            this.part = part;
+        }
+
+        private static CatalogExercise from(Exercise exercise) {
+            String part = exercise.getExercisePart() == null ? null : exercise.getExercisePart().getPart();
+            return new CatalogExercise(exercise.getId(), exercise.getName(), part);
+        }
+    }
+
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(List.of());
+
+        private final Map<Long, CatalogExercise> byId;
+        private final Map<String, CatalogExercise> byName;
+        private final Map<String, List<CatalogExercise>> byPart;
+
+        private Snapshot(List<CatalogExercise> exercises) {
+            this.byId = exercises.stream()
+                    .collect(Collectors.toUnmodifiableMap(CatalogExercise::getId, exercise -> exercise, (first, second) -> first));
+            this.byName = exercises.stream()
+                    .filter(exercise -> exercise.getName() != null)
+                    .collect(Collectors.toUnmodifiableMap(CatalogExercise::getName, exercise -> exercise, (first, second) -> first));
+            this.byPart = byId.values().stream()
+                    .filter(exercise -> exercise.getPart() != null)
+                    .sorted(Comparator.comparing(CatalogExercise::getId))
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.groupingBy(CatalogExercise::getPart, Collectors.toUnmodifiableList()),
+                            Collections::unmodifiableMap
+                    ));
+        }
+    }
+}
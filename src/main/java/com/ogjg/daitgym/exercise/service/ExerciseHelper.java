@@ -3,29 +3,27 @@ package com.ogjg.daitgym.exercise.service;
 import com.ogjg.daitgym.common.exception.exercise.NotFoundExercise;
 import com.ogjg.daitgym.common.exception.exercise.NotFoundExercisePart;
 import com.ogjg.daitgym.domain.exercise.Exercise;
-import com.ogjg.daitgym.domain.exercise.ExercisePart;
-import com.ogjg.daitgym.exercise.repository.ExercisePartRepository;
 import com.ogjg.daitgym.exercise.repository.ExerciseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ExerciseHelper {
 
     private final ExerciseRepository exerciseRepository;
-    private final ExercisePartRepository exercisePartRepository;
+    private final ExerciseCatalog exerciseCatalog;
 
     /**
      * 운동검색
      * 운동이름으로 운동 존재하는지 확인하기
+     * 존재 여부는 운동 목록 캐시로 확인하고, 연관관계에 쓸 수 있도록 조회 쿼리 없이 참조를 반환한다.
      */
     public Exercise findExercise(String exerciseName) {
-        return exerciseRepository.findByName(exerciseName)
+        return exerciseCatalog.findByName(exerciseName)
+                .map(catalogExercise -> exerciseRepository.getReferenceById(catalogExercise.getId()))
                 .orElseThrow(NotFoundExercise::new);
     }
 
@@ -34,7 +32,8 @@ public class ExerciseHelper {
      * 운동Id로 운동 존재하는지 확인하기
      */
     public Exercise findExercise(Long exerciseId) {
-        return exerciseRepository.findById(exerciseId)
+        return exerciseCatalog.findById(exerciseId)
+                .map(catalogExercise -> exerciseRepository.getReferenceById(catalogExercise.getId()))
                 .orElseThrow(NotFoundExercise::new);
     }
 
@@ -44,18 +43,9 @@ public class ExerciseHelper {
     public String findExercisePartByExercise(
             Exercise exercise
     ) {
-        return exercisePartRepository.findByExercise(exercise)
-                .orElseThrow(NotFoundExercisePart::new)
-                .getPart();
-    }
-
-    /**
-     * 운동부위로 운동 찾기
-     */
-    public List<ExercisePart> findExerciseListsByPart(
-            String part
-    ) {
-        return exercisePartRepository.findAllByPart(part);
+        return exerciseCatalog.findById(exercise.getId())
+                .map(ExerciseCatalog.CatalogExercise::getPart)
+                .orElseThrow(NotFoundExercisePart::new);
     }
 
 }
@@ -13,20 +13,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ExerciseService {
 
-    private final ExerciseHelper exerciseHelper;
+    private final ExerciseCatalog exerciseCatalog;
 
     /**
      * 운동부위에 속하는 운동 목록 반환
+     * DB 를 조회하지 않고 운동 목록 캐시에서 반환한다.
      */
     public ExerciseListResponse exerciseLists(
             String part
     ) {
-        List<ExerciseListDto> exerciseListDtos = exerciseHelper.findExerciseListsByPart(part)
+        List<ExerciseListDto> exerciseListDtos = exerciseCatalog.findAllByPart(part)
                 .stream()
-                .map(exercisePart -> new ExerciseListDto(
-                        exercisePart.getExercise().getId(),
-                        exercisePart.getExercise().getName(),
-                        exercisePart.getPart())
+                .map(exercise -> new ExerciseListDto(
+                        exercise.getId(),
+                        exercise.getName(),
+                        exercise.getPart())
                 ).toList();
 
         return new ExerciseListResponse(exerciseListDtos);
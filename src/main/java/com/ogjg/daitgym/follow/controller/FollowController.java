@@ -8,6 +8,7 @@ import com.ogjg.daitgym.follow.dto.response.FollowListResponse;
 import com.ogjg.daitgym.follow.service.FollowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -70,9 +71,10 @@ public class FollowController {
      */
     @GetMapping("/follower-list/{nickname}")
     public ApiResponse<FollowListResponse> followerList(
-            @PathVariable("nickname") String nickname
+            @PathVariable("nickname") String nickname,
+            Pageable pageable
     ) {
-        return new ApiResponse<>(ErrorCode.SUCCESS, followService.followerList(nickname));
+        return new ApiResponse<>(ErrorCode.SUCCESS, followService.followerList(nickname, pageable));
     }
 
     /**
@@ -80,8 +82,9 @@ public class FollowController {
      */
     @GetMapping("/following-list/{nickname}")
     public ApiResponse<FollowListResponse> followingList(
-            @PathVariable("nickname") String nickname
+            @PathVariable("nickname") String nickname,
+            Pageable pageable
     ) {
-        return new ApiResponse<>(ErrorCode.SUCCESS, followService.followingList(nickname));
+        return new ApiResponse<>(ErrorCode.SUCCESS, followService.followingList(nickname, pageable));
     }
 }
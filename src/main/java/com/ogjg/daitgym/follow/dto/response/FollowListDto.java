@@ -15,14 +15,11 @@ public class FollowListDto {
     private String intro;
     private int score;
 
-    public void putLatestInbodyScore(int score){
-        this.score = score;
-    }
-
     @QueryProjection
-    public FollowListDto(String imageUrl, String nickname, String intro) {
+    public FollowListDto(String imageUrl, String nickname, String intro, int score) {
         this.imageUrl = imageUrl;
         this.nickname = nickname;
         this.intro = intro;
+        this.score = score;
     }
 }
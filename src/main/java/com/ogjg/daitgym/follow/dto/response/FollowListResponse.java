@@ -2,6 +2,7 @@ package com.ogjg.daitgym.follow.dto.response;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +14,12 @@ import static lombok.AccessLevel.PROTECTED;
 public class FollowListResponse {
 
     List<FollowListDto> followList = new ArrayList<>();
+    private int currentPage;
+    private boolean hasNext;
 
-    public FollowListResponse(List<FollowListDto> followList) {
-        this.followList = followList;
+    public FollowListResponse(Slice<FollowListDto> followList) {
+        this.followList = followList.getContent();
+        this.currentPage = followList.getNumber();
+        this.hasNext = followList.hasNext();
     }
 }
@@ -0,0 +1,57 @@
+package com.ogjg.daitgym.follow.repository;
+
+import com.ogjg.daitgym.common.redis.RedisSetCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 팔로잉 email 캐시
+ * 사용자가 팔로우한 사람의 email 을 Redis set 에 담아 두고, 팔로우 여부를 SISMEMBER 로 set 크기와 상관없이 한 번에 확인한다.
+ * 채우기와 팔로우, 언팔로우 반영은 RedisSetCache 를 사용하므로, 키가 존재하면 항상 전체 관계를 담고 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowGraphCache {
+
+    private static final String KEY_PREFIX = "follow:following:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    private final RedisSetCache redisSetCache;
+
+    /**
+     * 캐시가 채워져 있다면 followerEmail 사용자가 targetEmail 사용자를 팔로우하는지 반환한다. 캐시가 없다면 empty 를 반환한다.
+     */
+    public Optional<Boolean> contains(String followerEmail, String targetEmail) {
+        return redisSetCache.contains(key(followerEmail), targetEmail);
+    }
+
+    /**
+     * DB 에서 조회한 사용자의 전체 팔로잉으로 캐시를 채우고, 조회한 email 을 반환한다.
+     */
+    public <T extends Collection<String>> T fill(String followerEmail, Supplier<T> targetEmailsLoader) {
+        return redisSetCache.fill(key(followerEmail), CACHE_TTL, targetEmailsLoader);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 팔로우를 반영한다.
+     */
+    public void addAfterCommit(String followerEmail, String targetEmail) {
+        redisSetCache.addAfterCommit(key(followerEmail), targetEmail, CACHE_TTL);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 팔로우를 제거한다.
+     */
+    public void removeAfterCommit(String followerEmail, String targetEmail) {
+        redisSetCache.removeAfterCommit(key(followerEmail), targetEmail, CACHE_TTL);
+    }
+
+    private String key(String followerEmail) {
+        return KEY_PREFIX + followerEmail;
+    }
+}
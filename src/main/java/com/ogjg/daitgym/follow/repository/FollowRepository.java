@@ -2,6 +2,8 @@ package com.ogjg.daitgym.follow.repository;
 
 import com.ogjg.daitgym.domain.follow.Follow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,5 +17,8 @@ public interface FollowRepository extends JpaRepository<Follow, Follow.PK>, Foll
     Optional<List<Follow>> findAllByFollowerEmail(String followingEmail);
 
     Optional<Follow> findByFollowPK(Follow.PK followPK);
+
+    @Query("SELECT f.followPK.targetEmail FROM Follow f WHERE f.followPK.followerEmail = :followerEmail")
+    List<String> findTargetEmailsByFollowerEmail(@Param("followerEmail") String followerEmail);
 }
 
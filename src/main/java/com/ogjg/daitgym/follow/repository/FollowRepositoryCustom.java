@@ -1,13 +1,13 @@
 package com.ogjg.daitgym.follow.repository;
 
 import com.ogjg.daitgym.follow.dto.response.FollowListDto;
-
-import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface FollowRepositoryCustom {
 
-    List<FollowListDto> followingList(String nickname);
+    Slice<FollowListDto> followingList(String email, Pageable pageable);
 
-    List<FollowListDto> followerList(String nickname);
+    Slice<FollowListDto> followerList(String email, Pageable pageable);
 
 }
@@ -1,14 +1,20 @@
 package com.ogjg.daitgym.follow.repository;
 
-import com.ogjg.daitgym.domain.QUser;
-import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.QInbody;
 import com.ogjg.daitgym.follow.dto.response.FollowListDto;
 import com.ogjg.daitgym.follow.dto.response.QFollowListDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 
+import static com.ogjg.daitgym.domain.QInbody.inbody;
 import static com.ogjg.daitgym.domain.QUser.user;
 import static com.ogjg.daitgym.domain.follow.QFollow.follow;
 
@@ -17,33 +23,76 @@ public class FollowRepositoryImpl implements FollowRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 사용자가 팔로우한 사람 목록
+     */
     @Override
-    public List<FollowListDto> followingList(String nickname) {
-        return jpaQueryFactory
-                .select(
-                        new QFollowListDto(
-                                user.imageUrl,
-                                user.nickname,
-                                user.introduction
-                        ))
-                .from(follow)
-                .join(follow.target, user)
-                .where(follow.follower.nickname.eq(nickname))
-                .fetch();
+    public Slice<FollowListDto> followingList(String email, Pageable pageable) {
+        return fetchSlice(
+                selectFollowListDtos()
+                        .from(follow)
+                        .join(follow.target, user)
+                        .leftJoin(inbody).on(latestInbodyOfUser())
+                        .where(follow.followPK.followerEmail.eq(email)),
+                pageable
+        );
     }
 
+    /**
+     * 사용자를 팔로우한 사람 목록
+     */
     @Override
-    public List<FollowListDto> followerList(String nickname) {
-        return jpaQueryFactory
-                .select(
-                        new QFollowListDto(
-                                user.imageUrl,
-                                user.nickname,
-                                user.introduction
-                        ))
-                .from(follow)
-                .join(follow.follower, user)
-                .where(follow.target.nickname.eq(nickname))
+    public Slice<FollowListDto> followerList(String email, Pageable pageable) {
+        return fetchSlice(
+                selectFollowListDtos()
+                        .from(follow)
+                        .join(follow.follower, user)
+                        .leftJoin(inbody).on(latestInbodyOfUser())
+                        .where(follow.followPK.targetEmail.eq(email)),
+                pageable
+        );
+    }
+
+    /**
+     * 목록에 나오는 사용자마다 최신 인바디 점수를 함께 조회한다. 인바디 기록이 없다면 0 이다.
+     */
+    private JPAQuery<FollowListDto> selectFollowListDtos() {
+        return jpaQueryFactory.select(
+                new QFollowListDto(
+                        user.imageUrl,
+                        user.nickname,
+                        user.introduction,
+                        inbody.score.coalesce(0)
+                ));
+    }
+
+    /**
+     * 최신 인바디는 사용자별로 가장 마지막에 저장된(id 가 가장 큰) 기록이다.
+     */
+    private BooleanExpression latestInbodyOfUser() {
+        QInbody latestInbody = new QInbody("latestInbody");
+
+        return inbody.id.eq(
+                JPAExpressions.select(latestInbody.id.max())
+                        .from(latestInbody)
+                        .where(latestInbody.user.eq(user))
+        );
+    }
+
+    /**
+     * 닉네임 순으로 조회하고, 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다.
+     */
+    private Slice<FollowListDto> fetchSlice(JPAQuery<FollowListDto> query, Pageable pageable) {
+        List<FollowListDto> content = query
+                .orderBy(user.nickname.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 }
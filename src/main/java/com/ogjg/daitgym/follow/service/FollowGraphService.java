@@ -0,0 +1,41 @@
+package com.ogjg.daitgym.follow.service;
+
+import com.ogjg.daitgym.follow.repository.FollowGraphCache;
+import com.ogjg.daitgym.follow.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 팔로우 관계 조회
+ * 팔로우 여부는 FollowGraphCache 에서 확인하고, 캐시가 없는 사용자는 DB 에서 전체 관계를 한 번 읽어 채운다.
+ * 팔로우, 언팔로우처럼 DB 를 바꾸는 요청은 캐시 대신 DB 에서 관계를 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService {
+
+    private final FollowRepository followRepository;
+    private final FollowGraphCache followGraphCache;
+
+    /**
+     * followerEmail 사용자가 targetEmail 사용자를 팔로우하고 있는지 확인한다.
+     */
+    public boolean isFollowing(String followerEmail, String targetEmail) {
+        return followGraphCache.contains(followerEmail, targetEmail)
+                .orElseGet(() -> loadFollowing(followerEmail).contains(targetEmail));
+    }
+
+    public void followed(String followerEmail, String targetEmail) {
+        followGraphCache.addAfterCommit(followerEmail, targetEmail);
+    }
+
+    public void unfollowed(String followerEmail, String targetEmail) {
+        followGraphCache.removeAfterCommit(followerEmail, targetEmail);
+    }
+
+    private List<String> loadFollowing(String email) {
+        return followGraphCache.fill(email, () -> followRepository.findTargetEmailsByFollowerEmail(email));
+    }
+}
@@ -1,23 +1,22 @@
 package com.ogjg.daitgym.follow.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.common.exception.follow.AlreadyFollowUser;
 import com.ogjg.daitgym.common.exception.follow.NotFoundFollow;
 import com.ogjg.daitgym.common.exception.user.NotFoundUser;
-import com.ogjg.daitgym.domain.Inbody;
 import com.ogjg.daitgym.domain.User;
 import com.ogjg.daitgym.domain.follow.Follow;
 import com.ogjg.daitgym.follow.dto.response.FollowCountResponse;
-import com.ogjg.daitgym.follow.dto.response.FollowListDto;
 import com.ogjg.daitgym.follow.dto.response.FollowListResponse;
 import com.ogjg.daitgym.follow.repository.FollowRepository;
-import com.ogjg.daitgym.user.repository.InbodyRepository;
 import com.ogjg.daitgym.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import static com.ogjg.daitgym.domain.NotificationType.FOLLOW;
 
 @Slf4j
 @Service
@@ -25,8 +24,9 @@ import java.util.List;
 public class FollowService {
 
     private final FollowRepository followRepository;
+    private final FollowGraphService followGraphService;
     private final UserRepository userRepository;
-    private final InbodyRepository inbodyRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 팔로우
@@ -42,12 +42,16 @@ public class FollowService {
 
         Follow.PK followPK = Follow.createFollowPK(targetUser.getEmail(), email);
 
-        if (followRepository.findById(followPK).isPresent())
+        if (followRepository.existsById(followPK))
             throw new AlreadyFollowUser();
 
         followRepository.save(
                 new Follow(followPK, targetUser, user)
         );
+        userRepository.addFollowingCount(email, 1);
+        userRepository.addFollowerCount(targetUser.getEmail(), 1);
+        followGraphService.followed(email, targetUser.getEmail());
+        notificationOutboxService.record(targetUser, user, FOLLOW, null);
     }
 
     /**
@@ -57,8 +61,13 @@ public class FollowService {
     public void unfollow(String email, String targetNickname) {
         User targetUser = findUserByNickName(targetNickname);
         Follow.PK followPK = Follow.createFollowPK(targetUser.getEmail(), email);
-        findFollowByFollowPK(followPK);
+        if (!followRepository.existsById(followPK))
+            throw new NotFoundFollow();
+
         followRepository.deleteById(followPK);
+        userRepository.addFollowingCount(email, -1);
+        userRepository.addFollowerCount(targetUser.getEmail(), -1);
+        followGraphService.unfollowed(email, targetUser.getEmail());
     }
 
     /**
@@ -67,7 +76,7 @@ public class FollowService {
     @Transactional(readOnly = true)
     public FollowCountResponse followerCount(String nickname) {
         User user = findUserByNickName(nickname);
-        int followerCount = followRepository.countByFollowPKTargetEmail(user.getEmail());
+        int followerCount = user.getFollowerCount();
 
         return new FollowCountResponse(followerCount);
     }
@@ -78,54 +87,30 @@ public class FollowService {
     @Transactional(readOnly = true)
     public FollowCountResponse followingCount(String nickname) {
         User user = findUserByNickName(nickname);
-        int followingCount = followRepository.countByFollowPKFollowerEmail(user.getEmail());
+        int followingCount = user.getFollowingCount();
 
         return new FollowCountResponse(followingCount);
     }
 
     /**
      * 내가 팔로우한 사람들 목록
+     * 목록에 나오는 사용자마다의 최신 인바디 점수를 한 번의 쿼리로 함께 조회한다.
      */
     @Transactional(readOnly = true)
-    public FollowListResponse followingList(String nickname) {
+    public FollowListResponse followingList(String nickname, Pageable pageable) {
         User user = findUserByNickName(nickname);
-        List<FollowListDto> followingList = followRepository.followingList(nickname);
-
-        followingList.forEach(
-                following -> following.putLatestInbodyScore(
-                        userLatestInbodyScore(user.getEmail())
-                )
-        );
 
-        return new FollowListResponse(followingList);
+        return new FollowListResponse(followRepository.followingList(user.getEmail(), pageable));
     }
 
     /**
      * 나를 팔로우한 사람들 목록
      */
     @Transactional(readOnly = true)
-    public FollowListResponse followerList(String nickname) {
+    public FollowListResponse followerList(String nickname, Pageable pageable) {
         User user = findUserByNickName(nickname);
-        List<FollowListDto> followerList = followRepository.followerList(nickname);
 
-        followerList.forEach(
-                follower -> follower.putLatestInbodyScore(
-                        userLatestInbodyScore(user.getEmail())
-                )
-        );
-
-        return new FollowListResponse(followerList);
-    }
-
-    /**
-     * 가장 최근의 인바디
-     * @param email
-     * @return
-     */
-    private int userLatestInbodyScore(String email) {
-            return inbodyRepository.findFirstByUserEmailOrderByCreatedAtDesc(email)
-                    .map(Inbody::getScore)
-                    .orElse(0);
+        return new FollowListResponse(followRepository.followerList(user.getEmail(), pageable));
     }
 
     /**
@@ -143,14 +128,4 @@ public class FollowService {
         return userRepository.findByNickname(nickname)
                 .orElseThrow(NotFoundUser::new);
     }
-
-    /**
-     * Follow 찾기
-     */
-    private void findFollowByFollowPK(
-            Follow.PK followPk
-    ) {
-        followRepository.findById(followPk)
-                .orElseThrow(NotFoundFollow::new);
-    }
 }
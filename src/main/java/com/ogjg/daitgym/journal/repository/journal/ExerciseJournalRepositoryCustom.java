@@ -2,9 +2,13 @@ package com.ogjg.daitgym.journal.repository.journal;
 
 import com.querydsl.core.Tuple;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface ExerciseJournalRepositoryCustom {
 
     List<Tuple> fetchCompleteExerciseJournalByJournalId(Long journalId);
+
+    List<Tuple> findExerciseNamesOfJournals(Collection<String> emails, LocalDate journalDate);
 }
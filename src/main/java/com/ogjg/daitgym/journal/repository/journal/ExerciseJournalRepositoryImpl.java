@@ -4,8 +4,11 @@ import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import static com.ogjg.daitgym.domain.exercise.QExercise.exercise;
 import static com.ogjg.daitgym.domain.journal.QExerciseHistory.exerciseHistory;
 import static com.ogjg.daitgym.domain.journal.QExerciseJournal.exerciseJournal;
 import static com.ogjg.daitgym.domain.journal.QExerciseList.exerciseList;
@@ -29,4 +32,25 @@ public class ExerciseJournalRepositoryImpl implements ExerciseJournalRepositoryC
                 .join(exerciseHistory).on(exerciseList.id.eq(exerciseHistory.exerciseList.id)).fetchJoin()
                 .fetch();
     }
+
+    /**
+     * 여러 사용자의 특정 날짜 운동일지와 운동 이름을 한번에 조회하기
+     * 운동이 없는 운동일지는 운동 이름이 null 인 행 하나로 조회된다.
+     */
+    @Override
+    public List<Tuple> findExerciseNamesOfJournals(
+            Collection<String> emails, LocalDate journalDate
+    ) {
+        return jpaQueryFactory.select(
+                        exerciseJournal.user.email, exercise.name
+                ).from(exerciseJournal)
+                .leftJoin(exerciseList).on(exerciseJournal.id.eq(exerciseList.exerciseJournal.id))
+                .leftJoin(exerciseList.exercise, exercise)
+                .where(
+                        exerciseJournal.user.email.in(emails),
+                        exerciseJournal.journalDate.eq(journalDate)
+                )
+                .orderBy(exerciseJournal.id.asc(), exerciseList.id.asc())
+                .fetch();
+    }
 }
@@ -202,9 +202,11 @@ public class ExerciseJournalHelper {
             throw new AlreadyExistExerciseJournal();
         }
 
-        return exerciseJournalRepository.save(
+        ExerciseJournal journal = exerciseJournalRepository.save(
                 ExerciseJournal.createJournal(user, journalDate)
         );
+        userRepository.addJournalCount(email, 1);
+        return journal;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.journal.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.common.exception.feed.AlreadyExistFeedJournal;
 import com.ogjg.daitgym.common.exception.journal.NotCompletedExerciseJournal;
 import com.ogjg.daitgym.domain.User;
@@ -18,6 +19,7 @@ import com.ogjg.daitgym.journal.dto.response.dto.UserJournalListDto;
 import com.ogjg.daitgym.journal.repository.exercisehistory.ExerciseHistoryRepository;
 import com.ogjg.daitgym.journal.repository.exerciselist.ExerciseListRepository;
 import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
 import com.ogjg.daitgym.user.service.UserHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +30,8 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.util.List;
 
+import static com.ogjg.daitgym.domain.NotificationType.JOURNAL_REPLICATION;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -40,6 +44,8 @@ public class ExerciseJournalService {
     private final FeedJournalHelper feedJournalHelper;
     private final ExerciseJournalHelper exerciseJournalHelper;
     private final UserHelper userHelper;
+    private final UserRepository userRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 빈 운동일지 생성하기
@@ -126,6 +132,7 @@ public class ExerciseJournalService {
         exerciseListRepository.deleteAllByExerciseJournal(journal);
 
         exerciseJournalRepository.delete(journal);
+        userRepository.addJournalCount(email, -1);
     }
 
     /**
@@ -199,6 +206,7 @@ public class ExerciseJournalService {
 
         exerciseJournalHelper.replicateExerciseListAndHistoryByJournal(replicatedUserJournal, originalExerciseLists);
         exerciseJournalHelper.saveReplicationHistory(email, originalJournal, replicatedUserJournal);
+        notificationOutboxService.record(originalJournal.getUser(), replicatedUserJournal.getUser(), JOURNAL_REPLICATION, originalFeedJournalId);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.like.feedExerciseJournal.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.NotFoundFeedJournal;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.NotFoundUser;
 import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
@@ -14,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.ogjg.daitgym.domain.NotificationType.FEED_JOURNAL_LIKE;
+
 @Service
 @RequiredArgsConstructor
 public class FeedExerciseJournalLikeService {
@@ -21,6 +24,7 @@ public class FeedExerciseJournalLikeService {
     private final UserRepository userRepository;
     private final FeedExerciseJournalRepository feedJournalRepository;
     private final FeedExerciseJournalLikeRepository feedJournalLikeRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
 
     @Transactional
@@ -32,6 +36,7 @@ public class FeedExerciseJournalLikeService {
 
         if (!feedJournalLikeRepository.existsByUserEmailAndFeedExerciseJournalId(user.getEmail(), feedJournalId)) {
             feedJournalLikeRepository.save(new FeedExerciseJournalLike(user, feedExerciseJournal));
+            notificationOutboxService.record(feedExerciseJournal.getExerciseJournal().getUser(), user, FEED_JOURNAL_LIKE, feedJournalId);
         }
         int likeCount = feedJournalLikeRepository.countByFeedJournalLikePkFeedExerciseJournalId(feedJournalId);
         return new FeedExerciseJournalLikeResponse(likeCount);
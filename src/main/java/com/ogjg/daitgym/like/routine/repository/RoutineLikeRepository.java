@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface RoutineLikeRepository extends JpaRepository<RoutineLike, Long> {
@@ -18,6 +19,9 @@ public interface RoutineLikeRepository extends JpaRepository<RoutineLike, Long>
     @Query("SELECT rl.routine.id FROM RoutineLike rl WHERE rl.user.nickname = :nickname")
     Set<Long> findLikedRoutineIdByUserNickname(String nickname);
 
+    @Query("SELECT rl.routine.id FROM RoutineLike rl WHERE rl.user.email = :email AND rl.routine.id IN :routineIds")
+    Set<Long> findLikedRoutineIdByUserEmailAndRoutineIdIn(@Param("email") String email, @Param("routineIds") Collection<Long> routineIds);
+
     @Query("SELECT COUNT(rl) FROM RoutineLike rl WHERE rl.routine.id = :routineId")
     long countByRoutineId(@Param("routineId") Long routineId);
 
@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.like.routine.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.NotFoundUser;
 import com.ogjg.daitgym.comment.routine.exception.NotFoundRoutine;
 import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
@@ -8,18 +9,24 @@ import com.ogjg.daitgym.domain.routine.Routine;
 import com.ogjg.daitgym.domain.routine.RoutineLike;
 import com.ogjg.daitgym.like.routine.dto.RoutineLikeResponse;
 import com.ogjg.daitgym.like.routine.repository.RoutineLikeRepository;
+import com.ogjg.daitgym.routine.repository.RoutineReactionCache;
 import com.ogjg.daitgym.routine.repository.RoutineRepository;
 import com.ogjg.daitgym.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import static com.ogjg.daitgym.domain.NotificationType.ROUTINE_LIKE;
+import static com.ogjg.daitgym.routine.repository.RoutineReactionCache.Reaction.LIKED;
+
 @Service
 @RequiredArgsConstructor
 public class RoutineLikeService {
     private final UserRepository userRepository;
     private final RoutineRepository routineRepository;
     private final RoutineLikeRepository routineLikeRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final RoutineReactionCache routineReactionCache;
 
     @Transactional
     public RoutineLikeResponse routineLike(Long routineId,
@@ -30,6 +37,8 @@ public class RoutineLikeService {
 
         if (!routineLikeRepository.existsByUserEmailAndRoutineId(user.getEmail(), routineId)) {
             routineLikeRepository.save(new RoutineLike(user, routine));
+            routineReactionCache.addAfterCommit(LIKED, user.getEmail(), routineId);
+            notificationOutboxService.record(routine.getUser(), user, ROUTINE_LIKE, routineId);
         }
 
         int likeCount = routineLikeRepository.countByRoutineLikePkRoutineId(routineId);
@@ -45,6 +54,7 @@ public class RoutineLikeService {
 
         if (routineLikeRepository.existsByUserEmailAndRoutineId(user.getEmail(), routineId)) {
             routineLikeRepository.delete(new RoutineLike(user, routine));
+            routineReactionCache.removeAfterCommit(LIKED, user.getEmail(), routineId);
         }
         int likeCount = routineLikeRepository.countByRoutineLikePkRoutineId(routineId);
         return new RoutineLikeResponse(likeCount);
@@ -41,8 +41,9 @@ public class RoutineController {
     public ApiResponse<RoutineListResponseDto> getUserRoutines(
             @PathVariable("nickname") String nickname,
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestParam(value = "division", required = false) Integer division) {
-        RoutineListResponseDto userRoutines = routineService.getUserRoutines(nickname, division, pageable);
+            @RequestParam(value = "division", required = false) Integer division,
+            @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        RoutineListResponseDto userRoutines = routineService.getUserRoutines(nickname, division, pageable, oAuth2JwtUserDetails.getEmail());
 
         return new ApiResponse<>(ErrorCode.SUCCESS, userRoutines);
     }
@@ -0,0 +1,45 @@
+package com.ogjg.daitgym.routine.controller;
+
+import com.ogjg.daitgym.common.exception.ErrorCode;
+import com.ogjg.daitgym.common.response.ApiResponse;
+import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
+import com.ogjg.daitgym.routine.dto.RoutineListResponseDto;
+import com.ogjg.daitgym.routine.service.RoutineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 루틴 검색
+ * /api/routines/{nickname} 과 겹치지 않도록 /api/search 아래에 둔다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class RoutineSearchController {
+
+    private final RoutineService routineService;
+
+    /**
+     * cursor : 이전 페이지의 마지막 루틴 id. 첫 페이지는 보내지 않는다. 페이지 크기는 size 로 정한다.
+     */
+    @GetMapping("/routines")
+    public ApiResponse<RoutineListResponseDto> searchRoutines(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "part", required = false) String part,
+            @RequestParam(value = "exercise", required = false) String exercise,
+            @RequestParam(value = "minDuration", required = false) Integer minDuration,
+            @RequestParam(value = "maxDuration", required = false) Integer maxDuration,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            Pageable pageable,
+            @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        RoutineListResponseDto routines = routineService.searchRoutines(
+                keyword, part, exercise, minDuration, maxDuration, cursor, pageable, oAuth2JwtUserDetails.getEmail());
+
+        return new ApiResponse<>(ErrorCode.SUCCESS, routines);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.routine.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -34,4 +35,25 @@ public class RoutineDto {
         this.scrapCounts = scrapCounts;
         this.createdAt = createdAt;
     }
+
+    /**
+     * 목록 조회용 projection. 조회하는 사용자의 좋아요, 스크랩 여부는 putViewerReaction 으로 채운다.
+     */
+    @QueryProjection
+    public RoutineDto(Long id, String title, String author, String authorImg, String description, int division, long likeCounts, long scrapCounts, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.authorImg = authorImg;
+        this.description = description;
+        this.division = division;
+        this.likeCounts = likeCounts;
+        this.scrapCounts = scrapCounts;
+        this.createdAt = createdAt;
+    }
+
+    public void putViewerReaction(boolean liked, boolean scrapped) {
+        this.liked = liked;
+        this.scrapped = scrapped;
+    }
 }
@@ -10,7 +10,11 @@ import java.util.Optional;
 
 public interface DayRepository extends JpaRepository<Day, Long> {
 
-    @Query("SELECT d FROM Day d LEFT JOIN FETCH d.exerciseDetails WHERE d.routine.id = :routineId")
+    @Query("SELECT DISTINCT d FROM Day d " +
+            "LEFT JOIN FETCH d.exerciseDetails ed " +
+            "LEFT JOIN FETCH ed.exercise e " +
+            "LEFT JOIN FETCH e.exercisePart " +
+            "WHERE d.routine.id = :routineId")
     Optional<List<Day>> findAllWithExerciseDetailsByRoutineId(@Param("routineId") Long routineId);
 
 }
@@ -2,6 +2,21 @@ package com.ogjg.daitgym.routine.repository;
 
 import com.ogjg.daitgym.domain.routine.ExerciseDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ExerciseDetailRepository extends JpaRepository<ExerciseDetail, Long> {
+
+    @Query("SELECT DISTINCT d.routine.id AS routineId, ed.exercise.id AS exerciseId " +
+            "FROM ExerciseDetail ed JOIN ed.day d WHERE d.routine.id IN :routineIds")
+    List<RoutineExerciseId> findRoutineExerciseIds(@Param("routineIds") Collection<Long> routineIds);
+
+    interface RoutineExerciseId {
+        Long getRoutineId();
+
+        Long getExerciseId();
+    }
 }
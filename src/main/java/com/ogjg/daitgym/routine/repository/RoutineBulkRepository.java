@@ -0,0 +1,107 @@
+package com.ogjg.daitgym.routine.repository;
+
+import com.ogjg.daitgym.domain.TimeTemplate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 루틴 생성 시 일차와 세트, 검색어를 JDBC batch insert 로 저장한다.
+ * Day, ExerciseDetail 은 IDENTITY 전략이라 JPA 로는 batch insert 가 되지 않으므로,
+ * 일차를 한 번에 넣은 뒤 routine_id 로 일차 id 를 다시 조회해 세트를 한 번에 넣는다.
+ * JPA 를 거치지 않으므로 ExerciseDetail 의 created_at, modified_at 은 직접 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoutineBulkRepository {
+
+    private static final String INSERT_DAY_SQL =
+            "INSERT INTO day (routine_id, day_number) VALUES (?, ?)";
+
+    private static final String SELECT_DAY_IDS_SQL =
+            "SELECT id FROM day WHERE routine_id = ? ORDER BY id";
+
+    private static final String INSERT_EXERCISE_DETAIL_SQL =
+            "INSERT INTO exercise_detail (day_id, exercise_id, set_count, repetition_count, weight, exercise_order, set_order, " +
+                    "hours, minutes, seconds, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SEARCH_TERM_SQL =
+            "INSERT INTO routine_search_term (term, routine_id, duration) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 루틴의 일차를 저장하고, 저장한 순서대로 일차 id 를 반환한다.
+     * 같은 루틴의 일차 id 는 저장한 순서대로 증가하므로 id 순으로 조회한다.
+     */
+    public List<Long> insertDays(Long routineId, List<Integer> dayNumbers) {
+        jdbcTemplate.batchUpdate(INSERT_DAY_SQL, dayNumbers, dayNumbers.size(), (ps, dayNumber) -> {
+            ps.setLong(1, routineId);
+            ps.setInt(2, dayNumber);
+        });
+
+        return jdbcTemplate.queryForList(SELECT_DAY_IDS_SQL, Long.class, routineId);
+    }
+
+    public void insertExerciseDetails(List<ExerciseDetailRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_EXERCISE_DETAIL_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getDayId());
+            ps.setLong(2, row.getExerciseId());
+            ps.setInt(3, row.getSetCount());
+            ps.setInt(4, row.getRepetitionCount());
+            ps.setInt(5, row.getWeight());
+            ps.setInt(6, row.getExerciseOrder());
+            ps.setInt(7, row.getSetOrder());
+            ps.setInt(8, row.getRestTime().getHours());
+            ps.setInt(9, row.getRestTime().getMinutes());
+            ps.setInt(10, row.getRestTime().getSeconds());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+    /**
+     * 루틴의 검색어를 저장한다. 검색어는 루틴마다 중복 없이 넘겨야 한다.
+     * 이미 저장된 (검색어, 루틴) 이라면 unique 제약으로 DuplicateKeyException 이 발생한다.
+     */
+    public void insertSearchTerms(Long routineId, int duration, Collection<String> terms) {
+        jdbcTemplate.batchUpdate(INSERT_SEARCH_TERM_SQL, terms, terms.size(), (ps, term) -> {
+            ps.setString(1, term);
+            ps.setLong(2, routineId);
+            ps.setInt(3, duration);
+        });
+    }
+
+    @Getter
+    public static class ExerciseDetailRow {
+        private final Long dayId;
+        private final Long exerciseId;
+        private final int setCount;
+        private final int repetitionCount;
+        private final int weight;
+        private final int exerciseOrder;
+        private final int setOrder;
+        private final TimeTemplate restTime;
+
+        @Builder
+        public ExerciseDetailRow(Long dayId, Long exerciseId, int setCount, int repetitionCount, int weight, int exerciseOrder, int setOrder, TimeTemplate restTime) {
+            this.dayId = dayId;
+            this.exerciseId = exerciseId;
+            this.setCount = setCount;
+            this.repetitionCount = repetitionCount;
+            this.weight = weight;
+            this.exerciseOrder = exerciseOrder;
+            this.setOrder = setOrder;
+            this.restTime = restTime;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ogjg.daitgym.routine.repository;
+
+import com.ogjg.daitgym.common.redis.RedisSetCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 좋아요, 스크랩한 루틴 id 캐시
+ * 좋아요, 스크랩 기록이 많은 사용자를 위한 선택 기능으로 routine.reaction-cache.enabled 로 켠다.
+ * 사용자의 전체 루틴 id 를 Redis set 에 정수로 담아 두고(작은 set 은 intset 으로 저장된다), 목록 조회 시 현재 페이지의 id 만 SMISMEMBER 로 확인한다.
+ * 채우기와 좋아요, 스크랩 변경 반영은 RedisSetCache 를 사용하므로, 키가 존재하면 항상 전체 기록을 담고 있다.
+ * 기록이 없는 사용자의 EMPTY_MARKER 는 존재하지 않는 루틴 id 0 이다.
+ */
+@Repository
+public class RoutineReactionCache {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    public enum Reaction {
+        LIKED("routine:liked:"),
+        SCRAPPED("routine:scrapped:");
+
+        private final String keyPrefix;
+
+        Reaction(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+
+    private final RedisSetCache redisSetCache;
+    private final boolean enabled;
+
+    public RoutineReactionCache(
+            RedisSetCache redisSetCache,
+            @Value("${routine.reaction-cache.enabled:false}") boolean enabled
+    ) {
+        this.redisSetCache = redisSetCache;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시가 채워져 있다면 routineIds 중 사용자가 반응한 id 를 반환한다. 캐시가 없다면 empty 를 반환한다.
+     */
+    public Optional<Set<Long>> findMembers(Reaction reaction, String email, List<Long> routineIds) {
+        if (!enabled || routineIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return redisSetCache.containsAll(key(reaction, email), routineIds.stream().map(String::valueOf).toList())
+                .map(membership -> {
+                    Set<Long> members = new HashSet<>();
+                    for (int i = 0; i < routineIds.size(); i++) {
+                        if (membership.get(i)) {
+                            members.add(routineIds.get(i));
+                        }
+                    }
+                    return members;
+                });
+    }
+
+    /**
+     * DB 에서 조회한 사용자의 전체 루틴 id 로 캐시를 채우고, 조회한 id 를 반환한다.
+     */
+    public Set<Long> fill(Reaction reaction, String email, Supplier<Set<Long>> routineIdsLoader) {
+        return redisSetCache.fill(key(reaction, email), CACHE_TTL, routineIdsLoader);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 루틴 id 를 추가한다.
+     */
+    public void addAfterCommit(Reaction reaction, String email, Long routineId) {
+        if (enabled) {
+            redisSetCache.addAfterCommit(key(reaction, email), String.valueOf(routineId), CACHE_TTL);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤, 캐시가 채워져 있는 경우에만 루틴 id 를 제거한다.
+     */
+    public void removeAfterCommit(Reaction reaction, String email, Long routineId) {
+        if (enabled) {
+            redisSetCache.removeAfterCommit(key(reaction, email), String.valueOf(routineId), CACHE_TTL);
+        }
+    }
+
+    private String key(Reaction reaction, String email) {
+        return reaction.keyPrefix + email;
+    }
+}
@@ -21,6 +21,13 @@ public interface RoutineRepository extends JpaRepository<Routine, Long>, Routine
     @Query("SELECT r FROM Routine r WHERE (:division IS NULL OR r.division = :division) AND r.user.email IN :followerEmails")
     Slice<Routine> findByDivisionAndUserEmailIn(@Param("division") Integer division, @Param("followerEmails") List<String> followerEmails, Pageable pageable);
 
+    @Query("SELECT r FROM Routine r LEFT JOIN FETCH r.user WHERE r.id = :routineId")
+    Optional<Routine> findWithUserById(@Param("routineId") Long routineId);
+
+    @Query("SELECT r FROM Routine r WHERE r.id > :afterId AND NOT EXISTS " +
+            "(SELECT 1 FROM RoutineSearchTerm rst WHERE rst.term = :term AND rst.routineId = r.id) ORDER BY r.id")
+    List<Routine> findAllWithoutSearchTermAfter(@Param("afterId") Long afterId, @Param("term") String term, Pageable pageable);
+
 //    Optional<Routine> findById(Long routineId);
 
 }
@@ -1,6 +1,9 @@
 package com.ogjg.daitgym.routine.repository;
 
 import com.ogjg.daitgym.journal.dto.request.ReplicationRoutineDto;
+import com.ogjg.daitgym.routine.dto.RoutineDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -12,4 +15,13 @@ public interface RoutineRepositoryCustom {
 
     List<ReplicationRoutineDto> getOriginalRoutinesToReplicateExerciseHistories(Long dayId, Long exerciseId);
 
+    Slice<RoutineDto> findRoutineDtosByDivision(Integer division, Pageable pageable);
+
+    Slice<RoutineDto> findRoutineDtosByDivisionAndUserNickname(Integer division, String nickname, Pageable pageable);
+
+    Slice<RoutineDto> findRoutineDtosOfFollowing(Integer division, String followerEmail, Pageable pageable);
+
+    Slice<RoutineDto> findScrappedRoutineDtos(String email, Pageable pageable);
+
+    List<RoutineDto> findRoutineDtosByIdIn(List<Long> routineIds);
 }
@@ -1,15 +1,32 @@
 package com.ogjg.daitgym.routine.repository;
 
+import com.ogjg.daitgym.domain.routine.Routine;
 import com.ogjg.daitgym.journal.dto.request.QReplicationRoutineDto;
 import com.ogjg.daitgym.journal.dto.request.ReplicationRoutineDto;
+import com.ogjg.daitgym.routine.dto.QRoutineDto;
+import com.ogjg.daitgym.routine.dto.RoutineDto;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
+import static com.ogjg.daitgym.domain.QUser.user;
+import static com.ogjg.daitgym.domain.follow.QFollow.follow;
 import static com.ogjg.daitgym.domain.routine.QDay.day;
 import static com.ogjg.daitgym.domain.routine.QExerciseDetail.exerciseDetail;
 import static com.ogjg.daitgym.domain.routine.QRoutine.routine;
+import static com.ogjg.daitgym.domain.routine.QRoutineLike.routineLike;
+import static com.ogjg.daitgym.domain.routine.QUserRoutineCollection.userRoutineCollection;
 
 @RequiredArgsConstructor
 public class RoutineRepositoryImpl implements RoutineRepositoryCustom {
@@ -65,4 +82,143 @@ public class RoutineRepositoryImpl implements RoutineRepositoryCustom {
                 .fetch();
     }
 
-}
\ No newline at end of file
+    /**
+     * 운동 분할별 루틴 목록
+     * 작성자를 join 하고 좋아요, 스크랩 수를 서브쿼리로 함께 조회해 루틴마다 추가 쿼리가 나가지 않는다.
+     */
+    @Override
+    public Slice<RoutineDto> findRoutineDtosByDivision(Integer division, Pageable pageable) {
+        return fetchSlice(
+                selectRoutineDtos()
+                        .from(routine)
+                        .join(routine.user, user)
+                        .where(divisionEq(division)),
+                pageable
+        );
+    }
+
+    /**
+     * 닉네임으로 찾은 사용자가 작성한 운동 분할별 루틴 목록
+     */
+    @Override
+    public Slice<RoutineDto> findRoutineDtosByDivisionAndUserNickname(Integer division, String nickname, Pageable pageable) {
+        return fetchSlice(
+                selectRoutineDtos()
+                        .from(routine)
+                        .join(routine.user, user)
+                        .where(
+                                divisionEq(division),
+                                user.nickname.eq(nickname)
+                        ),
+                pageable
+        );
+    }
+
+    /**
+     * 사용자가 팔로우한 사용자들이 작성한 운동 분할별 루틴 목록
+     * 팔로우 목록은 서브쿼리로 조건에 넣어 팔로우 엔티티를 따로 불러오지 않는다.
+     */
+    @Override
+    public Slice<RoutineDto> findRoutineDtosOfFollowing(Integer division, String followerEmail, Pageable pageable) {
+        return fetchSlice(
+                selectRoutineDtos()
+                        .from(routine)
+                        .join(routine.user, user)
+                        .where(
+                                divisionEq(division),
+                                user.email.in(
+                                        JPAExpressions.select(follow.target.email)
+                                                .from(follow)
+                                                .where(follow.follower.email.eq(followerEmail))
+                                )
+                        ),
+                pageable
+        );
+    }
+
+    /**
+     * 사용자가 스크랩한 루틴 목록
+     */
+    @Override
+    public Slice<RoutineDto> findScrappedRoutineDtos(String email, Pageable pageable) {
+        return fetchSlice(
+                selectRoutineDtos()
+                        .from(userRoutineCollection)
+                        .join(userRoutineCollection.routine, routine)
+                        .join(routine.user, user)
+                        .where(userRoutineCollection.pk.email.eq(email)),
+                pageable
+        );
+    }
+
+    /**
+     * 검색 색인에서 찾은 루틴 id 로 루틴 목록을 최신순으로 조회한다.
+     */
+    @Override
+    public List<RoutineDto> findRoutineDtosByIdIn(List<Long> routineIds) {
+        return selectRoutineDtos()
+                .from(routine)
+                .join(routine.user, user)
+                .where(routine.id.in(routineIds))
+                .orderBy(routine.id.desc())
+                .fetch();
+    }
+
+    private JPAQuery<RoutineDto> selectRoutineDtos() {
+        return jpaQueryFactory.select(
+                new QRoutineDto(
+                        routine.id,
+                        routine.title,
+                        user.nickname,
+                        user.imageUrl,
+                        routine.content,
+                        routine.division,
+                        JPAExpressions.select(routineLike.count())
+                                .from(routineLike)
+                                .where(routineLike.routineLikePk.routineId.eq(routine.id)),
+                        JPAExpressions.select(userRoutineCollection.count())
+                                .from(userRoutineCollection)
+                                .where(userRoutineCollection.pk.routineId.eq(routine.id)),
+                        routine.createdAt
+                ));
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다.
+     */
+    private Slice<RoutineDto> fetchSlice(JPAQuery<RoutineDto> query, Pageable pageable) {
+        List<RoutineDto> content = query
+                .orderBy(routineOrders(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Pageable 의 정렬 조건을 루틴 기준으로 적용한다. 정렬 조건이 없다면 최신 루틴부터 조회한다.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier[] routineOrders(Sort sort) {
+        if (sort.isUnsorted()) {
+            return new OrderSpecifier[]{routine.id.desc()};
+        }
+
+        PathBuilder<Routine> routinePath = new PathBuilder<>(Routine.class, routine.getMetadata());
+        return sort.stream()
+                .map(order -> new OrderSpecifier(
+                        order.isAscending() ? Order.ASC : Order.DESC,
+                        routinePath.getComparable(order.getProperty(), Comparable.class)
+                ))
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    private BooleanExpression divisionEq(Integer division) {
+        return division == null ? null : routine.division.eq(division);
+    }
+}
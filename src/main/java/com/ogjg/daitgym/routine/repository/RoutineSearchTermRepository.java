@@ -0,0 +1,14 @@
+package com.ogjg.daitgym.routine.repository;
+
+import com.ogjg.daitgym.domain.routine.RoutineSearchTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RoutineSearchTermRepository extends JpaRepository<RoutineSearchTerm, Long>, RoutineSearchTermRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM RoutineSearchTerm rst WHERE rst.routineId = :routineId")
+    void deleteByRoutineId(@Param("routineId") Long routineId);
+}
@@ -0,0 +1,12 @@
+package com.ogjg.daitgym.routine.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RoutineSearchTermRepositoryCustom {
+
+    List<Long> findRoutineIdsMatchingAll(String drivingTerm, Collection<String> otherTerms, Long cursor,
+                                         Integer minDuration, Integer maxDuration, int limit);
+
+    long countRoutinesUpTo(String term, int cap);
+}
@@ -0,0 +1,80 @@
+package com.ogjg.daitgym.routine.repository;
+
+import com.ogjg.daitgym.domain.routine.QRoutineSearchTerm;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.ogjg.daitgym.domain.routine.QRoutineSearchTerm.routineSearchTerm;
+
+@RequiredArgsConstructor
+public class RoutineSearchTermRepositoryImpl implements RoutineSearchTermRepositoryCustom {
+
+    private static final String COUNT_ROUTINES_UP_TO_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM routine_search_term WHERE term = ? LIMIT ?) capped";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * drivingTerm 의 색인을 (term, routine_id) 순서대로 cursor 아래부터 최신순으로 읽고,
+     * 나머지 검색어는 루틴마다 EXISTS 로 (term, routine_id) 색인을 한 번씩만 확인한다.
+     * 검색어가 가장 적은 루틴에 걸린 검색어로 읽으므로, 읽는 행 수는 그 검색어의 루틴 수를 넘지 않는다.
+     */
+    @Override
+    public List<Long> findRoutineIdsMatchingAll(String drivingTerm, Collection<String> otherTerms, Long cursor,
+                                                Integer minDuration, Integer maxDuration, int limit) {
+        return jpaQueryFactory.select(routineSearchTerm.routineId)
+                .from(routineSearchTerm)
+                .where(
+                        routineSearchTerm.term.eq(drivingTerm),
+                        routineIdLt(cursor),
+                        durationGoe(minDuration),
+                        durationLoe(maxDuration),
+                        hasAllTerms(otherTerms)
+                )
+                .orderBy(routineSearchTerm.routineId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * term 이 걸린 루틴 수를 cap 개까지만 센다. 검색어 중 가장 적은 루틴에 걸린 검색어를 고를 때 사용한다.
+     */
+    @Override
+    public long countRoutinesUpTo(String term, int cap) {
+        Long count = jdbcTemplate.queryForObject(COUNT_ROUTINES_UP_TO_SQL, Long.class, term, cap);
+        return count == null ? 0 : count;
+    }
+
+    private BooleanExpression hasAllTerms(Collection<String> otherTerms) {
+        BooleanExpression hasAllTerms = null;
+        int aliasIndex = 0;
+        for (String term : otherTerms) {
+            QRoutineSearchTerm other = new QRoutineSearchTerm("otherTerm" + aliasIndex++);
+            BooleanExpression hasTerm = JPAExpressions.selectOne()
+                    .from(other)
+                    .where(other.term.eq(term), other.routineId.eq(routineSearchTerm.routineId))
+                    .exists();
+            hasAllTerms = hasAllTerms == null ? hasTerm : hasAllTerms.and(hasTerm);
+        }
+        return hasAllTerms;
+    }
+
+    private BooleanExpression routineIdLt(Long cursor) {
+        return cursor == null ? null : routineSearchTerm.routineId.lt(cursor);
+    }
+
+    private BooleanExpression durationGoe(Integer minDuration) {
+        return minDuration == null ? null : routineSearchTerm.duration.goe(minDuration);
+    }
+
+    private BooleanExpression durationLoe(Integer maxDuration) {
+        return maxDuration == null ? null : routineSearchTerm.duration.loe(maxDuration);
+    }
+}
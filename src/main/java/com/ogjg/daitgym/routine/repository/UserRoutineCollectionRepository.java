@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Set;
 
 import static com.ogjg.daitgym.domain.routine.UserRoutineCollection.*;
@@ -26,5 +27,8 @@ public interface UserRoutineCollectionRepository extends JpaRepository<UserRouti
     @Query("SELECT urc.routine.id FROM UserRoutineCollection urc WHERE urc.user.nickname = :nickname")
     Set<Long> findScrappedRoutineIdByUserNickname(@Param("nickname") String nickname);
 
+    @Query("SELECT urc.routine.id FROM UserRoutineCollection urc WHERE urc.user.email = :email AND urc.routine.id IN :routineIds")
+    Set<Long> findScrappedRoutineIdByUserEmailAndRoutineIdIn(@Param("email") String email, @Param("routineIds") Collection<Long> routineIds);
+
     boolean existsByUserEmailAndRoutineId(String userEmail, Long routineId);
 }
@@ -0,0 +1,60 @@
+package com.ogjg.daitgym.routine.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.ogjg.daitgym.routine.dto.RoutineDetailsResponseDto.DayDto;
+
+/**
+ * 루틴 상세의 일차, 운동, 세트 구성 캐시
+ * 루틴 구성은 생성 이후 바뀌지 않으므로 routineId 별로 변환이 끝난 DayDto 목록을 저장한다.
+ * 최근에 조회된 순서로 MAX_SIZE 개까지만 유지하고, 루틴이 삭제되면 비운다.
+ * 좋아요, 스크랩 여부와 수, 작성자 정보는 캐시하지 않고 요청마다 조회한다.
+ */
+@Component
+class RoutineDaysCache {
+
+    private static final int MAX_SIZE = 1_000;
+
+    private final Map<Long, List<DayDto>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<DayDto>> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * 캐시된 구성이 없다면 loader 로 만들어 저장한다.
+     * loader 는 lock 밖에서 실행되므로 동시에 miss 가 나면 같은 구성을 여러 번 만들 수 있다.
+     */
+    List<DayDto> get(Long routineId, Supplier<List<DayDto>> loader) {
+        synchronized (cache) {
+            List<DayDto> cached = cache.get(routineId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<DayDto> days = List.copyOf(loader.get());
+        synchronized (cache) {
+            cache.put(routineId, days);
+        }
+        return days;
+    }
+
+    void evict(Long routineId) {
+        synchronized (cache) {
+            cache.remove(routineId);
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
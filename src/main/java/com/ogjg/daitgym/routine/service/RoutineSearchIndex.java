@@ -0,0 +1,164 @@
+package com.ogjg.daitgym.routine.service;
+
+import com.ogjg.daitgym.domain.routine.Routine;
+import com.ogjg.daitgym.exercise.service.ExerciseCatalog;
+import com.ogjg.daitgym.routine.repository.ExerciseDetailRepository;
+import com.ogjg.daitgym.routine.repository.RoutineBulkRepository;
+import com.ogjg.daitgym.routine.repository.RoutineRepository;
+import com.ogjg.daitgym.routine.repository.RoutineSearchTermRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 검색 색인
+ * 제목과 설명은 공백, 기호로 나눈 단어를 2-gram 으로 쪼개 저장하므로 한글 단어의 일부로도 검색된다. (MySQL ngram parser 와 같은 방식)
+ * 운동과 운동부위는 각각 하나의 검색어로 저장하고, 검색 조건은 모두 AND 로 묶는다.
+ * 검색 조건이 하나도 없을 때를 위해 모든 루틴에 ALL_TERM 을 저장한다. ALL_TERM 이 없는 루틴은 아직 색인되지 않은 루틴이다.
+ * 검색은 걸린 루틴이 가장 적은 검색어의 색인을 routine_id 최신순으로 읽고, 나머지 검색어는 루틴마다 확인한다.
+ * 페이지는 offset 대신 이전 페이지의 마지막 루틴 id(cursor) 아래부터 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineSearchIndex {
+
+    private static final String ALL_TERM = "*";
+    private static final String TEXT_PREFIX = "t:";
+    private static final String PART_PREFIX = "p:";
+    private static final String EXERCISE_PREFIX = "e:";
+    private static final int GRAM_SIZE = 2;
+    private static final int SELECTIVITY_COUNT_CAP = 10_000;
+
+    private final ExerciseCatalog exerciseCatalog;
+    private final RoutineBulkRepository routineBulkRepository;
+    private final RoutineSearchTermRepository routineSearchTermRepository;
+    private final RoutineRepository routineRepository;
+    private final ExerciseDetailRepository exerciseDetailRepository;
+
+    /**
+     * 루틴의 제목, 설명, 운동, 운동부위를 색인한다.
+     */
+    public void index(Routine routine, Collection<Long> exerciseIds) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(ALL_TERM);
+        addTextTerms(terms, routine.getTitle());
+        addTextTerms(terms, routine.getContent());
+
+        exerciseIds.forEach(exerciseId -> {
+            terms.add(EXERCISE_PREFIX + exerciseId);
+            exerciseCatalog.findById(exerciseId)
+                    .map(ExerciseCatalog.CatalogExercise::getPart)
+                    .ifPresent(part -> terms.add(PART_PREFIX + part));
+        });
+
+        routineBulkRepository.insertSearchTerms(routine.getId(), routine.getDuration(), terms);
+    }
+
+    public void remove(Long routineId) {
+        routineSearchTermRepository.deleteByRoutineId(routineId);
+    }
+
+    /**
+     * 아직 색인되지 않은 루틴을 id 순으로 batchSize 개까지 조회한다.
+     */
+    public List<Routine> findUnindexedAfter(Long afterId, int batchSize) {
+        return routineRepository.findAllWithoutSearchTermAfter(afterId, ALL_TERM, PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * 루틴들의 운동 id 를 한 번에 조회하여 색인한다.
+     * 다른 트랜잭션이 이미 색인한 루틴이 있다면 (term, routine_id) unique 제약으로 DuplicateKeyException 이 발생한다.
+     */
+    public void indexAll(List<Routine> routines) {
+        Map<Long, Set<Long>> exerciseIdsByRoutineId = exerciseDetailRepository.findRoutineExerciseIds(
+                        routines.stream().map(Routine::getId).toList()
+                ).stream()
+                .collect(Collectors.groupingBy(
+                        ExerciseDetailRepository.RoutineExerciseId::getRoutineId,
+                        Collectors.mapping(ExerciseDetailRepository.RoutineExerciseId::getExerciseId, Collectors.toSet())
+                ));
+
+        routines.forEach(routine -> index(routine, exerciseIdsByRoutineId.getOrDefault(routine.getId(), Set.of())));
+    }
+
+    /**
+     * 검색어를 모두 가진 루틴 id 를 cursor 아래부터 최신순으로 한 페이지 조회한다.
+     */
+    public Slice<Long> search(Set<String> terms, Long cursor, Integer minDuration, Integer maxDuration, Pageable pageable) {
+        String drivingTerm = terms.iterator().next();
+        if (terms.size() > 1) {
+            Map<String, Long> countsByTerm = new HashMap<>();
+            for (String term : terms) {
+                long count = routineSearchTermRepository.countRoutinesUpTo(term, SELECTIVITY_COUNT_CAP);
+                if (count == 0) {
+                    return new SliceImpl<>(List.of(), pageable, false);
+                }
+                countsByTerm.put(term, count);
+            }
+            drivingTerm = Collections.min(countsByTerm.entrySet(), Map.Entry.comparingByValue()).getKey();
+        }
+
+        Set<String> otherTerms = new LinkedHashSet<>(terms);
+        otherTerms.remove(drivingTerm);
+
+        List<Long> routineIds = routineSearchTermRepository.findRoutineIdsMatchingAll(
+                drivingTerm, otherTerms, cursor, minDuration, maxDuration, pageable.getPageSize() + 1
+        );
+
+        boolean hasNext = routineIds.size() > pageable.getPageSize();
+        if (hasNext) {
+            routineIds = routineIds.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(routineIds, pageable, hasNext);
+    }
+
+    /**
+     * 검색 조건을 검색어로 바꾼다. 존재하지 않는 운동으로 검색한다면 empty 를 반환한다.
+     */
+    public Optional<Set<String>> queryTerms(String keyword, String part, String exerciseName) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTextTerms(terms, keyword);
+
+        if (part != null && !part.isBlank()) {
+            terms.add(PART_PREFIX + part.strip());
+        }
+
+        if (exerciseName != null && !exerciseName.isBlank()) {
+            Optional<ExerciseCatalog.CatalogExercise> exercise = exerciseCatalog.findByName(exerciseName.strip());
+            if (exercise.isEmpty()) {
+                return Optional.empty();
+            }
+            terms.add(EXERCISE_PREFIX + exercise.get().getId());
+        }
+
+        if (terms.isEmpty()) {
+            terms.add(ALL_TERM);
+        }
+        return Optional.of(terms);
+    }
+
+    private void addTextTerms(Set<String> terms, String text) {
+        if (text == null) {
+            return;
+        }
+
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() <= GRAM_SIZE) {
+                terms.add(TEXT_PREFIX + word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                terms.add(TEXT_PREFIX + word.substring(i, i + GRAM_SIZE));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ogjg.daitgym.routine.service;
+
+import com.ogjg.daitgym.common.lock.RedisJobLock;
+import com.ogjg.daitgym.domain.routine.Routine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 검색 색인이 생기기 전에 만든 루틴을 색인한다.
+ * 서버가 뜰 때마다 한 번 실행하고, 색인되지 않은 루틴만 id 순으로 BATCH_SIZE 개씩 트랜잭션을 나눠 색인한다.
+ * 여러 서버가 동시에 같은 루틴을 색인하지 않도록 RedisJobLock 을 잡은 서버에서만 실행한다.
+ * 조회한 뒤 다른 트랜잭션이 먼저 색인한 루틴이 있어 batch 가 unique 제약에 걸리면, 그 batch 는 루틴마다 트랜잭션을 나눠 다시 색인하고 이미 색인된 루틴은 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineSearchIndexBackfill {
+
+    private static final String JOB_NAME = "routine-search-index-backfill";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final int BATCH_SIZE = 500;
+
+    private final RoutineSearchIndex routineSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisJobLock redisJobLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, Duration.ZERO, this::backfill);
+    }
+
+    void backfill() {
+        long afterId = 0;
+        int batches = 0;
+        int skipped = 0;
+
+        while (true) {
+            long lastId = afterId;
+            List<Routine> routines = transactionTemplate.execute(
+                    status -> routineSearchIndex.findUnindexedAfter(lastId, BATCH_SIZE)
+            );
+            if (routines == null || routines.isEmpty()) {
+                break;
+            }
+
+            skipped += indexBatch(routines);
+            afterId = routines.get(routines.size() - 1).getId();
+            batches++;
+        }
+
+        if (batches > 0) {
+            log.info("루틴 검색 색인 backfill 완료 batches={}, lastRoutineId={}, skipped={}", batches, afterId, skipped);
+        }
+    }
+
+    /**
+     * batch 를 색인하고, 이미 색인되어 있어 건너뛴 루틴 수를 반환한다.
+     */
+    private int indexBatch(List<Routine> routines) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> routineSearchIndex.indexAll(routines));
+            return 0;
+        } catch (DuplicateKeyException e) {
+            log.debug("다른 트랜잭션이 색인한 루틴이 있어 루틴마다 다시 색인합니다. fromRoutineId={}", routines.get(0).getId());
+        }
+
+        int skipped = 0;
+        for (Routine routine : routines) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> routineSearchIndex.indexAll(List.of(routine)));
+            } catch (DuplicateKeyException e) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+}
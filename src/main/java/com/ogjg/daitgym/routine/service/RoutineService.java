@@ -1,5 +1,6 @@
 package com.ogjg.daitgym.routine.service;
 
+import com.ogjg.daitgym.alarm.service.NotificationOutboxService;
 import com.ogjg.daitgym.comment.routine.exception.NotFoundRoutine;
 import com.ogjg.daitgym.domain.TimeTemplate;
 import com.ogjg.daitgym.domain.User;
@@ -8,8 +9,7 @@ import com.ogjg.daitgym.domain.routine.ExerciseDetail;
 import com.ogjg.daitgym.domain.routine.Routine;
 import com.ogjg.daitgym.domain.routine.UserRoutineCollection;
 import com.ogjg.daitgym.common.exception.exercise.NotFoundExercise;
-import com.ogjg.daitgym.exercise.repository.ExerciseRepository;
-import com.ogjg.daitgym.follow.repository.FollowRepository;
+import com.ogjg.daitgym.exercise.service.ExerciseCatalog;
 import com.ogjg.daitgym.like.routine.repository.RoutineLikeRepository;
 import com.ogjg.daitgym.routine.dto.RoutineDetailsResponseDto;
 import com.ogjg.daitgym.routine.dto.RoutineDto;
@@ -19,6 +19,8 @@ import com.ogjg.daitgym.common.exception.routine.AlreadyScrappedRoutine;
 import com.ogjg.daitgym.common.exception.routine.NoExerciseInRoutine;
 import com.ogjg.daitgym.common.exception.routine.NotFoundScrappedUserRoutine;
 import com.ogjg.daitgym.routine.repository.DayRepository;
+import com.ogjg.daitgym.routine.repository.RoutineBulkRepository;
+import com.ogjg.daitgym.routine.repository.RoutineReactionCache;
 import com.ogjg.daitgym.routine.repository.RoutineRepository;
 import com.ogjg.daitgym.routine.repository.UserRoutineCollectionRepository;
 import com.ogjg.daitgym.common.exception.user.NotFoundUser;
@@ -28,118 +30,161 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.ogjg.daitgym.routine.dto.RoutineDetailsResponseDto.*;
+import static com.ogjg.daitgym.routine.repository.RoutineBulkRepository.ExerciseDetailRow;
+import static com.ogjg.daitgym.domain.NotificationType.ROUTINE_SCRAP;
+import static com.ogjg.daitgym.routine.repository.RoutineReactionCache.Reaction.LIKED;
+import static com.ogjg.daitgym.routine.repository.RoutineReactionCache.Reaction.SCRAPPED;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoutineService {
-    private final ExerciseRepository exerciseRepository;
+    private final ExerciseCatalog exerciseCatalog;
     private final UserRepository userRepository;
     private final UserRoutineCollectionRepository userRoutineCollectionRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     private final RoutineRepository routineRepository;
-    private final FollowRepository followRepository;
     private final DayRepository dayRepository;
     private final RoutineLikeRepository routineLikeRepository;
+    private final RoutineReactionCache routineReactionCache;
+    private final RoutineDaysCache routineDaysCache;
+    private final RoutineBulkRepository routineBulkRepository;
+    private final RoutineSearchIndex routineSearchIndex;
 
     @Transactional(readOnly = true)
     public RoutineListResponseDto getRoutines(Pageable pageable, Integer division, String email) {
 
-        Slice<Routine> routines = routineRepository.findAllByDivision(division, pageable);
+        Slice<RoutineDto> routines = routineRepository.findRoutineDtosByDivision(division, pageable);
 
         return getRoutineListResponseDto(routines, email);
     }
 
-    private RoutineListResponseDto getRoutineListResponseDto(Slice<Routine> routines, String identifier) {
+    /**
+     * 루틴 목록은 작성자와 좋아요, 스크랩 수를 포함한 projection 으로 한 번에 조회하고,
+     * 좋아요, 스크랩 여부는 현재 페이지의 루틴 id 로 범위를 좁혀 조회한다.
+     */
+    private RoutineListResponseDto getRoutineListResponseDto(Slice<RoutineDto> routines, String viewerEmail) {
+        List<Long> pageRoutineIds = routines.stream()
+                .map(RoutineDto::getId)
+                .toList();
 
-        Set<Long> likedRoutineIds = getLikedRoutineIds(identifier);
-        Set<Long> scrappedRoutineIds = getScrappedRoutineIds(identifier);
+        if (!pageRoutineIds.isEmpty()) {
+            Set<Long> likedRoutineIds = getLikedRoutineIds(viewerEmail, pageRoutineIds);
+            Set<Long> scrappedRoutineIds = getScrappedRoutineIds(viewerEmail, pageRoutineIds);
 
-        List<RoutineDto> routineDtos = routines.stream()
-                .map(routine -> RoutineDto.builder()
-                        .id(routine.getId())
-                        .title(routine.getTitle())
-                        .author(routine.getUser().getNickname())
-                        .authorImg(routine.getUser().getImageUrl())
-                        .description(routine.getContent())
-                        .division(routine.getDivision())
-                        .liked(likedRoutineIds.contains(routine.getId()))
-                        .likeCounts(routineLikeRepository.countByRoutineId(routine.getId()))
-                        .scrapped(scrappedRoutineIds.contains(routine.getId()))
-                        .scrapCounts(getScrapCounts(routine.getId()))
-                        .createdAt(routine.getCreatedAt())
-                        .build())
-                .toList();
+            routines.forEach(routine -> routine.putViewerReaction(
+                    likedRoutineIds.contains(routine.getId()),
+                    scrappedRoutineIds.contains(routine.getId())
+            ));
+        }
 
         return RoutineListResponseDto.builder()
-                .routines(routineDtos)
+                .routines(routines.getContent())
                 .currentPage(routines.getNumber())
                 .hasNext(routines.hasNext())
                 .build();
     }
 
 
-    private Set<Long> getLikedRoutineIds(String identifier) {
-        if (isEmail(identifier)) {
-            return routineLikeRepository.findLikedRoutineIdByUserEmail(identifier);
-        } else {
-            return routineLikeRepository.findLikedRoutineIdByUserNickname(identifier);
-        }
+    /**
+     * 현재 페이지의 루틴 중 사용자가 좋아요한 루틴 id
+     * 루틴 반응 캐시가 켜져 있다면 캐시에서 확인하고, 캐시가 없을 때 전체 기록으로 한 번 채운다.
+     */
+    private Set<Long> getLikedRoutineIds(String email, List<Long> pageRoutineIds) {
+        return routineReactionCache.findMembers(LIKED, email, pageRoutineIds)
+                .orElseGet(() -> {
+                    if (!routineReactionCache.isEnabled()) {
+                        return routineLikeRepository.findLikedRoutineIdByUserEmailAndRoutineIdIn(email, pageRoutineIds);
+                    }
+                    Set<Long> likedRoutineIds = routineReactionCache.fill(
+                            LIKED, email, () -> routineLikeRepository.findLikedRoutineIdByUserEmail(email)
+                    );
+                    return retainPage(likedRoutineIds, pageRoutineIds);
+                });
     }
 
-    private Set<Long> getScrappedRoutineIds(String identifier) {
-        if (isEmail(identifier)) {
-            return userRoutineCollectionRepository.findScrappedRoutineIdByUserEmail(identifier);
-        } else {
-            return userRoutineCollectionRepository.findScrappedRoutineIdByUserNickname(identifier);
-        }
+    /**
+     * 현재 페이지의 루틴 중 사용자가 스크랩한 루틴 id
+     */
+    private Set<Long> getScrappedRoutineIds(String email, List<Long> pageRoutineIds) {
+        return routineReactionCache.findMembers(SCRAPPED, email, pageRoutineIds)
+                .orElseGet(() -> {
+                    if (!routineReactionCache.isEnabled()) {
+                        return userRoutineCollectionRepository.findScrappedRoutineIdByUserEmailAndRoutineIdIn(email, pageRoutineIds);
+                    }
+                    Set<Long> scrappedRoutineIds = routineReactionCache.fill(
+                            SCRAPPED, email, () -> userRoutineCollectionRepository.findScrappedRoutineIdByUserEmail(email)
+                    );
+                    return retainPage(scrappedRoutineIds, pageRoutineIds);
+                });
     }
 
-    private boolean isEmail(String value) {
-        String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$";
-        return value.matches(emailRegex);
+    private Set<Long> retainPage(Set<Long> routineIds, List<Long> pageRoutineIds) {
+        return pageRoutineIds.stream()
+                .filter(routineIds::contains)
+                .collect(Collectors.toSet());
     }
 
     @Transactional(readOnly = true)
-    public RoutineListResponseDto getUserRoutines(String nickname, Integer division, Pageable pageable) {
-        Slice<Routine> routines = routineRepository.findByDivisionAndUserNickname(division, nickname, pageable);
+    public RoutineListResponseDto getUserRoutines(String nickname, Integer division, Pageable pageable, String viewerEmail) {
+        Slice<RoutineDto> routines = routineRepository.findRoutineDtosByDivisionAndUserNickname(division, nickname, pageable);
 
-        return getRoutineListResponseDto(routines, nickname);
+        return getRoutineListResponseDto(routines, viewerEmail);
     }
 
     @Transactional(readOnly = true)
     public RoutineListResponseDto getFollowerRoutines(Pageable pageable, Integer division, String myEmail) {
 
-        List<String> followingEmails = followRepository.findAllByFollowerEmail(myEmail)
-                .orElse(Collections.emptyList())
-                .stream()
-                .map(follow -> follow.getTarget().getEmail())
-                .toList();
-
-        Slice<Routine> routines = routineRepository.findByDivisionAndUserEmailIn(division, followingEmails, pageable);
+        Slice<RoutineDto> routines = routineRepository.findRoutineDtosOfFollowing(division, myEmail, pageable);
 
         return getRoutineListResponseDto(routines, myEmail);
     }
 
+    /**
+     * 루틴 검색
+     * 검색 색인에서 조건을 모두 만족하는 루틴 id 를 cursor 아래부터 최신순으로 한 페이지만 찾고, 해당 루틴만 조회한다.
+     * cursor 는 이전 페이지의 마지막 루틴 id 이고, 첫 페이지는 null 이다.
+     */
+    @Transactional(readOnly = true)
+    public RoutineListResponseDto searchRoutines(String keyword, String part, String exerciseName,
+                                                 Integer minDuration, Integer maxDuration,
+                                                 Long cursor, Pageable pageable, String viewerEmail) {
+        Slice<Long> routineIds = routineSearchIndex.queryTerms(keyword, part, exerciseName)
+                .map(terms -> routineSearchIndex.search(terms, cursor, minDuration, maxDuration, pageable))
+                .orElseGet(() -> new SliceImpl<>(List.of(), pageable, false));
+
+        List<RoutineDto> routines = routineIds.isEmpty()
+                ? List.of()
+                : routineRepository.findRoutineDtosByIdIn(routineIds.getContent());
+
+        return getRoutineListResponseDto(new SliceImpl<>(routines, pageable, routineIds.hasNext()), viewerEmail);
+    }
+
+    /**
+     * 루틴 상세 조회
+     * 일차, 운동, 세트 구성은 RoutineDaysCache 에서 가져오고, 작성자와 좋아요, 스크랩 정보는 요청마다 조회한다.
+     */
     @Transactional(readOnly = true)
     public RoutineDetailsResponseDto getRoutineDetails(Long routineId, String userEmail) {
-        Routine routine = routineRepository.findById(routineId)
+        Routine routine = routineRepository.findWithUserById(routineId)
                 .orElseThrow(NotFoundRoutine::new);
 
-        List<Day> days = dayRepository.findAllWithExerciseDetailsByRoutineId(routine.getId())
-                .orElseThrow(NoExerciseInRoutine::new);
-
-        List<DayDto> dayDtos = getDaysDto(days);
+        List<DayDto> dayDtos = routineDaysCache.get(routine.getId(), () -> getDaysDto(
+                dayRepository.findAllWithExerciseDetailsByRoutineId(routine.getId())
+                        .orElseThrow(NoExerciseInRoutine::new)
+        ));
 
         return RoutineDetailsResponseDto.builder()
                 .writer(routine.getUser().getNickname())
@@ -208,6 +253,11 @@ public class RoutineService {
                 .toList();
     }
 
+    /**
+     * 루틴 생성
+     * 운동 이름은 운동 목록 캐시에서 찾고, 일차와 세트, 검색어는 JDBC batch insert 로 저장한다.
+     * 루틴 크기와 상관없이 실행되는 쿼리 수가 일정하다.
+     */
     @Transactional
     public void createRoutine(RoutineRequestDto routineRequestDto, String email) {
 
@@ -222,35 +272,67 @@ public class RoutineService {
 
         routineRepository.save(routine);
 
-        routineRequestDto.getRoutine().getDays()
-                .forEach(dayDto -> {
-                    Day day = Day.builder()
-                            .routine(routine)
-                            .dayNumber(dayDto.getOrder())
-                            .build();
+        List<RoutineRequestDto.DayDto> dayDtos = routineRequestDto.getRoutine().getDays();
+        Map<String, Long> exerciseIdsByName = findExerciseIdsByName(dayDtos);
+        routineSearchIndex.index(routine, exerciseIdsByName.values());
 
-                    dayRepository.save(day);
-
-                    dayDto.getExercises().forEach(exerciseDto -> {
-                        exerciseDto.getExerciseSets().forEach(exerciseSetDto -> {
-                            RoutineRequestDto.RestTimeDto restTime = exerciseDto.getRestTime();
-                            TimeTemplate timeTemplate = new TimeTemplate(restTime.getHours(), restTime.getMinutes(), restTime.getSeconds());
-                            ExerciseDetail exerciseDetail = ExerciseDetail.builder()
-                                    .day(day)
-                                    .exercise(exerciseRepository.findByName(exerciseDto.getName())
-                                            .orElseThrow(NotFoundExercise::new))
-                                    .exerciseOrder(exerciseDto.getOrder())
-                                    .setOrder(exerciseSetDto.getOrder())
-                                    .setCount(exerciseSetDto.getOrder())
-                                    .repetitionCount(exerciseSetDto.getCounts())
-                                    .weight(exerciseSetDto.getWeights())
-                                    .restTime(timeTemplate)
-                                    .build();
-
-                            day.addExerciseDetail(exerciseDetail);
-                        });
-                    });
-                });
+        if (dayDtos.isEmpty()) {
+            return;
+        }
+
+        List<Long> dayIds = routineBulkRepository.insertDays(
+                routine.getId(),
+                dayDtos.stream().map(RoutineRequestDto.DayDto::getOrder).toList()
+        );
+
+        List<ExerciseDetailRow> exerciseDetailRows = new ArrayList<>();
+        for (int i = 0; i < dayDtos.size(); i++) {
+            Long dayId = dayIds.get(i);
+            addExerciseDetailRows(exerciseDetailRows, dayId, dayDtos.get(i), exerciseIdsByName);
+        }
+
+        if (!exerciseDetailRows.isEmpty()) {
+            routineBulkRepository.insertExerciseDetails(exerciseDetailRows);
+        }
+    }
+
+    private void addExerciseDetailRows(List<ExerciseDetailRow> exerciseDetailRows, Long dayId,
+                                       RoutineRequestDto.DayDto dayDto, Map<String, Long> exerciseIdsByName) {
+        dayDto.getExercises().forEach(exerciseDto -> {
+            RoutineRequestDto.RestTimeDto restTime = exerciseDto.getRestTime();
+            TimeTemplate timeTemplate = new TimeTemplate(restTime.getHours(), restTime.getMinutes(), restTime.getSeconds());
+
+            exerciseDto.getExerciseSets().forEach(exerciseSetDto -> exerciseDetailRows.add(
+                    ExerciseDetailRow.builder()
+                            .dayId(dayId)
+                            .exerciseId(exerciseIdsByName.get(exerciseDto.getName()))
+                            .exerciseOrder(exerciseDto.getOrder())
+                            .setOrder(exerciseSetDto.getOrder())
+                            .setCount(exerciseSetDto.getOrder())
+                            .repetitionCount(exerciseSetDto.getCounts())
+                            .weight(exerciseSetDto.getWeights())
+                            .restTime(timeTemplate)
+                            .build()
+            ));
+        });
+    }
+
+    /**
+     * 루틴에 포함된 운동 이름을 운동 목록 캐시에서 id 로 바꾼다. 캐시에 없는 이름은 한 번의 IN 쿼리로 조회하고, 존재하지 않는 운동이 있다면 예외를 던진다.
+     */
+    private Map<String, Long> findExerciseIdsByName(List<RoutineRequestDto.DayDto> dayDtos) {
+        Set<String> exerciseNames = dayDtos.stream()
+                .flatMap(dayDto -> dayDto.getExercises().stream())
+                .map(RoutineRequestDto.ExerciseDto::getName)
+                .collect(Collectors.toSet());
+
+        Map<String, ExerciseCatalog.CatalogExercise> exercisesByName = exerciseCatalog.findAllByNames(exerciseNames);
+        if (exercisesByName.size() != exerciseNames.size()) {
+            throw new NotFoundExercise();
+        }
+
+        return exercisesByName.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getId()));
     }
 
     @Transactional
@@ -262,7 +344,9 @@ public class RoutineService {
             throw new UnauthorizedUser("사용자에게 루틴을 삭제할 권한이 없습니다.");
         }
 
+        routineSearchIndex.remove(routineId);
         routineRepository.deleteById(routineId);
+        routineDaysCache.evict(routineId);
     }
 
     @Transactional
@@ -279,6 +363,8 @@ public class RoutineService {
         }
 
         userRoutineCollectionRepository.save(userRoutineCollection);
+        routineReactionCache.addAfterCommit(SCRAPPED, email, routineId);
+        notificationOutboxService.record(routine.getUser(), user, ROUTINE_SCRAP, routineId);
         return getScrapCounts(routineId);
     }
 
@@ -297,13 +383,14 @@ public class RoutineService {
                 .orElseThrow(NotFoundScrappedUserRoutine::new);
 
         userRoutineCollectionRepository.delete(userRoutineCollection);
+        routineReactionCache.removeAfterCommit(SCRAPPED, email, routineId);
         return getScrapCounts(routineId);
     }
 
     @Transactional(readOnly = true)
     public RoutineListResponseDto getScrappedRoutines(String email, Pageable pageable) {
-        Slice<Routine> routinesByUserEmail = userRoutineCollectionRepository.findRoutinesByUserEmail(email, pageable);
+        Slice<RoutineDto> scrappedRoutines = routineRepository.findScrappedRoutineDtos(email, pageable);
 
-        return getRoutineListResponseDto(routinesByUserEmail, email);
+        return getRoutineListResponseDto(scrappedRoutines, email);
     }
 }
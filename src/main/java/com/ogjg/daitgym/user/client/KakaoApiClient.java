@@ -0,0 +1,134 @@
+package com.ogjg.daitgym.user.client;
+
+import com.ogjg.daitgym.common.exception.user.FailedKaKaoApi;
+import com.ogjg.daitgym.common.exception.user.ForbiddenKaKaoSocial;
+import com.ogjg.daitgym.user.dto.request.KaKaoFriendsRequest;
+import com.ogjg.daitgym.user.dto.response.KakaoAccountResponse;
+import com.ogjg.daitgym.user.dto.response.KakaoTokenResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+
+/**
+ * 카카오 OAuth / API 호출
+ * 모든 요청은 커넥션 풀이 설정된 kakaoWebClient 를 공유한다.
+ * 인가 코드는 한 번만 사용할 수 있으므로 토큰 발급은 연결 실패일 때만 재시도하고,
+ * 조회 API 는 카카오 서버의 5xx 응답도 재시도한다.
+ */
+@Slf4j
+@Component
+public class KakaoApiClient {
+
+    public static final int MAX_RETRY = 2;
+    public static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private final WebClient kakaoWebClient;
+    private final String clientId;
+    private final String redirectUri;
+    private final String clientSecret;
+    private final String tokenUri;
+    private final String userInfoUri;
+    private final String friendsUri;
+
+    public KakaoApiClient(
+            WebClient kakaoWebClient,
+            @Value("${kakao.client-id}") String clientId,
+            @Value("${kakao.redirect-uri}") String redirectUri,
+            @Value("${kakao.client-secret}") String clientSecret,
+            @Value("${kakao.token-uri}") String tokenUri,
+            @Value("${kakao.user-info-uri}") String userInfoUri,
+            @Value("${kakao.friends-uri:https://kapi.kakao.com/v1/api/talk/friends}") String friendsUri
+    ) {
+        this.kakaoWebClient = kakaoWebClient;
+        this.clientId = clientId;
+        this.redirectUri = redirectUri;
+        this.clientSecret = clientSecret;
+        this.tokenUri = tokenUri;
+        this.userInfoUri = userInfoUri;
+        this.friendsUri = friendsUri;
+    }
+
+    /**
+     * 인가 코드로 카카오 access token 발급
+     */
+    public Mono<KakaoTokenResponse> requestToken(String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code"); //카카오 공식문서 기준 authorization_code 로 고정
+        params.add("client_id", clientId); // 카카오 Dev 앱 REST API 키
+        params.add("redirect_uri", redirectUri); // 카카오 Dev redirect uri
+        params.add("code", code); // 프론트에서 인가 코드 요청시 받은 인가 코드값
+        params.add("client_secret", clientSecret); // 카카오 Dev 카카오 로그인 Client Secret
+
+        return kakaoWebClient.post()
+                .uri(tokenUri)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class)
+                .retryWhen(retrySpec().filter(WebClientRequestException.class::isInstance))
+                .onErrorMap(this::isNotMapped, this::toKakaoApiFail);
+    }
+
+    /**
+     * access token 으로 카카오 사용자 정보 조회
+     */
+    public Mono<KakaoAccountResponse> requestUserInfo(String kakaoAccessToken) {
+        return kakaoWebClient.post()
+                .uri(userInfoUri)
+                .headers(headers -> headers.setBearerAuth(kakaoAccessToken))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .retrieve()
+                .bodyToMono(KakaoAccountResponse.class)
+                .retryWhen(retrySpec().filter(this::isRetryable))
+                .onErrorMap(this::isNotMapped, this::toKakaoApiFail);
+    }
+
+    /**
+     * access token 으로 카카오톡 친구 목록 조회
+     * 친구 목록 제공에 동의하지 않은 경우 카카오는 403 을 응답한다.
+     */
+    public Mono<KaKaoFriendsRequest> requestFriends(String kakaoAccessToken) {
+        return kakaoWebClient.get()
+                .uri(friendsUri)
+                .headers(headers -> headers.setBearerAuth(kakaoAccessToken))
+                .retrieve()
+                .onStatus(status -> status.isSameCodeAs(HttpStatus.FORBIDDEN),
+                        response -> Mono.error(new ForbiddenKaKaoSocial()))
+                .bodyToMono(KaKaoFriendsRequest.class)
+                .retryWhen(retrySpec().filter(this::isRetryable))
+                .onErrorMap(this::isNotMapped, this::toKakaoApiFail);
+    }
+
+    private RetryBackoffSpec retrySpec() {
+        return Retry.backoff(MAX_RETRY, RETRY_BACKOFF)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private boolean isRetryable(Throwable e) {
+        return e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is5xxServerError());
+    }
+
+    private boolean isNotMapped(Throwable e) {
+        return !(e instanceof ForbiddenKaKaoSocial);
+    }
+
+    private Throwable toKakaoApiFail(Throwable e) {
+        log.error("카카오 API 호출 실패 : {}", e.getMessage());
+        return new FailedKaKaoApi();
+    }
+}
@@ -7,6 +7,7 @@ import com.ogjg.daitgym.alarm.service.FcmTokenService;
 import com.ogjg.daitgym.common.exception.ErrorCode;
 import com.ogjg.daitgym.common.response.ApiResponse;
 import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService;
 import com.ogjg.daitgym.user.dto.request.ApplyForApprovalRequest;
 import com.ogjg.daitgym.user.dto.request.EditNicknameRequest;
 import com.ogjg.daitgym.user.dto.request.EditUserProfileRequest;
@@ -23,6 +24,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
+import static com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService.REFRESH_TOKEN_COOKIE;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/users")
@@ -30,6 +33,7 @@ public class UserController {
 
     private final UserService userService;
     private final FcmTokenService fcmTokenService;
+    private final RefreshTokenService refreshTokenService;
 
     private final ObjectMapper objectMapper;
 
@@ -39,12 +43,25 @@ public class UserController {
     @PostMapping("/logout")
     public ApiResponse<?> logout(HttpServletResponse response,
                                  @RequestBody FcmTokenRequestDto fcmTokenRequestDto,
+                                 @CookieValue(value = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
                                  @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        refreshTokenService.revoke(refreshToken);
         response.setHeader("Set-Cookie", userService.getExpiredResponseCookie().toString());
         fcmTokenService.deleteFcmToken(fcmTokenRequestDto, oAuth2JwtUserDetails);
         return new ApiResponse<>(ErrorCode.SUCCESS.changeMessage("로그아웃 성공"));
     }
 
+    /**
+     * 모든 기기에서 로그아웃 - 사용자의 모든 refresh token 을 폐기한다.
+     */
+    @PostMapping("/logout/all")
+    public ApiResponse<?> logoutAll(HttpServletResponse response,
+                                    @AuthenticationPrincipal OAuth2JwtUserDetails oAuth2JwtUserDetails) {
+        refreshTokenService.revokeAll(oAuth2JwtUserDetails.getEmail());
+        response.setHeader("Set-Cookie", userService.getExpiredResponseCookie().toString());
+        return new ApiResponse<>(ErrorCode.SUCCESS.changeMessage("모든 기기에서 로그아웃 성공"));
+    }
+
     /**
      * 닉네임 중복 검사
      */
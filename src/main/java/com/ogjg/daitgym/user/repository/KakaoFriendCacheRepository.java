@@ -0,0 +1,60 @@
+package com.ogjg.daitgym.user.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.user.dto.response.KaKaoFriendsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자별 카카오 친구 목록 캐시
+ * 친구 목록은 카카오 API 호출과 DB 조회가 함께 필요하므로 짧은 TTL 동안 응답 전체를 JSON 으로 저장한다.
+ * 친구의 프로필, 인바디 변경은 TTL 이 지난 뒤에 반영된다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class KakaoFriendCacheRepository {
+
+    private static final String KEY_PREFIX = "kakao:friends:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<KaKaoFriendsResponse> find(String email) {
+        String cached = stringRedisTemplate.opsForValue().get(key(email));
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(cached, KaKaoFriendsResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("카카오 친구 목록 캐시 역직렬화 실패 email={}", email);
+            evict(email);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String email, KaKaoFriendsResponse response) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(email), objectMapper.writeValueAsString(response), CACHE_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("카카오 친구 목록 캐시 직렬화 실패 email={}", email);
+        }
+    }
+
+    public void evict(String email) {
+        stringRedisTemplate.delete(key(email));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
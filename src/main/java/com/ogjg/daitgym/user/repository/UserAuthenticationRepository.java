@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface UserAuthenticationRepository extends JpaRepository<UserAuthentication, Long> {
+public interface UserAuthenticationRepository extends JpaRepository<UserAuthentication, Long>, UserAuthenticationRepositoryCustom {
 
     Optional<UserAuthentication> findByUserEmail(String email);
     Optional<UserAuthentication> findByProviderId(Long Id);
@@ -0,0 +1,11 @@
+package com.ogjg.daitgym.user.repository;
+
+import com.ogjg.daitgym.user.dto.response.KaKaoFriendResponseDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserAuthenticationRepositoryCustom {
+
+    List<KaKaoFriendResponseDto> findFriendProfilesByProviderIds(Collection<Long> providerIds);
+}
@@ -0,0 +1,51 @@
+package com.ogjg.daitgym.user.repository;
+
+import com.ogjg.daitgym.domain.QInbody;
+import com.ogjg.daitgym.user.dto.response.KaKaoFriendResponseDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.ogjg.daitgym.domain.QInbody.inbody;
+import static com.ogjg.daitgym.domain.QUser.user;
+import static com.ogjg.daitgym.domain.QUserAuthentication.userAuthentication;
+
+@RequiredArgsConstructor
+public class UserAuthenticationRepositoryImpl implements UserAuthenticationRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 카카오 회원번호 목록으로 가입한 사용자의 프로필과 최신 인바디 점수를 한 번에 조회한다.
+     * 가입하지 않은 회원번호는 결과에서 빠지고, 인바디 기록이 없는 사용자의 점수는 0 이다.
+     * 최신 인바디는 사용자별로 가장 마지막에 저장된(id 가 가장 큰) 기록이다.
+     */
+    @Override
+    public List<KaKaoFriendResponseDto> findFriendProfilesByProviderIds(Collection<Long> providerIds) {
+        if (providerIds.isEmpty()) {
+            return List.of();
+        }
+
+        QInbody latestInbody = new QInbody("latestInbody");
+
+        return jpaQueryFactory.select(Projections.constructor(KaKaoFriendResponseDto.class,
+                        user.nickname,
+                        user.imageUrl,
+                        user.introduction,
+                        inbody.score.coalesce(0)
+                ))
+                .from(userAuthentication)
+                .join(userAuthentication.user, user)
+                .leftJoin(inbody).on(inbody.id.eq(
+                        JPAExpressions.select(latestInbody.id.max())
+                                .from(latestInbody)
+                                .where(latestInbody.user.eq(user))
+                ))
+                .where(userAuthentication.providerId.in(providerIds))
+                .fetch();
+    }
+}
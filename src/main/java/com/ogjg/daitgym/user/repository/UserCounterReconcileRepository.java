@@ -0,0 +1,77 @@
+package com.ogjg.daitgym.user.repository;
+
+import com.ogjg.daitgym.domain.ApproveStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * users 의 비정규화 값을 원본 테이블 기준으로 다시 계산한다.
+ * 사용자를 email 순으로 나눠 한 번에 chunk 크기만큼만 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCounterReconcileRepository {
+
+    private static final String SELECT_EMAILS_SQL =
+            "SELECT email FROM users WHERE email > :after ORDER BY email LIMIT :limit";
+
+    private static final String RECONCILE_COUNTS_SQL =
+            "UPDATE users SET " +
+                    "follower_count = (SELECT COUNT(*) FROM follow f WHERE f.target_email = users.email), " +
+                    "following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_email = users.email), " +
+                    "journal_count = (SELECT COUNT(*) FROM exercise_journal j WHERE j.email = users.email), " +
+                    "inbody_score_sum = (SELECT COALESCE(SUM(i.score), 0) FROM inbody i WHERE i.email = users.email), " +
+                    "inbody_count = (SELECT COUNT(*) FROM inbody i WHERE i.email = users.email) " +
+                    "WHERE email IN (:emails)";
+
+    private static final String SELECT_APPROVALS_SQL =
+            "SELECT applicant.email, a.approve_status FROM approval a " +
+                    "JOIN (SELECT email, approval_id FROM award WHERE email IN (:emails) " +
+                    "UNION SELECT email, approval_id FROM certification WHERE email IN (:emails)) applicant " +
+                    "ON applicant.approval_id = a.id " +
+                    "ORDER BY a.created_at, a.id";
+
+    private static final String UPDATE_LATEST_APPROVAL_STATUS_SQL =
+            "UPDATE users SET latest_approval_status = :status WHERE email = :email";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<String> findEmailsAfter(String after, int limit) {
+        return namedParameterJdbcTemplate.queryForList(
+                SELECT_EMAILS_SQL, Map.of("after", after, "limit", limit), String.class
+        );
+    }
+
+    public void reconcileCounts(List<String> emails) {
+        namedParameterJdbcTemplate.update(RECONCILE_COUNTS_SQL, Map.of("emails", emails));
+    }
+
+    /**
+     * 사용자마다 가장 최근 심사 요청의 상태로 맞춘다. 심사 요청이 없다면 null 이다.
+     * approval.approve_status 는 ordinal 로 저장되어 있다.
+     */
+    public void reconcileLatestApprovalStatus(List<String> emails) {
+        Map<String, String> latestStatuses = new HashMap<>();
+        emails.forEach(email -> latestStatuses.put(email, null));
+
+        namedParameterJdbcTemplate.query(SELECT_APPROVALS_SQL, Map.of("emails", emails), rs -> {
+            int ordinal = rs.getInt("approve_status");
+            latestStatuses.put(rs.getString("email"), rs.wasNull() ? null : ApproveStatus.values()[ordinal].name());
+        });
+
+        SqlParameterSource[] batchParams = latestStatuses.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("email", entry.getKey())
+                        .addValue("status", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate(UPDATE_LATEST_APPROVAL_STATUS_SQL, batchParams);
+    }
+}
@@ -1,9 +1,10 @@
 package com.ogjg.daitgym.user.repository;
 
 import com.ogjg.daitgym.domain.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,7 +21,29 @@ public interface UserRepository extends JpaRepository<User,String> {
 """)
     Optional<User> findByEmailIncludingDeleted(@Param("email") String email);
 
-    Page<User> findByNicknameStartingWith(String nickname, Pageable pageable);
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.healthClub WHERE u.nickname = :nickname")
+    Optional<User> findWithHealthClubByNickname(@Param("nickname") String nickname);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = u.followerCount + :delta WHERE u.email = :email")
+    void addFollowerCount(@Param("email") String email, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount + :delta WHERE u.email = :email")
+    void addFollowingCount(@Param("email") String email, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.journalCount = u.journalCount + :delta WHERE u.email = :email")
+    void addJournalCount(@Param("email") String email, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.inbodyScoreSum = u.inbodyScoreSum + :score, u.inbodyCount = u.inbodyCount + 1 WHERE u.email = :email")
+    void addInbodyScore(@Param("email") String email, @Param("score") int score);
+
+    /**
+     * 닉네임 prefix 검색. nickname unique 인덱스의 범위 조회로 처리되고, count 쿼리 없이 Slice 로 조회한다.
+     */
+    Slice<User> findSliceByNicknameStartingWithOrderByNicknameAsc(String nickname, Pageable pageable);
 
     List<User> findByNicknameStartingWith(String nickname);
 }
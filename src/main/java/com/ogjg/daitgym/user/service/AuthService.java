@@ -1,11 +1,9 @@
 package com.ogjg.daitgym.user.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenService;
 import com.ogjg.daitgym.domain.*;
+import com.ogjg.daitgym.user.client.KakaoApiClient;
 import com.ogjg.daitgym.user.dto.response.KakaoAccountResponse;
 import com.ogjg.daitgym.user.dto.response.KakaoTokenResponse;
 import com.ogjg.daitgym.user.dto.response.LoginResponse;
@@ -15,13 +13,9 @@ import com.ogjg.daitgym.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.UUID;
@@ -38,21 +32,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserAuthenticationRepository userAuthenticationRepository;
     private final HealthClubRepository healthClubRepository;
-
-    @Value("${kakao.client-id}")
-    private String KAKAO_CLIENT_ID;
-
-    @Value("${kakao.redirect-uri}")
-    private String KAKAO_REDIRECT_URI;
-
-    @Value("${kakao.client-secret}")
-    private String KAKAO_CLIENT_SECRET;
-
-    @Value("${kakao.token-uri}")
-    private String KAKAO_TOKEN_URI;
-
-    @Value("${kakao.user-info-uri}")
-    private String KAKAO_USER_INFO_URI;
+    private final RefreshTokenService refreshTokenService;
+    private final KakaoApiClient kakaoApiClient;
 
     // 토큰으로 사용자 정보 가져오기 -> 처음 로그인인지 체크하고 로그인 응답 생성
     @Transactional
@@ -119,73 +100,12 @@ public class AuthService {
         }
     }
 
-    @Transactional
     public KakaoTokenResponse getKakaoAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        // Http Response Body 객체 생성
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code"); //카카오 공식문서 기준 authorization_code 로 고정
-        params.add("client_id", KAKAO_CLIENT_ID); // 카카오 Dev 앱 REST API 키
-        params.add("redirect_uri", KAKAO_REDIRECT_URI); // 카카오 Dev redirect uri
-        params.add("code", code); // 프론트에서 인가 코드 요청시 받은 인가 코드값
-        params.add("client_secret", KAKAO_CLIENT_SECRET); // 카카오 Dev 카카오 로그인 Client Secret
-        // 헤더와 바디 합치기 위해 Http Entity 객체 생성
-        HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(params, headers);
-
-        // 카카오로부터 Access token 받아오기
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> accessTokenResponse = rt.exchange(
-                KAKAO_TOKEN_URI, // "https://kauth.kakao.com/oauth/token"
-                HttpMethod.POST,
-                kakaoTokenRequest,
-                String.class
-        );
-
-        // JSON Parsing (-> KakaoTokenDto)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        KakaoTokenResponse kakaoTokenResponse = null;
-        try {
-            kakaoTokenResponse = objectMapper.readValue(accessTokenResponse.getBody(), KakaoTokenResponse.class);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-        }
-
-        return kakaoTokenResponse;
+        return kakaoApiClient.requestToken(code).block();
     }
 
     private KakaoAccountResponse requestUserInfoToKakao(String kakaoAccessToken) {
-        RestTemplate rt = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + kakaoAccessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        HttpEntity<MultiValueMap<String, String>> accountInfoRequest = new HttpEntity<>(headers);
-
-        // POST 방식으로 API 서버에 요청 후 response 받아옴
-        ResponseEntity<String> accountInfoResponse = rt.exchange(
-                KAKAO_USER_INFO_URI, // "https://kapi.kakao.com/v2/user/me"
-                HttpMethod.POST,
-                accountInfoRequest,
-                String.class
-        );
-
-        // JSON Parsing (-> kakaoAccountDto)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        KakaoAccountResponse kakaoAccountResponse = null;
-
-        try {
-            kakaoAccountResponse = objectMapper.readValue(accountInfoResponse.getBody(), KakaoAccountResponse.class);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-        }
-        return kakaoAccountResponse;
+        return kakaoApiClient.requestUserInfo(kakaoAccessToken).block();
     }
 
     private HealthClub findDefaultHealthClub() {
@@ -223,22 +143,11 @@ public class AuthService {
 
     private void addTokensInHeader(HttpServletResponse response, JwtUserClaimsDto jwtUserClaimsDto) {
         String accessToken = TokenGenerator.generateAccessToken(jwtUserClaimsDto);
-        String refreshToken = TokenGenerator.generateRefreshToken(jwtUserClaimsDto);
+        String refreshToken = refreshTokenService.issue(jwtUserClaimsDto);
 
         response.addHeader(HEADER_AUTHORIZATION, TOKEN_PREFIX + accessToken);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setHeader("Set-Cookie", createRefreshTokenCookie(refreshToken).toString());
+        response.setHeader("Set-Cookie", refreshTokenService.createCookie(refreshToken).toString());
         response.setCharacterEncoding("UTF-8");
     }
-
-    private ResponseCookie createRefreshTokenCookie(String refreshToken) {
-        return ResponseCookie.from("refreshToken", refreshToken)
-                .maxAge(60 * 60 * 24 * 30)
-                .path("/")
-                .httpOnly(true)
-                .secure(true)
-                .sameSite("None")
-                .build();
-    }
 }
-
@@ -1,87 +1,58 @@
 package com.ogjg.daitgym.user.service;
 
-import com.ogjg.daitgym.common.exception.user.ForbiddenKaKaoSocial;
 import com.ogjg.daitgym.common.exception.user.NotFoundUser;
-import com.ogjg.daitgym.common.exception.user.NotFoundUserAuthentication;
-import com.ogjg.daitgym.domain.Inbody;
-import com.ogjg.daitgym.domain.UserAuthentication;
+import com.ogjg.daitgym.user.client.KakaoApiClient;
 import com.ogjg.daitgym.user.dto.request.KaKaoFriendsRequest;
-import com.ogjg.daitgym.user.dto.response.KaKaoFriendResponseDto;
+import com.ogjg.daitgym.user.dto.request.KaKaoFriendsRequestDto;
 import com.ogjg.daitgym.user.dto.response.KaKaoFriendsResponse;
-import com.ogjg.daitgym.user.repository.InbodyRepository;
+import com.ogjg.daitgym.user.repository.KakaoFriendCacheRepository;
 import com.ogjg.daitgym.user.repository.UserAuthenticationRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class KakaoFriendService {
 
-    private final RestTemplate restTemplate;
+    private final KakaoApiClient kakaoApiClient;
     private final UserAuthenticationRepository userAuthenticationRepository;
-    private final InbodyRepository inbodyRepository;
-
-    public KakaoFriendService(UserAuthenticationRepository userAuthenticationRepository, InbodyRepository inbodyRepository) {
-        this.restTemplate = new RestTemplate();
-        this.userAuthenticationRepository = userAuthenticationRepository;
-        this.inbodyRepository = inbodyRepository;
-    }
-
+    private final KakaoFriendCacheRepository kakaoFriendCacheRepository;
 
     /**
      * 카카오 서버로 accessToken을 담아 요청을 보내 친구목록을 받아오기
+     * 친구들의 회원번호는 한 번의 IN 쿼리로 조회하고, 가입하지 않은 친구는 제외한다.
+     * 조회 결과는 사용자별로 짧은 시간 캐시한다.
      *
      * @param email 로그인중인 사용자 이메일
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public KaKaoFriendsResponse requestKaKaoFriendsList(String email) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + getAccessToken(email));
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<KaKaoFriendsRequest> response = restTemplate.exchange(
-                    "https://kapi.kakao.com/v1/api/talk/friends",
-                    HttpMethod.GET,
-                    entity,
-                    KaKaoFriendsRequest.class
-            );
-
-            KaKaoFriendsRequest kaKaoFriendsRequest = response.getBody();
-            List<KaKaoFriendResponseDto> responseDtoList = new ArrayList<>();
+        return kakaoFriendCacheRepository.find(email)
+                .orElseGet(() -> {
+                    KaKaoFriendsResponse response = loadKaKaoFriends(email);
+                    kakaoFriendCacheRepository.save(email, response);
+                    return response;
+                });
+    }
 
-            kaKaoFriendsRequest.getElements().forEach(
-                    kaKaoFriendsRequestDto -> {
-                        UserAuthentication userAuthentication = userAuthenticationRepository.findByProviderId(kaKaoFriendsRequestDto.getId())
-                                .orElseThrow(NotFoundUserAuthentication::new);
+    private KaKaoFriendsResponse loadKaKaoFriends(String email) {
+        KaKaoFriendsRequest kaKaoFriendsRequest = kakaoApiClient.requestFriends(getAccessToken(email)).block();
 
-                        responseDtoList.add(
-                                new KaKaoFriendResponseDto(
-                                        userAuthentication.getUser().getNickname(),
-                                        userAuthentication.getUser().getImageUrl(),
-                                        userAuthentication.getUser().getIntroduction(),
-                                        inbodyRepository.findFirstByUserEmailOrderByCreatedAtDesc(
-                                                        userAuthentication.getUser().getEmail())
-                                                .map(Inbody::getScore)
-                                                .orElse(0)
-                                )
-                        );
-                    });
+        List<Long> providerIds = kaKaoFriendsRequest.getElements().stream()
+                .map(KaKaoFriendsRequestDto::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
 
-            return new KaKaoFriendsResponse(responseDtoList);
-        } catch (HttpClientErrorException.Forbidden e) {
-            log.error(e.getMessage());
-            throw new ForbiddenKaKaoSocial();
-        }
+        return new KaKaoFriendsResponse(
+                userAuthenticationRepository.findFriendProfilesByProviderIds(providerIds)
+        );
     }
 
     private String getAccessToken(String email) {
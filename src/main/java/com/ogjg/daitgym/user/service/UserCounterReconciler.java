@@ -0,0 +1,67 @@
+package com.ogjg.daitgym.user.service;
+
+import com.ogjg.daitgym.common.lock.RedisJobLock;
+import com.ogjg.daitgym.user.repository.UserCounterReconcileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 팔로워, 팔로잉, 운동일지 수와 인바디 누적 점수, 최근 심사 상태 보정
+ * 증감 쿼리가 누락되거나 중복된 경우를 위해 매일 새벽 원본 테이블 기준으로 다시 계산한다.
+ * 비정규화 컬럼이 추가되기 전의 사용자도 채워지도록 서버가 뜰 때 한 번 실행한다.
+ * 여러 서버가 함께 실행하지 않도록 RedisJobLock 을 잡은 서버에서만 실행하고, chunk 마다 트랜잭션을 나눠 한 번에 오래 잠그지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounterReconciler {
+
+    private static final String JOB_NAME = "user-counter-reconcile";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserCounterReconcileRepository userCounterReconcileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisJobLock redisJobLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::reconcile);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileDaily() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::reconcile);
+    }
+
+    void reconcile() {
+        String after = "";
+        int reconciled = 0;
+
+        while (true) {
+            List<String> emails = userCounterReconcileRepository.findEmailsAfter(after, CHUNK_SIZE);
+            if (emails.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                userCounterReconcileRepository.reconcileCounts(emails);
+                userCounterReconcileRepository.reconcileLatestApprovalStatus(emails);
+            });
+
+            reconciled += emails.size();
+            after = emails.get(emails.size() - 1);
+        }
+
+        log.info("사용자 카운터 보정 완료 users={}", reconciled);
+    }
+}
@@ -1,8 +1,6 @@
 package com.ogjg.daitgym.user.service;
 
 import com.ogjg.daitgym.approval.repository.ApprovalRepository;
-import com.ogjg.daitgym.approval.repository.AwardRepository;
-import com.ogjg.daitgym.approval.repository.CertificationRepository;
 import com.ogjg.daitgym.comment.feedExerciseJournal.exception.WrongApproach;
 import com.ogjg.daitgym.common.exception.user.AlreadyExistNickname;
 import com.ogjg.daitgym.common.exception.user.AlreadyProceedingApproval;
@@ -12,10 +10,8 @@ import com.ogjg.daitgym.domain.Approval;
 import com.ogjg.daitgym.domain.HealthClub;
 import com.ogjg.daitgym.domain.Inbody;
 import com.ogjg.daitgym.domain.User;
-import com.ogjg.daitgym.domain.follow.Follow;
 import com.ogjg.daitgym.domain.routine.Routine;
-import com.ogjg.daitgym.follow.repository.FollowRepository;
-import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.ogjg.daitgym.follow.service.FollowGraphService;
 import com.ogjg.daitgym.routine.repository.RoutineRepository;
 import com.ogjg.daitgym.s3.service.S3UserService;
 import com.ogjg.daitgym.user.dto.request.ApplyForApprovalRequest;
@@ -27,8 +23,9 @@ import com.ogjg.daitgym.user.repository.HealthClubRepository;
 import com.ogjg.daitgym.user.repository.InbodyRepository;
 import com.ogjg.daitgym.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,8 +36,6 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.ogjg.daitgym.domain.ApproveStatus.WAITING;
-import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toList;
 
 @Service
 @RequiredArgsConstructor
@@ -52,25 +47,24 @@ public class UserService {
 
     private final HealthClubRepository healthClubRepository;
 
-    private final FollowRepository followRepository;
+    private final FollowGraphService followGraphService;
 
     private final ApprovalRepository approvalRepository;
 
-    private final AwardRepository awardRepository;
-
-    private final CertificationRepository certificationRepository;
-
     private final InbodyRepository inbodyRepository;
 
     private final RoutineRepository routineRepository;
 
-    private final ExerciseJournalRepository exerciseJournalRepository;
-
     private final S3UserService s3UserService;
 
+    /**
+     * 프로필 조회
+     * 일지, 팔로워, 팔로잉 수와 최근 트레이너 심사 상태는 users 에 비정규화된 값을 사용하므로 사용자 한 건만 조회한다.
+     */
     @Transactional(readOnly = true)
     public GetUserProfileGetResponse getUserProfile(String loginEmail, String nickname) {
-        User targetUser = userHelper.findUserByNickname(nickname);
+        User targetUser = userRepository.findWithHealthClubByNickname(nickname)
+                .orElseThrow(NotFoundUser::new);
 
         return GetUserProfileGetResponse.builder()
                 .nickname(targetUser.getNickname())
@@ -78,39 +72,16 @@ public class UserService {
                 .userProfileImgUrl(targetUser.getImageUrl())
                 .introduction(targetUser.getIntroduction())
                 .healthClubName(targetUser.getHealthClub().getName())
-                .isFollower(isTargetUserFollowedByLoginUser(targetUser.getEmail(), loginEmail))
+                .isFollower(followGraphService.isFollowing(loginEmail, targetUser.getEmail()))
                 .role(targetUser.getRole().getTitle())
-                .journalCount(exerciseJournalRepository.countByUserEmail(targetUser.getEmail()))
-                .followerCount(followRepository.countByFollowPKTargetEmail(targetUser.getEmail()))
-                .followingCount(followRepository.countByFollowPKFollowerEmail(targetUser.getEmail()))
+                .journalCount(targetUser.getJournalCount())
+                .followerCount(targetUser.getFollowerCount())
+                .followingCount(targetUser.getFollowingCount())
                 .isMyProfile(targetUser.getEmail().equals(loginEmail))
-                .submitTrainerQualification(hasProceedingApproval(targetUser))
+                .submitTrainerQualification(targetUser.hasProceedingApproval())
                 .build();
     }
 
-    private boolean isTargetUserFollowedByLoginUser(String targetEmail, String loginEmail) {
-        return followRepository.findByFollowPK(Follow.createFollowPK(targetEmail, loginEmail))
-                .isPresent();
-    }
-
-    private boolean hasProceedingApproval(User user) {
-        List<Approval> awardApprovals = awardRepository.findByUserEmail(user.getEmail()).stream()
-                .map((award -> award.getApproval()))
-                .collect(toList());
-
-        List<Approval> certificationApprovals = certificationRepository.findByUserEmail(user.getEmail()).stream()
-                .map((certification -> certification.getApproval()))
-                .collect(toList());
-
-        awardApprovals.addAll(certificationApprovals);
-        Approval approval = awardApprovals.stream()
-                .sorted(comparing(Approval::getCreatedAt).reversed())
-                .findFirst()
-                .orElse(null);
-
-        return approval != null && approval.isProceeding();
-    }
-
     @Transactional
     public EditUserProfileResponse editUserProfile(String loginEmail, String nickname, EditUserProfileRequest request, MultipartFile multipartFile) {
         User user = userHelper.findUserByNickname(nickname);
@@ -162,7 +133,7 @@ public class UserService {
     public void applyForApproval(String loginEmail, ApplyForApprovalRequest request, List<MultipartFile> awardImageFiles, List<MultipartFile> certificationImageFiles) {
         User user = userHelper.findUserByEmail(loginEmail);
 
-        if (hasProceedingApproval(user)) {
+        if (user.hasProceedingApproval()) {
             throw new AlreadyProceedingApproval();
         }
         validateOmission(request, awardImageFiles, certificationImageFiles);
@@ -182,6 +153,7 @@ public class UserService {
         approval.addCertifications(request.toCertifications(user), certificationImageUrls);
 
         approvalRepository.save(approval);
+        user.changeLatestApprovalStatus(WAITING);
     }
 
     private void validateOmission(ApplyForApprovalRequest request, List<MultipartFile> awardImages, List<MultipartFile> certificationImages) {
@@ -232,6 +204,7 @@ public class UserService {
 
         if (routine != null) inbody.addRoutineId(routine);
         inbodyRepository.save(inbody);
+        userRepository.addInbodyScore(loginEmail, request.getInbodyScore());
     }
 
     @Transactional(readOnly = true)
@@ -293,7 +266,9 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public GetSearchUsersResponse getSearchedUsers(String nickname, Pageable pageable) {
-        Page<User> searchedUsers = userRepository.findByNicknameStartingWith(nickname, pageable);
+        Slice<User> searchedUsers = userRepository.findSliceByNicknameStartingWithOrderByNicknameAsc(
+                nickname, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        );
 
         return GetSearchUsersResponse.from(
                 searchedUsers.stream()
@@ -308,20 +283,7 @@ public class UserService {
                 .userProfileImageUrl(user.getImageUrl())
                 .nickname(user.getNickname())
                 .introduction(user.getIntroduction())
-                .inbodyScore(getAverageOfInbodyScores(user.getEmail()))
+                .inbodyScore(user.getInbodyScoreAverage())
                 .build();
     }
-
-    // todo : fetch로 변경 고려
-    private int getAverageOfInbodyScores(String email) {
-        List<Inbody> inbodies = inbodyRepository.findByUserEmail(email);
-        if (inbodies.isEmpty()) return 0;
-
-        double sum = inbodies.stream()
-                .mapToDouble(inbody -> inbody.getScore())
-                .reduce(Double::sum)
-                .orElse(0.0);
-
-        return (int) (Math.round(sum / inbodies.size()));
-    }
 }
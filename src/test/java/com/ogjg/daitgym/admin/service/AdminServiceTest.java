@@ -0,0 +1,103 @@
+package com.ogjg.daitgym.admin.service;
+
+import com.ogjg.daitgym.admin.dto.request.EditApprovalRequest;
+import com.ogjg.daitgym.approval.repository.ApprovalRepository;
+import com.ogjg.daitgym.domain.Approval;
+import com.ogjg.daitgym.domain.Award;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ogjg.daitgym.domain.ApproveStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class AdminServiceTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("새 심사를 요청한 뒤 이전 심사를 처리해도 사용자의 최근 심사 상태는 새 심사의 상태이다.")
+    @Test
+    void keepLatestStatusWhenOlderApprovalDecided() {
+        // given
+        User applicant = userRepository.save(createTestUser());
+        Approval olderApproval = approvalRepository.save(createApproval(applicant));
+        Approval newerApproval = approvalRepository.save(createApproval(applicant));
+        applicant.changeLatestApprovalStatus(WAITING);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        adminService.updateApproval(olderApproval.getId(), editRequest(REJECTION.getTitle()), "admin@test.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(userRepository.findById(applicant.getEmail()).orElseThrow().getLatestApprovalStatus()).isEqualTo(WAITING);
+        assertThat(approvalRepository.findById(newerApproval.getId()).orElseThrow().getApproveStatus()).isEqualTo(WAITING);
+    }
+
+    @DisplayName("가장 최근 심사를 처리하면 사용자의 최근 심사 상태도 바뀐다.")
+    @Test
+    void changeLatestStatusWhenLatestApprovalDecided() {
+        // given
+        User applicant = userRepository.save(createTestUser());
+        approvalRepository.save(createApproval(applicant));
+        Approval newerApproval = approvalRepository.save(createApproval(applicant));
+        applicant.changeLatestApprovalStatus(WAITING);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        adminService.updateApproval(newerApproval.getId(), editRequest(SUSPENSION.getTitle()), "admin@test.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(userRepository.findById(applicant.getEmail()).orElseThrow().getLatestApprovalStatus()).isEqualTo(SUSPENSION);
+    }
+
+    private User createTestUser() {
+        return User.builder()
+                .email("applicant@test.com")
+                .nickname("applicant")
+                .role(Role.USER)
+                .build();
+    }
+
+    private Approval createApproval(User applicant) {
+        Approval approval = Approval.builder()
+                .approveStatus(WAITING)
+                .awards(new ArrayList<>())
+                .certifications(new ArrayList<>())
+                .build();
+        approval.addAwards(new ArrayList<>(List.of(Award.builder().user(applicant).awardName("대회").build())), List.of());
+        return approval;
+    }
+
+    private EditApprovalRequest editRequest(String approvalStatus) {
+        return new EditApprovalRequest("사유", approvalStatus, "applicant");
+    }
+}
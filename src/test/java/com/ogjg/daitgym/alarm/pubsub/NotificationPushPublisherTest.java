@@ -0,0 +1,64 @@
+package com.ogjg.daitgym.alarm.pubsub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.alarm.dto.InboxNotificationDto;
+import com.ogjg.daitgym.config.StompTestNode;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+
+import static com.ogjg.daitgym.alarm.pubsub.NotificationPushPublisher.NOTIFICATION_DESTINATION_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 두 대를 한 JVM 에서 띄워, 한 서버에서 발행한 알림을 다른 서버에 접속한 구독자가 받는지 확인한다.
+ */
+class NotificationPushPublisherTest {
+
+    @DisplayName("simple 모드에서 한 서버가 발행한 알림을 다른 서버에 접속한 받는 사람이 받는다.")
+    @Test
+    void pushToSubscriberOnAnotherNode() throws Exception {
+        try (StompTestNode publishingNode = StompTestNode.start("chat.broker.mode=simple");
+             StompTestNode subscribingNode = StompTestNode.start("chat.broker.mode=simple")) {
+            // given
+            String id = UUID.randomUUID().toString().substring(0, 8);
+            UserRepository userRepository = subscribingNode.getBean(UserRepository.class);
+            User recipient = userRepository.save(User.builder()
+                    .email(id + "@daitgym.com")
+                    .nickname(id)
+                    .role(Role.USER)
+                    .build());
+
+            try {
+                StompSession session = subscribingNode.connect(recipient);
+                BlockingQueue<Map<String, Object>> received =
+                        StompTestNode.subscribe(session, NOTIFICATION_DESTINATION_PREFIX + recipient.getEmail());
+                NotificationPushPublisher publisher = publishingNode.getBean(NotificationPushPublisher.class);
+                InboxNotificationDto notification = publishingNode.getBean(ObjectMapper.class).convertValue(
+                        Map.of("id", 1, "actorNickname", "actor", "type", "FOLLOW", "message", "팔로우했습니다."),
+                        InboxNotificationDto.class
+                );
+
+                // when
+                Map<String, Object> pushed = StompTestNode.publishUntilReceived(
+                        () -> publisher.publish(recipient.getEmail(), notification), received
+                );
+
+                // then
+                assertThat(publisher).isInstanceOf(RedisNotificationPushPublisher.class);
+                assertThat(pushed).isNotNull();
+                assertThat(pushed).containsEntry("actorNickname", "actor").containsEntry("message", "팔로우했습니다.");
+                session.disconnect();
+            } finally {
+                userRepository.delete(recipient);
+            }
+        }
+    }
+}
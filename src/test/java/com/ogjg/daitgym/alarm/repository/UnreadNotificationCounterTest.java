@@ -0,0 +1,97 @@
+package com.ogjg.daitgym.alarm.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class UnreadNotificationCounterTest {
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @DisplayName("카운터가 없으면 증가시키지 않는다.")
+    @Test
+    void noIncrementWhenAbsent() {
+        // given
+        String email = randomEmail();
+
+        // when
+        unreadNotificationCounter.incrementIfPresent(email, 2);
+
+        // then
+        assertThat(unreadNotificationCounter.find(email)).isEmpty();
+    }
+
+    @DisplayName("채워진 카운터는 증가시킨다.")
+    @Test
+    void incrementWhenPresent() {
+        // given
+        String email = randomEmail();
+        unreadNotificationCounter.fill(email, () -> 3L);
+
+        // when
+        unreadNotificationCounter.incrementIfPresent(email, 2);
+
+        // then
+        assertThat(unreadNotificationCounter.find(email)).contains(5L);
+    }
+
+    @DisplayName("DB 에서 세는 동안 알림이 전달되면 센 값으로 채우지 않는다.")
+    @Test
+    void noFillWhenIncrementedWhileCounting() {
+        // given
+        String email = randomEmail();
+
+        // when
+        long count = unreadNotificationCounter.fill(email, () -> {
+            unreadNotificationCounter.incrementIfPresent(email, 1);
+            return 3L;
+        });
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        assertThat(unreadNotificationCounter.find(email)).isEmpty();
+    }
+
+    @DisplayName("이미 채워진 카운터는 덮어쓰지 않는다.")
+    @Test
+    void noOverwriteWhenPresent() {
+        // given
+        String email = randomEmail();
+        unreadNotificationCounter.fill(email, () -> 3L);
+
+        // when
+        unreadNotificationCounter.fill(email, () -> 7L);
+
+        // then
+        assertThat(unreadNotificationCounter.find(email)).contains(3L);
+    }
+
+    @DisplayName("지운 카운터는 다음 조회에서 다시 채운다.")
+    @Test
+    void refillAfterEvict() {
+        // given
+        String email = randomEmail();
+        unreadNotificationCounter.fill(email, () -> 3L);
+
+        // when
+        unreadNotificationCounter.evict(email);
+
+        // then
+        assertThat(unreadNotificationCounter.find(email)).isEmpty();
+        unreadNotificationCounter.fill(email, () -> 0L);
+        assertThat(unreadNotificationCounter.find(email)).contains(0L);
+    }
+
+    private String randomEmail() {
+        return UUID.randomUUID() + "@daitgym.com";
+    }
+}
@@ -0,0 +1,216 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.FcmDispatchReport;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import com.ogjg.daitgym.alarm.repository.FcmTokenRepository;
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.domain.FcmToken;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.journal.ExerciseJournal;
+import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.*;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(StubFcmMessagingClient.class)
+@Transactional
+@ActiveProfiles("local")
+class FcmDispatchServiceTest {
+
+    @Autowired
+    private FcmDispatchService fcmDispatchService;
+
+    @Autowired
+    private StubFcmMessagingClient stubFcmMessagingClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private ExerciseJournalRepository exerciseJournalRepository;
+
+    @Autowired
+    private NotificationScheduleRepository notificationScheduleRepository;
+
+    @BeforeEach
+    void setUp() {
+        stubFcmMessagingClient.clear();
+    }
+
+    @DisplayName("기본 슬롯의 모든 토큰에 BATCH_SIZE 개씩 나누어 운동 알림을 보낸다.")
+    @Test
+    void dispatchAllTokensInBatches() {
+        // given
+        int tokenCount = FcmDispatchService.BATCH_SIZE * 2 + 1;
+        List<User> users = IntStream.range(0, tokenCount)
+                .mapToObj(i -> createUser("user" + i + "@test.com", "user" + i))
+                .toList();
+        userRepository.saveAll(users);
+        fcmTokenRepository.saveAll(users.stream().map(user -> createFcmToken(user, "token-" + user.getNickname())).toList());
+
+        // when
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+
+        // then
+        assertThat(stubFcmMessagingClient.getBatches()).hasSize(3);
+        assertThat(stubFcmMessagingClient.getBatches())
+                .allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(FcmDispatchService.BATCH_SIZE));
+        assertThat(stubFcmMessagingClient.getBatches().stream().mapToInt(List::size).sum()).isEqualTo(tokenCount);
+    }
+
+    @DisplayName("슬롯 lease 연장에 실패하면 남은 배치는 보내지 않는다.")
+    @Test
+    void stopWhenLeaseLost() {
+        // given
+        int tokenCount = FcmDispatchService.BATCH_SIZE * 2 + 1;
+        List<User> users = IntStream.range(0, tokenCount)
+                .mapToObj(i -> createUser("user" + i + "@test.com", "user" + i))
+                .toList();
+        userRepository.saveAll(users);
+        fcmTokenRepository.saveAll(users.stream().map(user -> createFcmToken(user, "token-" + user.getNickname())).toList());
+
+        // when
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> false);
+
+        // then
+        assertThat(stubFcmMessagingClient.getBatches()).hasSize(1);
+    }
+
+    @DisplayName("오늘 운동일지가 비어있는 사용자에게는 빈 운동일지 알림을 보낸다.")
+    @Test
+    void dispatchEmptyJournalMessage() {
+        // given
+        User userWithJournal = createUser("journal@test.com", "journal");
+        User userWithoutJournal = createUser("nojournal@test.com", "nojournal");
+        userRepository.saveAll(List.of(userWithJournal, userWithoutJournal));
+        exerciseJournalRepository.save(ExerciseJournal.createJournal(userWithJournal, LocalDate.now(NotificationSchedule.DEFAULT_ZONE)));
+        fcmTokenRepository.saveAll(List.of(
+                createFcmToken(userWithJournal, "token-journal"),
+                createFcmToken(userWithoutJournal, "token-nojournal")
+        ));
+
+        // when
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+
+        // then
+        List<NotificationRequestDto> notifications = stubFcmMessagingClient.getBatches().get(0);
+        assertThat(notifications).hasSize(2);
+        assertThat(notifications)
+                .extracting(NotificationRequestDto::getMessage)
+                .containsOnly(FcmAlarmService.EMPTY_JOURNAL_MESSAGE);
+    }
+
+    @DisplayName("다른 시각에 알림을 설정한 사용자는 기본 슬롯에서 제외된다.")
+    @Test
+    void dispatchOnlyTokensOfSlot() {
+        // given
+        User defaultUser = createUser("default@test.com", "default");
+        User scheduledUser = createUser("scheduled@test.com", "scheduled");
+        userRepository.saveAll(List.of(defaultUser, scheduledUser));
+        notificationScheduleRepository.save(
+                new NotificationSchedule(scheduledUser.getEmail(), LocalTime.of(21, 30), NotificationSchedule.DEFAULT_ZONE)
+        );
+        fcmTokenRepository.saveAll(List.of(
+                createFcmToken(defaultUser, "token-default"),
+                createFcmToken(scheduledUser, "token-scheduled")
+        ));
+
+        // when
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+
+        // then
+        assertThat(stubFcmMessagingClient.getBatches()).hasSize(1);
+        assertThat(stubFcmMessagingClient.getBatches().get(0))
+                .extracting(NotificationRequestDto::getToken)
+                .containsExactly("token-default");
+    }
+
+    @DisplayName("FCM 이 등록 해제된 토큰이라고 응답하면 토큰을 삭제하고, 일시적인 실패는 토큰을 남긴다.")
+    @Test
+    void pruneInvalidTokens() {
+        // given
+        User validUser = createUser("valid@test.com", "valid");
+        User unregisteredUser = createUser("unregistered@test.com", "unregistered");
+        User unavailableUser = createUser("unavailable@test.com", "unavailable");
+        userRepository.saveAll(List.of(validUser, unregisteredUser, unavailableUser));
+        fcmTokenRepository.saveAll(List.of(
+                createFcmToken(validUser, "token-valid"),
+                createFcmToken(unregisteredUser, "token-unregistered"),
+                createFcmToken(unavailableUser, "token-unavailable")
+        ));
+        stubFcmMessagingClient.failWith("token-unregistered", "registration-token-not-registered");
+        stubFcmMessagingClient.failWith("token-unavailable", "unavailable");
+
+        // when
+        FcmDispatchReport report = fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+
+        // then
+        assertThat(report.getSent()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getPruned()).isEqualTo(1);
+        assertThat(fcmTokenRepository.findByUserEmail(unregisteredUser.getEmail())).isEmpty();
+        assertThat(fcmTokenRepository.findByUserEmail(unavailableUser.getEmail())).isPresent();
+    }
+
+    @DisplayName("배치는 슬롯마다 새로 만들지 않고 모든 슬롯이 함께 쓰는 fcm-send 스레드에서 보낸다.")
+    @Test
+    void sendOnSharedExecutor() {
+        // given
+        int tokenCount = FcmDispatchService.BATCH_SIZE * 3;
+        List<User> users = IntStream.range(0, tokenCount)
+                .mapToObj(i -> createUser("user" + i + "@test.com", "user" + i))
+                .toList();
+        userRepository.saveAll(users);
+        fcmTokenRepository.saveAll(users.stream().map(user -> createFcmToken(user, "token-" + user.getNickname())).toList());
+
+        // when
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+        fcmDispatchService.dispatchSlot(NotificationSchedule.DEFAULT_SLOT_MINUTE, defaultSlotScheduledAt(), () -> true);
+
+        // then
+        assertThat(stubFcmMessagingClient.getSenderThreadNames())
+                .hasSize(6)
+                .allSatisfy(threadName -> assertThat(threadName).startsWith("fcm-send-"));
+        assertThat(stubFcmMessagingClient.getSenderThreadNames().stream().distinct().count())
+                .isLessThanOrEqualTo(ScheduledService.DISPATCH_THREADS * FcmDispatchService.MAX_CONCURRENT_BATCHES);
+    }
+
+    private LocalDateTime defaultSlotScheduledAt() {
+        return ZonedDateTime.of(LocalDate.now(NotificationSchedule.DEFAULT_ZONE), NotificationSchedule.DEFAULT_SEND_TIME, NotificationSchedule.DEFAULT_ZONE)
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+
+    private FcmToken createFcmToken(User user, String token) {
+        return FcmToken.builder()
+                .user(user)
+                .token(token)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import com.ogjg.daitgym.alarm.repository.FcmTokenRepository;
+import com.ogjg.daitgym.alarm.repository.InboxNotificationRepository;
+import com.ogjg.daitgym.alarm.repository.NotificationOutboxRepository;
+import com.ogjg.daitgym.domain.FcmToken;
+import com.ogjg.daitgym.domain.InboxNotification;
+import com.ogjg.daitgym.domain.NotificationOutbox;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.follow.service.FollowService;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Import(StubFcmMessagingClient.class)
+@Transactional
+@ActiveProfiles("local")
+class NotificationOutboxRelayTest {
+
+    @Autowired
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    @Autowired
+    private StubFcmMessagingClient stubFcmMessagingClient;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private InboxNotificationRepository inboxNotificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        stubFcmMessagingClient.clear();
+    }
+
+    @DisplayName("팔로우하면 같은 트랜잭션에서 outbox 에 알림이 저장된다.")
+    @Test
+    void recordFollowInOutbox() {
+        // given
+        User target = createUser("target@test.com", "target");
+        User follower = createUser("follower@test.com", "follower");
+        userRepository.saveAll(List.of(target, follower));
+
+        // when
+        followService.follow(follower.getEmail(), target.getNickname());
+
+        // then
+        assertThat(notificationOutboxRepository.findAll())
+                .extracting(NotificationOutbox::getRecipientEmail, NotificationOutbox::getActorNickname, NotificationOutbox::isPublished)
+                .containsExactly(tuple(target.getEmail(), follower.getNickname(), false));
+    }
+
+    @DisplayName("한 사람에게 온 같은 종류의 알림은 하나의 메시지로 합쳐 보내고, 알림함에는 하나씩 저장한다.")
+    @Test
+    void coalesceByRecipient() {
+        // given
+        User target = createUser("target@test.com", "target");
+        User first = createUser("first@test.com", "first");
+        User second = createUser("second@test.com", "second");
+        userRepository.saveAll(List.of(target, first, second));
+        fcmTokenRepository.save(FcmToken.builder().user(target).token("token-target").build());
+
+        followService.follow(first.getEmail(), target.getNickname());
+        followService.follow(second.getEmail(), target.getNickname());
+
+        // when
+        notificationOutboxRelay.relay();
+
+        // then
+        assertThat(stubFcmMessagingClient.getBatches()).hasSize(1);
+        assertThat(stubFcmMessagingClient.getBatches().get(0))
+                .extracting(NotificationRequestDto::getMessage)
+                .containsExactly("second님 외 1명이 회원님을 팔로우하기 시작했습니다.");
+        assertThat(notificationOutboxRepository.findAll()).allMatch(NotificationOutbox::isPublished);
+        assertThat(inboxNotificationRepository.findByRecipientEmailOrderByIdDesc(target.getEmail(), PageRequest.of(0, 10)))
+                .extracting(InboxNotification::getMessage)
+                .containsExactly(
+                        "second님이 회원님을 팔로우하기 시작했습니다.",
+                        "first님이 회원님을 팔로우하기 시작했습니다."
+                );
+    }
+
+    @DisplayName("다른 서버가 claim 중인 알림은 보내지 않는다.")
+    @Test
+    void skipClaimedByOtherRelay() {
+        // given
+        User target = createUser("target@test.com", "target");
+        User follower = createUser("follower@test.com", "follower");
+        userRepository.saveAll(List.of(target, follower));
+        fcmTokenRepository.save(FcmToken.builder().user(target).token("token-target").build());
+        followService.follow(follower.getEmail(), target.getNickname());
+
+        List<Long> ids = notificationOutboxRepository.findAll().stream().map(NotificationOutbox::getId).toList();
+        notificationOutboxRepository.claim(ids, "other-relay", LocalDateTime.now().plusMinutes(5));
+
+        // when
+        notificationOutboxRelay.relay();
+
+        // then
+        assertThat(stubFcmMessagingClient.getBatches()).isEmpty();
+        assertThat(notificationOutboxRepository.findAll()).noneMatch(NotificationOutbox::isPublished);
+    }
+
+    @DisplayName("보관 기간이 지난 전송 완료 알림만 지운다.")
+    @Test
+    void purgePublished() {
+        // given
+        User target = createUser("target@test.com", "target");
+        User first = createUser("first@test.com", "first");
+        User second = createUser("second@test.com", "second");
+        userRepository.saveAll(List.of(target, first, second));
+
+        followService.follow(first.getEmail(), target.getNickname());
+        notificationOutboxRelay.relay();
+        followService.follow(second.getEmail(), target.getNickname());
+
+        // when
+        int deleted = notificationOutboxRelay.purgePublishedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(notificationOutboxRepository.findAll())
+                .extracting(NotificationOutbox::getActorNickname, NotificationOutbox::isPublished)
+                .containsExactly(tuple(second.getNickname(), false));
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+}
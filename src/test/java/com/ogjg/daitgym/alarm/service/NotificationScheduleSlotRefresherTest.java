@@ -0,0 +1,85 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class NotificationScheduleSlotRefresherTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final LocalTime EIGHT = LocalTime.of(8, 0);
+
+    @Autowired
+    private NotificationScheduleSlotRefresher notificationScheduleSlotRefresher;
+
+    @Autowired
+    private NotificationScheduleRepository notificationScheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("일광 절약 시간을 쓰는 시간대의 슬롯은 날짜의 UTC offset 에 따라 달라진다.")
+    @Test
+    void slotMinuteFollowsDst() {
+        // when
+        int winterSlot = NotificationSchedule.toSlotMinute(EIGHT, NEW_YORK, LocalDate.of(2023, 1, 15));
+        int summerSlot = NotificationSchedule.toSlotMinute(EIGHT, NEW_YORK, LocalDate.of(2023, 7, 15));
+
+        // then
+        assertThat(winterSlot).isEqualTo(13 * 60);
+        assertThat(summerSlot).isEqualTo(12 * 60);
+    }
+
+    @DisplayName("다른 계절에 저장된 슬롯은 오늘의 UTC offset 으로 다시 계산한다.")
+    @Test
+    void refreshStaleSlot() {
+        // given
+        notificationScheduleRepository.save(new NotificationSchedule("newyork@test.com", EIGHT, NEW_YORK));
+        int todaySlot = NotificationSchedule.toSlotMinute(EIGHT, NEW_YORK);
+        int otherSeasonSlot = todaySlot == 13 * 60 ? 12 * 60 : 13 * 60;
+        entityManager.flush();
+        entityManager.createQuery("update NotificationSchedule s set s.slotMinute = :slotMinute where s.email = :email")
+                .setParameter("slotMinute", otherSeasonSlot)
+                .setParameter("email", "newyork@test.com")
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        notificationScheduleSlotRefresher.refresh();
+
+        // then
+        assertThat(notificationScheduleRepository.findById("newyork@test.com"))
+                .hasValueSatisfying(schedule -> assertThat(schedule.getSlotMinute()).isEqualTo(todaySlot));
+    }
+
+    @DisplayName("offset 이 고정된 시간대의 슬롯은 바꾸지 않는다.")
+    @Test
+    void keepFixedOffsetSlot() {
+        // given
+        notificationScheduleRepository.save(new NotificationSchedule("fixed@test.com", EIGHT, ZoneId.of("+09:00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        notificationScheduleSlotRefresher.refresh();
+
+        // then
+        assertThat(notificationScheduleRepository.findById("fixed@test.com"))
+                .hasValueSatisfying(schedule -> assertThat(schedule.getSlotMinute()).isEqualTo(23 * 60));
+    }
+}
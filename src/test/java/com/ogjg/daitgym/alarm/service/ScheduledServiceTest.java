@@ -0,0 +1,88 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.repository.NotificationScheduleRepository;
+import com.ogjg.daitgym.alarm.repository.ReminderSlotCheckpointRepository;
+import com.ogjg.daitgym.alarm.repository.ReminderSlotJobRepository;
+import com.ogjg.daitgym.domain.NotificationSchedule;
+import com.ogjg.daitgym.domain.ReminderSlotCheckpoint;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.ogjg.daitgym.domain.ReminderSlotCheckpoint.REMINDER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class ScheduledServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @Autowired
+    private ScheduledService scheduledService;
+
+    @Autowired
+    private NotificationScheduleRepository notificationScheduleRepository;
+
+    @Autowired
+    private ReminderSlotJobRepository reminderSlotJobRepository;
+
+    @Autowired
+    private ReminderSlotCheckpointRepository reminderSlotCheckpointRepository;
+
+    @DisplayName("checkpoint 다음 분부터 현재 분까지 알림을 받을 사용자가 있는 슬롯을 모두 등록한다.")
+    @Test
+    void enqueueMissedSlots() {
+        // given
+        reminderSlotCheckpointRepository.save(new ReminderSlotCheckpoint(REMINDER, NOW.minusMinutes(5)));
+        notificationScheduleRepository.save(new NotificationSchedule("early@test.com", NOW.minusMinutes(3).toLocalTime(), ZoneOffset.UTC));
+        notificationScheduleRepository.save(new NotificationSchedule("late@test.com", NOW.minusMinutes(1).toLocalTime(), ZoneOffset.UTC));
+        notificationScheduleRepository.save(new NotificationSchedule("before@test.com", NOW.minusMinutes(5).toLocalTime(), ZoneOffset.UTC));
+
+        // when
+        scheduledService.enqueue(NOW);
+
+        // then
+        assertThat(reminderSlotJobRepository.findScheduledAtsBetween(NOW.minusMinutes(10), NOW))
+                .containsExactlyInAnyOrder(NOW.minusMinutes(3), NOW.minusMinutes(1));
+        assertThat(reminderSlotCheckpointRepository.findById(REMINDER))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.getLastEnqueuedAt()).isEqualTo(NOW));
+    }
+
+    @DisplayName("이미 등록을 마친 분은 다시 등록하지 않는다.")
+    @Test
+    void enqueueOnce() {
+        // given
+        reminderSlotCheckpointRepository.save(new ReminderSlotCheckpoint(REMINDER, NOW.minusMinutes(1)));
+        notificationScheduleRepository.save(new NotificationSchedule("now@test.com", NOW.toLocalTime(), ZoneOffset.UTC));
+
+        // when
+        scheduledService.enqueue(NOW);
+        scheduledService.enqueue(NOW);
+
+        // then
+        assertThat(reminderSlotJobRepository.findScheduledAtsBetween(NOW, NOW)).containsExactly(NOW);
+    }
+
+    @DisplayName("다른 서버가 먼저 checkpoint 를 옮겼다면 같은 구간을 등록하지 않는다.")
+    @Test
+    void advanceOnlyFromReadCheckpoint() {
+        // given
+        reminderSlotCheckpointRepository.save(new ReminderSlotCheckpoint(REMINDER, NOW.minusMinutes(1)));
+
+        // when
+        int first = reminderSlotCheckpointRepository.advance(REMINDER, NOW.minusMinutes(1), NOW);
+        int second = reminderSlotCheckpointRepository.advance(REMINDER, NOW.minusMinutes(1), NOW);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ogjg.daitgym.alarm.service;
+
+import com.ogjg.daitgym.alarm.dto.FcmSendResult;
+import com.ogjg.daitgym.alarm.dto.NotificationRequestDto;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * FCM 대신 전송된 배치를 기록하는 테스트용 클라이언트
+ * failWith 로 지정한 토큰은 해당 에러 코드로 실패시킨다.
+ * 테스트 클래스에서 @Import(StubFcmMessagingClient.class) 로 실제 클라이언트 대신 사용한다.
+ */
+@Primary
+@TestComponent
+class StubFcmMessagingClient implements FcmMessagingClient {
+
+    private final List<List<NotificationRequestDto>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> senderThreadNames = new CopyOnWriteArrayList<>();
+    private final Map<String, String> errorCodeByToken = new ConcurrentHashMap<>();
+
+    @Override
+    public List<FcmSendResult> sendAll(List<NotificationRequestDto> notifications) {
+        batches.add(notifications);
+        senderThreadNames.add(Thread.currentThread().getName());
+        return notifications.stream()
+                .map(notification -> errorCodeByToken.containsKey(notification.getToken())
+                        ? FcmSendResult.failure(notification.getToken(), errorCodeByToken.get(notification.getToken()))
+                        : FcmSendResult.success(notification.getToken()))
+                .toList();
+    }
+
+    void failWith(String token, String errorCode) {
+        errorCodeByToken.put(token, errorCode);
+    }
+
+    List<List<NotificationRequestDto>> getBatches() {
+        return batches;
+    }
+
+    List<String> getSenderThreadNames() {
+        return senderThreadNames;
+    }
+
+    void clear() {
+        batches.clear();
+        senderThreadNames.clear();
+        errorCodeByToken.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.messaging.MessageHeaders.CONTENT_TYPE;
+
+class ChatMessageCodecTest {
+
+    private final ChatMessageCodec chatMessageCodec = new ChatMessageCodec(new ObjectMapper());
+
+    @DisplayName("직렬화한 메시지를 역직렬화하면 같은 값이 나온다.")
+    @Test
+    void roundTrip() {
+        // given
+        ChatMessageDto chatMessageDto = chatMessageCodec.deserialize(json(
+                "{\"messageType\":\"TALK\",\"chatMessageId\":7,\"sender\":\"보낸사람\",\"message\":\"오늘 운동 같이 해요\"," +
+                        "\"redisRoomId\":\"room\",\"readCount\":1,\"imageUrl\":\"https://image\",\"messageCreatedAt\":\"2023-11-01T09:30:15\"}"
+        ));
+
+        // when
+        ChatMessageDto result = chatMessageCodec.deserialize(chatMessageCodec.serialize(chatMessageDto));
+
+        // then
+        assertThat(result)
+                .usingRecursiveComparison()
+                .isEqualTo(chatMessageDto);
+        assertThat(result.getMessageCreatedAt()).isEqualTo(LocalDateTime.of(2023, 11, 1, 9, 30, 15));
+        assertThat(result.getMessage()).isEqualTo("오늘 운동 같이 해요");
+    }
+
+    @DisplayName("null 필드는 직렬화하지 않고, 역직렬화하면 null 로 돌아온다.")
+    @Test
+    void omitNullFields() {
+        // given
+        ChatMessageDto chatMessageDto = chatMessageCodec.deserialize(json(
+                "{\"messageType\":\"ENTER\",\"redisRoomId\":\"room\"}"
+        ));
+
+        // when
+        byte[] serialized = chatMessageCodec.serialize(chatMessageDto);
+
+        // then
+        assertThat(new String(serialized, StandardCharsets.UTF_8))
+                .doesNotContain("sender", "imageUrl", "messageCreatedAt", "null");
+        assertThat(chatMessageCodec.deserialize(serialized))
+                .usingRecursiveComparison()
+                .isEqualTo(chatMessageDto);
+    }
+
+    @DisplayName("null 과 빈 값은 빈 byte 배열과 null 로 서로 변환된다.")
+    @Test
+    void emptyValues() {
+        assertThat(chatMessageCodec.serialize(null)).isEmpty();
+        assertThat(chatMessageCodec.deserialize(new byte[0])).isNull();
+        assertThat(chatMessageCodec.deserialize(null)).isNull();
+    }
+
+    @DisplayName("WebSocket 메시지는 직렬화된 JSON 을 그대로 payload 로 담는다.")
+    @Test
+    void stompMessageKeepsPayload() {
+        // given
+        byte[] payload = json("{\"messageType\":\"TALK\",\"redisRoomId\":\"room\"}");
+
+        // when
+        Message<byte[]> message = chatMessageCodec.toStompMessage(payload, chatMessageCodec.deserialize(payload));
+
+        // then
+        assertThat(message.getPayload()).isSameAs(payload);
+        assertThat(message.getHeaders().get(CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    private byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
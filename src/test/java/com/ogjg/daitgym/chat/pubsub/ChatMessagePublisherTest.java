@@ -0,0 +1,117 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.service.ChatRoomService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher.ROOM_DESTINATION_PREFIX;
+import static com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher.SENT_AT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 대의 서버와 외부 STOMP 브로커를 띄우는 통합 테스트는 테스트 환경에 브로커가 없어 포함하지 않았다.
+ * 여기서는 chat.broker.mode 에 따른 발행기 선택과, 두 모드의 sent-at 헤더가 같은 시각을 쓰는지 확인한다.
+ */
+class ChatMessagePublisherTest {
+
+    private static final LocalDateTime MESSAGE_CREATED_AT = LocalDateTime.of(2023, 11, 1, 9, 30, 15);
+
+    private final ChatMessageCodec chatMessageCodec = new ChatMessageCodec(new ObjectMapper());
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(ChatMessageCodec.class, () -> chatMessageCodec)
+            .withBean(ChatRoomService.class, () -> mock(ChatRoomService.class))
+            .withBean(RedisTemplate.class, () -> mock(RedisTemplate.class))
+            .withBean(SimpMessageSendingOperations.class, () -> mock(SimpMessageSendingOperations.class))
+            .withUserConfiguration(RedisPublisher.class, StompRelayPublisher.class);
+
+    @DisplayName("chat.broker.mode 설정이 없으면 Redis pub/sub 발행기를 사용한다.")
+    @Test
+    void defaultModeUsesRedisPublisher() {
+        contextRunner.run(context ->
+                assertThat(context).getBean(ChatMessagePublisher.class).isInstanceOf(RedisPublisher.class)
+        );
+    }
+
+    @DisplayName("simple 모드는 Redis pub/sub 발행기를 사용한다.")
+    @Test
+    void simpleModeUsesRedisPublisher() {
+        contextRunner.withPropertyValues("chat.broker.mode=simple")
+                .run(context ->
+                        assertThat(context).getBean(ChatMessagePublisher.class).isInstanceOf(RedisPublisher.class)
+                );
+    }
+
+    @DisplayName("relay 모드는 외부 STOMP 브로커 발행기만 사용한다.")
+    @Test
+    void relayModeUsesStompRelayPublisher() {
+        contextRunner.withPropertyValues("chat.broker.mode=relay")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ChatMessagePublisher.class);
+                    assertThat(context).doesNotHaveBean(RedisPublisher.class);
+                    assertThat(context).getBean(ChatMessagePublisher.class).isInstanceOf(StompRelayPublisher.class);
+                });
+    }
+
+    @DisplayName("relay 모드는 메시지 생성 시각을 sent-at 헤더로 보낸다.")
+    @Test
+    void relaySentAtIsMessageCreatedAt() {
+        // given
+        SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        StompRelayPublisher stompRelayPublisher = new StompRelayPublisher(chatMessageCodec, messagingTemplate);
+
+        // when
+        stompRelayPublisher.publish("room", chatMessage());
+
+        // then
+        assertThat(sentSentAt(messagingTemplate)).isEqualTo(epochMillis(MESSAGE_CREATED_AT));
+    }
+
+    @DisplayName("simple 모드의 구독자도 메시지 생성 시각을 sent-at 헤더로 보낸다.")
+    @Test
+    void simpleSentAtIsMessageCreatedAt() {
+        // given
+        SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        RedisSubscriber redisSubscriber = new RedisSubscriber(chatMessageCodec, messagingTemplate);
+        byte[] published = chatMessageCodec.serialize(chatMessage());
+
+        // when
+        redisSubscriber.onMessage(new DefaultMessage("room".getBytes(), published), null);
+
+        // then
+        assertThat(sentSentAt(messagingTemplate)).isEqualTo(epochMillis(MESSAGE_CREATED_AT));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private String sentSentAt(SimpMessageSendingOperations messagingTemplate) {
+        ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass((Class) Message.class);
+        verify(messagingTemplate).send(eq(ROOM_DESTINATION_PREFIX + "room"), messageCaptor.capture());
+        return StompHeaderAccessor.wrap(messageCaptor.getValue()).getFirstNativeHeader(SENT_AT_HEADER);
+    }
+
+    private ChatMessageDto chatMessage() {
+        return chatMessageCodec.deserialize(
+                "{\"messageType\":\"TALK\",\"redisRoomId\":\"room\",\"message\":\"안녕하세요\",\"messageCreatedAt\":\"2023-11-01T09:30:15\"}".getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private String epochMillis(LocalDateTime localDateTime) {
+        return String.valueOf(localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,101 @@
+package com.ogjg.daitgym.chat.pubsub;
+
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.config.StompTestNode;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+
+import static com.ogjg.daitgym.chat.pubsub.ChatMessagePublisher.ROOM_DESTINATION_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 ActiveMQ Artemis 를 STOMP 브로커로 띄우고, relay 모드 서버 두 대를 한 JVM 에서 띄운다.
+ * 한 서버에서 발행한 채팅 메시지를 다른 서버에 접속한 구독자가 브로커를 거쳐 받는지 확인한다.
+ */
+class StompRelayClusterTest {
+
+    private EmbeddedActiveMQ broker;
+    private int brokerPort;
+
+    @BeforeEach
+    void startBroker() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            brokerPort = socket.getLocalPort();
+        }
+
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP");
+
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        broker.start();
+    }
+
+    @AfterEach
+    void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @DisplayName("relay 모드에서 한 서버가 발행한 채팅 메시지를 다른 서버에 접속한 구독자가 받는다.")
+    @Test
+    void deliverAcrossNodes() throws Exception {
+        try (StompTestNode publishingNode = StompTestNode.start(relayProperties());
+             StompTestNode subscribingNode = StompTestNode.start(relayProperties())) {
+            // given
+            String id = UUID.randomUUID().toString().substring(0, 8);
+            UserRepository userRepository = subscribingNode.getBean(UserRepository.class);
+            User subscriber = userRepository.save(User.builder()
+                    .email(id + "@daitgym.com")
+                    .nickname(id)
+                    .role(Role.USER)
+                    .build());
+
+            try {
+                StompSession session = subscribingNode.connect(subscriber);
+                BlockingQueue<Map<String, Object>> received = StompTestNode.subscribe(session, ROOM_DESTINATION_PREFIX + id);
+                ChatMessagePublisher publisher = publishingNode.getBean(ChatMessagePublisher.class);
+                ChatMessageDto chatMessage = publishingNode.getBean(ChatMessageCodec.class).deserialize((
+                        "{\"messageType\":\"TALK\",\"redisRoomId\":\"" + id + "\",\"message\":\"안녕하세요\"," +
+                                "\"messageCreatedAt\":\"2023-11-01T09:30:15\"}"
+                ).getBytes(StandardCharsets.UTF_8));
+
+                // when
+                Map<String, Object> delivered = StompTestNode.publishUntilReceived(
+                        () -> publisher.publish(id, chatMessage), received
+                );
+
+                // then
+                assertThat(publisher).isInstanceOf(StompRelayPublisher.class);
+                assertThat(delivered).isNotNull();
+                assertThat(delivered).containsEntry("message", "안녕하세요").containsEntry("redisRoomId", id);
+                session.disconnect();
+            } finally {
+                userRepository.delete(subscriber);
+            }
+        }
+    }
+
+    private String[] relayProperties() {
+        return new String[]{
+                "chat.broker.mode=relay",
+                "chat.broker.relay.host=127.0.0.1",
+                "chat.broker.relay.port=" + brokerPort
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.ogjg.daitgym.chat.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class ChatMessageCacheRepositoryTest {
+
+    @Autowired
+    private ChatMessageCacheRepository chatMessageCacheRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("메시지는 트랜잭션이 커밋된 뒤에 캐시에 추가된다.")
+    @Test
+    void appendAfterCommit() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 1L)));
+
+        // when
+        List<ChatMessageDto> beforeCommit = transactionTemplate.execute(status -> {
+            chatMessageCacheRepository.appendAfterCommit(createMessage(redisRoomId, 2L));
+            return chatMessageCacheRepository.findLatestPage(redisRoomId).orElseThrow();
+        });
+
+        // then
+        assertThat(beforeCommit).extracting(ChatMessageDto::getChatMessageId).containsExactly(1L);
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId).orElseThrow())
+                .extracting(ChatMessageDto::getChatMessageId)
+                .containsExactly(1L, 2L);
+    }
+
+    @DisplayName("롤백된 메시지는 캐시에 추가되지 않는다.")
+    @Test
+    void noAppendOnRollback() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 1L)));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageCacheRepository.appendAfterCommit(createMessage(redisRoomId, 2L));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId).orElseThrow())
+                .extracting(ChatMessageDto::getChatMessageId)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("DB 를 읽는 동안 메시지가 추가되었다면 캐시를 채우지 않는다.")
+    @Test
+    void noFillWhenAppendedDuringLoad() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+
+        // when
+        List<ChatMessageDto> loaded = chatMessageCacheRepository.fill(redisRoomId, () -> {
+            chatMessageCacheRepository.appendAfterCommit(createMessage(redisRoomId, 2L));
+            return List.of(createMessage(redisRoomId, 1L));
+        });
+
+        // then
+        assertThat(loaded).extracting(ChatMessageDto::getChatMessageId).containsExactly(1L);
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId)).isEmpty();
+    }
+
+    @DisplayName("이미 채워진 캐시는 덮어쓰지 않는다.")
+    @Test
+    void noOverwrite() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 1L)));
+
+        // when
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 9L)));
+
+        // then
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId).orElseThrow())
+                .extracting(ChatMessageDto::getChatMessageId)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("커밋과 캐시 추가 사이에 채워져 중복된 메시지는 조회 시 한 번만 나온다.")
+    @Test
+    void distinctOnRead() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 1L)));
+
+        // when
+        chatMessageCacheRepository.appendAfterCommit(createMessage(redisRoomId, 1L));
+
+        // then
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId).orElseThrow())
+                .extracting(ChatMessageDto::getChatMessageId)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("캐시 삭제는 트랜잭션이 커밋된 뒤에 반영된다.")
+    @Test
+    void evictAfterCommit() {
+        // given
+        String redisRoomId = UUID.randomUUID().toString();
+        chatMessageCacheRepository.fill(redisRoomId, () -> List.of(createMessage(redisRoomId, 1L)));
+
+        // when
+        boolean cachedBeforeCommit = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            chatMessageCacheRepository.evictAfterCommit(redisRoomId);
+            return chatMessageCacheRepository.findLatestPage(redisRoomId).isPresent();
+        }));
+
+        // then
+        assertThat(cachedBeforeCommit).isTrue();
+        assertThat(chatMessageCacheRepository.findLatestPage(redisRoomId)).isEmpty();
+    }
+
+    private ChatMessageDto createMessage(String redisRoomId, Long chatMessageId) {
+        return objectMapper.convertValue(Map.of(
+                "messageType", "TALK",
+                "chatMessageId", chatMessageId,
+                "redisRoomId", redisRoomId,
+                "message", "메시지 " + chatMessageId
+        ), ChatMessageDto.class);
+    }
+}
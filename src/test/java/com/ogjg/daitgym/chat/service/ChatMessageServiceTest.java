@@ -0,0 +1,101 @@
+package com.ogjg.daitgym.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.chat.dto.ChatMessageDto;
+import com.ogjg.daitgym.chat.repository.ChatRoomRepository;
+import com.ogjg.daitgym.chat.repository.UsersChattingRoomRepository;
+import com.ogjg.daitgym.config.websocket.StompPrincipal;
+import com.ogjg.daitgym.domain.ChatRoom;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.UsersChattingRoom;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class ChatMessageServiceTest {
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatPresenceService chatPresenceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UsersChattingRoomRepository usersChattingRoomRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User sender;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(createTestUser("sender@test.com", "chat_sender"));
+        User receiver = userRepository.save(createTestUser("receiver@test.com", "chat_receiver"));
+        chatRoom = chatRoomRepository.save(new ChatRoom());
+        usersChattingRoomRepository.save(new UsersChattingRoom(sender, chatRoom));
+        usersChattingRoomRepository.save(new UsersChattingRoom(receiver, chatRoom));
+
+        chatPresenceService.connect(UUID.randomUUID().toString(), chatRoom.getRedisRoomId(), sender.getEmail());
+    }
+
+    @DisplayName("상대방이 채팅방에 접속 중이면 메시지를 읽음으로 저장한다.")
+    @Test
+    void readWhenReceiverOnline() {
+        // given
+        chatPresenceService.connect(UUID.randomUUID().toString(), chatRoom.getRedisRoomId(), "receiver@test.com");
+
+        // when
+        ChatMessageDto saved = chatMessageService.save(createMessage("안녕하세요"), StompPrincipal.of(sender, null));
+
+        // then
+        assertThat(saved.getReadCount()).isZero();
+    }
+
+    @DisplayName("보낸 사람만 접속 중이면 메시지를 읽지 않음으로 저장한다.")
+    @Test
+    void unreadWhenOnlySenderOnline() {
+        // when
+        ChatMessageDto saved = chatMessageService.save(createMessage("안녕하세요"), StompPrincipal.of(sender, null));
+
+        // then
+        assertThat(saved.getReadCount()).isEqualTo(1);
+    }
+
+    private ChatMessageDto createMessage(String message) {
+        return objectMapper.convertValue(Map.of(
+                "messageType", "TALK",
+                "redisRoomId", chatRoom.getRedisRoomId(),
+                "message", message
+        ), ChatMessageDto.class);
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ogjg.daitgym.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class ChatPresenceServiceTest {
+
+    @Autowired
+    private ChatPresenceService chatPresenceService;
+
+    @DisplayName("같은 사용자의 다른 세션이 남아 있다면 한 세션이 끊겨도 접속 중이다.")
+    @Test
+    void onlineWhileAnotherSessionRemains() {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        String phoneSession = UUID.randomUUID().toString();
+        String webSession = UUID.randomUUID().toString();
+        chatPresenceService.connect(phoneSession, roomId, "user1@test.com");
+        chatPresenceService.connect(webSession, roomId, "user1@test.com");
+
+        // when
+        chatPresenceService.disconnect(phoneSession, roomId, "user1@test.com");
+
+        // then
+        assertThat(chatPresenceService.isOnline(roomId, "user1@test.com")).isTrue();
+    }
+
+    @DisplayName("사용자의 마지막 세션이 끊기면 접속 중이 아니다.")
+    @Test
+    void offlineAfterLastSessionCloses() {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        String phoneSession = UUID.randomUUID().toString();
+        String webSession = UUID.randomUUID().toString();
+        chatPresenceService.connect(phoneSession, roomId, "user1@test.com");
+        chatPresenceService.connect(webSession, roomId, "user1@test.com");
+
+        // when
+        chatPresenceService.disconnect(phoneSession, roomId, "user1@test.com");
+        chatPresenceService.disconnect(webSession, null, null);
+
+        // then
+        assertThat(chatPresenceService.isOnline(roomId, "user1@test.com")).isFalse();
+    }
+
+    @DisplayName("다른 사용자의 세션이 끊겨도 접속 상태는 바뀌지 않는다.")
+    @Test
+    void otherUserDisconnect() {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        String user1Session = UUID.randomUUID().toString();
+        String user2Session = UUID.randomUUID().toString();
+        chatPresenceService.connect(user1Session, roomId, "user1@test.com");
+        chatPresenceService.connect(user2Session, roomId, "user2@test.com");
+
+        // when
+        chatPresenceService.disconnect(user2Session, roomId, "user2@test.com");
+
+        // then
+        assertThat(chatPresenceService.isOnline(roomId, "user1@test.com")).isTrue();
+        assertThat(chatPresenceService.isOnline(roomId, "user2@test.com")).isFalse();
+    }
+}
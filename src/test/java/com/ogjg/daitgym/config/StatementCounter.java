@@ -0,0 +1,78 @@
+package com.ogjg.daitgym.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 를 감싸 JPA 와 JdbcTemplate 이 만든 PreparedStatement 수를 함께 센다.
+ * batch 로 실행되는 statement 는 addBatch 횟수와 상관없이 하나로 센다.
+ */
+public class StatementCounter {
+
+    private final AtomicLong count = new AtomicLong();
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public void clear() {
+        count.set(0);
+    }
+
+    private DataSource wrap(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? wrap(connection) : result;
+                });
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement") || method.getName().equals("prepareCall")) {
+                        count.incrementAndGet();
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        public static BeanPostProcessor statementCountingDataSourcePostProcessor(StatementCounter statementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ogjg.daitgym.config;
+
+import com.ogjg.daitgym.DaItGymApplication;
+import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.config.security.jwt.util.JwtUtils;
+import com.ogjg.daitgym.domain.User;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 JVM 에서 여러 대를 띄워 서버 간 STOMP 전달을 확인하기 위한 테스트용 서버
+ * 서버마다 임의의 포트로 뜨고, local 프로필의 DB 와 Redis 를 함께 사용한다.
+ */
+public class StompTestNode implements AutoCloseable {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+    private static final long RETRY_MILLIS = 200;
+
+    private final ConfigurableApplicationContext context;
+
+    private StompTestNode(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static StompTestNode start(String... properties) {
+        return new StompTestNode(new SpringApplicationBuilder(DaItGymApplication.class)
+                .profiles("local")
+                .properties("server.port=0")
+                .properties(properties)
+                .run());
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 사용자의 access token 으로 이 서버의 /ws 에 STOMP 연결한다.
+     */
+    public StompSession connect(User user) throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())))
+        );
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authentication",
+                JwtUtils.TOKEN_PREFIX + JwtUtils.TokenGenerator.generateAccessToken(JwtUserClaimsDto.from(user)));
+
+        return stompClient.connectAsync(
+                "http://localhost:" + port() + "/ws", new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                }
+        ).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * destination 을 구독하고, 받은 메시지의 JSON 본문을 담는 큐를 반환한다.
+     */
+    public static BlockingQueue<Map<String, Object>> subscribe(StompSession session, String destination) {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+        return received;
+    }
+
+    /**
+     * 구독이 브로커에 등록되기 전에 발행한 메시지는 전달되지 않으므로, 메시지를 받을 때까지 다시 발행한다.
+     * 제한 시간 안에 받지 못하면 null 을 반환한다.
+     */
+    public static Map<String, Object> publishUntilReceived(Runnable publish, BlockingQueue<Map<String, Object>> received)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            publish.run();
+            Map<String, Object> message = received.poll(RETRY_MILLIS, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private int port() {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ogjg.daitgym.config.security;
+
+import com.ogjg.daitgym.config.security.jwt.filter.PermitUrlMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermitUrlMatcherTest {
+
+    private final PermitUrlMatcher permitUrlMatcher = new PermitUrlMatcher(SecurityConfig.PERMIT_JWT_URL_LIST);
+
+    @DisplayName("하나로 합친 Pattern 은 허용 URL 정규식을 하나씩 matches 한 결과와 같다.")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/", "", "/favicon.ico", "/favicon.icon",
+            "/login/oauth2/callback/kakao", "/login/oauth2/callback/kakao?code=abc", "/login/oauth2/callback/naver",
+            "/login/oauth2/code/kakao", "/login/oauth2/code",
+            "/api/users/token", "/api/users/token/", "/api/users/tokens",
+            "/api/token/new", "/api/token/new/1",
+            "/health", "/healthz",
+            "/ws/chat", "/ws", "/chat/room/1", "/chat",
+            "/h2-console/login.do", "/api/health",
+            "/api/routines", "/api/users/nickname/profile", "/api/notifications"
+    })
+    void sameResultAsPatternMatches(String requestUri) {
+        // given
+        boolean expected = SecurityConfig.PERMIT_JWT_URL_LIST.stream()
+                .anyMatch(pattern -> Pattern.matches(pattern, requestUri));
+
+        // when
+        boolean actual = permitUrlMatcher.matches(requestUri);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+}
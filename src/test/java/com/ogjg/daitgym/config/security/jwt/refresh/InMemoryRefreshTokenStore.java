@@ -0,0 +1,61 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 refresh token family 저장소. Redis 대신 메모리에 저장하고 TTL 은 무시한다.
+ * 테스트 클래스에서 @Import(InMemoryRefreshTokenStore.class) 로 RedisRefreshTokenStore 대신 사용한다.
+ */
+@Primary
+@TestComponent
+class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> familiesByEmail = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String familyId, String email, String tokenId, Duration ttl) {
+        families.put(familyId, new Family(tokenId, null, 0));
+        familiesByEmail.computeIfAbsent(email, key -> ConcurrentHashMap.newKeySet()).add(familyId);
+    }
+
+    @Override
+    public synchronized Rotation rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl, Duration grace) {
+        Family family = families.get(familyId);
+        long now = System.currentTimeMillis();
+        if (family == null) {
+            return Rotation.of(RotationResult.REVOKED);
+        }
+        if (family.current().equals(presentedTokenId)) {
+            families.put(familyId, new Family(newTokenId, presentedTokenId, now));
+            return Rotation.rotated(newTokenId);
+        }
+        if (presentedTokenId.equals(family.previous()) && now - family.rotatedAt() <= grace.toMillis()) {
+            return Rotation.rotated(family.current());
+        }
+        families.remove(familyId);
+        return Rotation.of(RotationResult.REUSED);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        families.remove(familyId);
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        Set<String> familyIds = familiesByEmail.remove(email);
+        if (familyIds != null) {
+            familyIds.forEach(families::remove);
+        }
+    }
+
+    private record Family(String current, String previous, long rotatedAt) {
+    }
+}
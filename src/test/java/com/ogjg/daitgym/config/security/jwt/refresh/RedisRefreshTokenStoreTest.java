@@ -0,0 +1,92 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenStore.Rotation;
+import com.ogjg.daitgym.config.security.jwt.refresh.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class RedisRefreshTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final Duration GRACE = Duration.ofSeconds(10);
+
+    @Autowired
+    private RedisRefreshTokenStore redisRefreshTokenStore;
+
+    @DisplayName("현재 token id 로 교체하면 새 token id 를 반환한다.")
+    @Test
+    void rotate() {
+        // given
+        String familyId = save("first");
+
+        // when
+        Rotation rotation = redisRefreshTokenStore.rotate(familyId, "first", "second", TTL, GRACE);
+
+        // then
+        assertThat(rotation).isEqualTo(new Rotation(RotationResult.ROTATED, "second"));
+    }
+
+    @DisplayName("grace 안에 직전 token id 로 교체하면 이미 교체된 현재 token id 를 반환한다.")
+    @Test
+    void acceptPreviousWithinGrace() {
+        // given
+        String familyId = save("first");
+        redisRefreshTokenStore.rotate(familyId, "first", "second", TTL, GRACE);
+
+        // when
+        Rotation rotation = redisRefreshTokenStore.rotate(familyId, "first", "third", TTL, GRACE);
+
+        // then
+        assertThat(rotation).isEqualTo(new Rotation(RotationResult.ROTATED, "second"));
+        assertThat(redisRefreshTokenStore.rotate(familyId, "second", "fourth", TTL, GRACE).result())
+                .isEqualTo(RotationResult.ROTATED);
+    }
+
+    @DisplayName("grace 가 지난 직전 token id 는 재사용으로 보고 family 를 폐기한다.")
+    @Test
+    void detectReuseAfterGrace() {
+        // given
+        String familyId = save("first");
+        redisRefreshTokenStore.rotate(familyId, "first", "second", TTL, GRACE);
+
+        // when
+        Rotation rotation = redisRefreshTokenStore.rotate(familyId, "first", "third", TTL, Duration.ofMillis(-1));
+
+        // then
+        assertThat(rotation.result()).isEqualTo(RotationResult.REUSED);
+        assertThat(redisRefreshTokenStore.rotate(familyId, "second", "fourth", TTL, GRACE).result())
+                .isEqualTo(RotationResult.REVOKED);
+    }
+
+    @DisplayName("모든 기기에서 로그아웃하면 저장된 family 를 사용할 수 없다.")
+    @Test
+    void revokeAll() {
+        // given
+        String email = UUID.randomUUID() + "@daitgym.com";
+        String familyId = UUID.randomUUID().toString();
+        redisRefreshTokenStore.save(familyId, email, "first", TTL);
+
+        // when
+        redisRefreshTokenStore.revokeAll(email);
+
+        // then
+        assertThat(redisRefreshTokenStore.rotate(familyId, "first", "second", TTL, GRACE).result())
+                .isEqualTo(RotationResult.REVOKED);
+    }
+
+    private String save(String tokenId) {
+        String familyId = UUID.randomUUID().toString();
+        redisRefreshTokenStore.save(familyId, UUID.randomUUID() + "@daitgym.com", tokenId, TTL);
+        return familyId;
+    }
+}
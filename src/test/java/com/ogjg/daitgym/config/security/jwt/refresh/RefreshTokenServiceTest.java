@@ -0,0 +1,89 @@
+package com.ogjg.daitgym.config.security.jwt.refresh;
+
+import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.config.security.jwt.util.JwtUtils.TokenVerifier;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(InMemoryRefreshTokenStore.class)
+@ActiveProfiles("local")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    private final JwtUserClaimsDto claims = JwtUserClaimsDto.defaultClaimsOf("refresh@test.com", "refresh");
+
+    @DisplayName("refresh token 을 사용하면 새 token 으로 교체된다.")
+    @Test
+    void rotate() {
+        // given
+        String refreshToken = refreshTokenService.issue(claims);
+
+        // when
+        String rotated = refreshTokenService.rotate(refreshToken, claims);
+
+        // then
+        assertThat(rotated).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenService.rotate(rotated, claims)).isNotEqualTo(rotated);
+    }
+
+    @DisplayName("이미 교체된 refresh token 이 다시 사용되면 family 전체가 폐기된다.")
+    @Test
+    void detectReuse() {
+        // given
+        String refreshToken = refreshTokenService.issue(claims);
+        String rotated = refreshTokenService.rotate(refreshTokenService.rotate(refreshToken, claims), claims);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken, claims))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated, claims))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @DisplayName("교체 직후 같은 refresh token 으로 다시 요청하면 이미 교체된 token 을 발급한다.")
+    @Test
+    void acceptPreviousTokenWithinGrace() {
+        // given
+        String refreshToken = refreshTokenService.issue(claims);
+        String rotated = refreshTokenService.rotate(refreshToken, claims);
+
+        // when
+        String concurrent = refreshTokenService.rotate(refreshToken, claims);
+
+        // then
+        assertThat(tokenId(concurrent)).isEqualTo(tokenId(rotated));
+        assertThat(refreshTokenService.rotate(rotated, claims)).isNotNull();
+    }
+
+    @DisplayName("모든 기기에서 로그아웃하면 사용자의 모든 refresh token 을 사용할 수 없다.")
+    @Test
+    void revokeAll() {
+        // given
+        String firstDevice = refreshTokenService.issue(claims);
+        String secondDevice = refreshTokenService.issue(claims);
+
+        // when
+        refreshTokenService.revokeAll(claims.getEmail());
+
+        // then
+        assertThatThrownBy(() -> refreshTokenService.rotate(firstDevice, claims))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(secondDevice, claims))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private String tokenId(String refreshToken) {
+        return TokenVerifier.verifyRefreshTokenAndGetClaims(refreshToken).getId();
+    }
+}
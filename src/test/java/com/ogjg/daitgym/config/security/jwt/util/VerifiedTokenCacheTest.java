@@ -0,0 +1,112 @@
+package com.ogjg.daitgym.config.security.jwt.util;
+
+import com.ogjg.daitgym.common.exception.chat.UnauthorizedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    @DisplayName("가득 차면 가장 오래 쓰이지 않은 토큰을 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("first", claims("first@daitgym.com", 60_000));
+        cache.put("second", claims("second@daitgym.com", 60_000));
+        cache.get("first");
+
+        // when
+        cache.put("third", claims("third@daitgym.com", 60_000));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("first")).isNotNull();
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("third")).isNotNull();
+    }
+
+    @DisplayName("만료된 토큰의 claims 는 반환하지 않는다.")
+    @Test
+    void noExpiredClaims() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("expired", claims("expired@daitgym.com", -1_000));
+
+        // when
+        Claims cached = cache.get("expired");
+
+        // then
+        assertThat(cached).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("만료 시각이 없는 토큰은 저장하지 않는다.")
+    @Test
+    void noPutWithoutExpiration() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+
+        // when
+        cache.put("token", Jwts.claims().setSubject("user"));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("반환된 claims 를 수정해도 캐시된 claims 는 바뀌지 않는다.")
+    @Test
+    void returnCopy() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        Claims original = claims("user@daitgym.com", 60_000);
+        cache.put("token", original);
+        original.put("email", "changed@daitgym.com");
+
+        // when
+        cache.get("token").put("email", "other@daitgym.com");
+
+        // then
+        assertThat(cache.get("token").get("email", String.class)).isEqualTo("user@daitgym.com");
+        assertThat(cache.get("token")).isNotSameAs(cache.get("token"));
+    }
+
+    @DisplayName("null 토큰은 저장하지 않고 조회 결과도 없다.")
+    @Test
+    void nullToken() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+
+        // when
+        cache.put(null, claims("user@daitgym.com", 60_000));
+
+        // then
+        assertThat(cache.get(null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("Bearer prefix 가 없어 토큰이 null 이나 빈 값이라면 캐시를 거치지 않고 UnauthorizedException 을 던진다.")
+    @Test
+    void rejectMissingToken() {
+        // given
+        JwtUtils jwtUtils = new JwtUtils();
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtils.getValidatedClaims(jwtUtils.getTokenStompHeader("token-without-prefix")))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> jwtUtils.getValidatedClaims(" "))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    private Claims claims(String email, long expiresInMillis) {
+        Claims claims = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+        claims.put("email", email);
+        return claims;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ogjg.daitgym.config.websocket;
+
+import com.ogjg.daitgym.config.websocket.ChatDeliveryLatencyInterceptor.LatencySnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatDeliveryLatencyInterceptorTest {
+
+    @DisplayName("구간마다 전달 수와 p50, 최대 지연시간을 집계하고 비운다.")
+    @Test
+    void drainAggregate() {
+        // given
+        ChatDeliveryLatencyInterceptor interceptor = new ChatDeliveryLatencyInterceptor();
+        LongStream.of(30, 10, 50, 20, 40).forEach(interceptor::record);
+
+        // when
+        LatencySnapshot snapshot = interceptor.drain();
+
+        // then
+        assertThat(snapshot).isEqualTo(new LatencySnapshot(5, 30, 50));
+        assertThat(interceptor.drain()).isEqualTo(new LatencySnapshot(0, 0, 0));
+    }
+
+    @DisplayName("표본 수를 넘는 전달도 전달 수와 최대 지연시간에는 모두 집계한다.")
+    @Test
+    void countBeyondSamples() {
+        // given
+        ChatDeliveryLatencyInterceptor interceptor = new ChatDeliveryLatencyInterceptor();
+        LongStream.rangeClosed(1, 10_000).forEach(latency -> interceptor.record(5));
+        interceptor.record(900);
+
+        // when
+        LatencySnapshot snapshot = interceptor.drain();
+
+        // then
+        assertThat(snapshot.count()).isEqualTo(10_001);
+        assertThat(snapshot.p50()).isEqualTo(5);
+        assertThat(snapshot.max()).isEqualTo(900);
+    }
+}
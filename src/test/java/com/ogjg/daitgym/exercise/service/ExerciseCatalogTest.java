@@ -0,0 +1,135 @@
+package com.ogjg.daitgym.exercise.service;
+
+import com.ogjg.daitgym.config.StatementCounter;
+import com.ogjg.daitgym.exercise.service.ExerciseCatalog.CatalogExercise;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Import(StatementCounter.Config.class)
+@ActiveProfiles("local")
+class ExerciseCatalogTest {
+
+    private static final String PART = "catalog-test-part";
+
+    @Autowired
+    private ExerciseCatalog exerciseCatalog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @AfterTransaction
+    void tearDown() {
+        exerciseCatalog.refresh();
+    }
+
+    @DisplayName("refresh 하면 DB 의 운동을 부위별로 다시 읽는다.")
+    @Test
+    void refresh() {
+        // given
+        insertExercise("catalog-refresh-1");
+        insertExercise("catalog-refresh-2");
+
+        // when
+        exerciseCatalog.refresh();
+
+        // then
+        assertThat(exerciseCatalog.findAllByPart(PART))
+                .extracting(CatalogExercise::getName)
+                .containsExactly("catalog-refresh-1", "catalog-refresh-2");
+    }
+
+    @DisplayName("캐시에 없는 운동은 DB 에서 읽어 새 목록으로 더하고, 이미 반환한 목록은 바뀌지 않는다.")
+    @Test
+    void addCopyOnWrite() {
+        // given
+        insertExercise("catalog-cached");
+        exerciseCatalog.refresh();
+        List<CatalogExercise> before = exerciseCatalog.findAllByPart(PART);
+        insertExercise("catalog-added");
+
+        // when
+        statementCounter.clear();
+        CatalogExercise added = exerciseCatalog.findByName("catalog-added").orElseThrow();
+        long firstLookupStatements = statementCounter.getCount();
+        exerciseCatalog.findByName("catalog-added");
+
+        // then
+        assertThat(added.getPart()).isEqualTo(PART);
+        assertThat(firstLookupStatements).isEqualTo(1);
+        assertThat(statementCounter.getCount()).isEqualTo(1);
+        assertThat(before).extracting(CatalogExercise::getName).containsExactly("catalog-cached");
+        assertThat(exerciseCatalog.findAllByPart(PART))
+                .extracting(CatalogExercise::getName)
+                .containsExactly("catalog-cached", "catalog-added");
+    }
+
+    @DisplayName("캐시에 없는 여러 이름은 IN 쿼리 한 번으로 조회하고, DB 에도 없는 이름은 다시 조회하지 않는다.")
+    @Test
+    void findAllByNamesMisses() {
+        // given
+        insertExercise("catalog-cached");
+        exerciseCatalog.refresh();
+        insertExercise("catalog-miss-1");
+        insertExercise("catalog-miss-2");
+
+        // when
+        statementCounter.clear();
+        Map<String, CatalogExercise> found = exerciseCatalog.findAllByNames(
+                List.of("catalog-cached", "catalog-miss-1", "catalog-miss-2", "catalog-unknown")
+        );
+        long firstLookupStatements = statementCounter.getCount();
+
+        statementCounter.clear();
+        Map<String, CatalogExercise> again = exerciseCatalog.findAllByNames(List.of("catalog-miss-1", "catalog-unknown"));
+        boolean unknownFound = exerciseCatalog.findByName("catalog-unknown").isPresent();
+
+        // then
+        assertThat(found).containsOnlyKeys("catalog-cached", "catalog-miss-1", "catalog-miss-2");
+        assertThat(firstLookupStatements).isEqualTo(1);
+        assertThat(again).containsOnlyKeys("catalog-miss-1");
+        assertThat(unknownFound).isFalse();
+        assertThat(statementCounter.getCount()).isZero();
+    }
+
+    @DisplayName("refresh 하면 없던 이름도 다시 DB 에서 찾는다.")
+    @Test
+    void refreshForgetsMissingNames() {
+        // given
+        exerciseCatalog.findByName("catalog-later");
+        insertExercise("catalog-later");
+
+        // when
+        exerciseCatalog.refresh();
+
+        // then
+        assertThat(exerciseCatalog.findByName("catalog-later")).isPresent();
+    }
+
+    private void insertExercise(String name) {
+        entityManager.createNativeQuery("INSERT INTO exercise (name) VALUES (?)")
+                .setParameter(1, name)
+                .executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO exercise_part (exercise_id, part) SELECT id, ? FROM exercise WHERE name = ?")
+                .setParameter(1, PART)
+                .setParameter(2, name)
+                .executeUpdate();
+        entityManager.flush();
+    }
+}
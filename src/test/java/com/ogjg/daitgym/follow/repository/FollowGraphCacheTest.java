@@ -0,0 +1,113 @@
+package com.ogjg.daitgym.follow.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class FollowGraphCacheTest {
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("캐시를 채우기 전에는 empty 를 반환한다.")
+    @Test
+    void emptyBeforeFill() {
+        // given
+        String email = randomEmail();
+
+        // when & then
+        assertThat(followGraphCache.contains(email, "target@daitgym.com")).isEmpty();
+    }
+
+    @DisplayName("채운 캐시에서 팔로우 여부를 반환한다.")
+    @Test
+    void containsAfterFill() {
+        // given
+        String email = randomEmail();
+        followGraphCache.fill(email, () -> List.of("target@daitgym.com"));
+
+        // when & then
+        assertThat(followGraphCache.contains(email, "target@daitgym.com")).contains(true);
+        assertThat(followGraphCache.contains(email, "other@daitgym.com")).contains(false);
+    }
+
+    @DisplayName("팔로우한 사람이 없는 사용자도 캐시가 채워진다.")
+    @Test
+    void fillWithoutFollowing() {
+        // given
+        String email = randomEmail();
+
+        // when
+        followGraphCache.fill(email, List::of);
+
+        // then
+        assertThat(followGraphCache.contains(email, "target@daitgym.com")).contains(false);
+    }
+
+    @DisplayName("DB 에서 전체 관계를 읽는 동안 팔로우가 바뀌면 읽은 값으로 채우지 않는다.")
+    @Test
+    void noFillWhenChangedWhileLoading() {
+        // given
+        String email = randomEmail();
+
+        // when
+        List<String> loaded = followGraphCache.fill(email, () -> {
+            followGraphCache.addAfterCommit(email, "new@daitgym.com");
+            return List.of("target@daitgym.com");
+        });
+
+        // then
+        assertThat(loaded).containsExactly("target@daitgym.com");
+        assertThat(followGraphCache.contains(email, "target@daitgym.com")).isEmpty();
+    }
+
+    @DisplayName("채워진 캐시에는 트랜잭션이 커밋된 뒤 팔로우와 언팔로우를 반영한다.")
+    @Test
+    void addAndRemoveAfterCommit() {
+        // given
+        String email = randomEmail();
+        followGraphCache.fill(email, () -> List.of("target@daitgym.com"));
+
+        // when
+        Boolean followingNewBeforeCommit = transactionTemplate.execute(status -> {
+            followGraphCache.addAfterCommit(email, "new@daitgym.com");
+            followGraphCache.removeAfterCommit(email, "target@daitgym.com");
+            return followGraphCache.contains(email, "new@daitgym.com").orElseThrow();
+        });
+
+        // then
+        assertThat(followingNewBeforeCommit).isFalse();
+        assertThat(followGraphCache.contains(email, "new@daitgym.com")).contains(true);
+        assertThat(followGraphCache.contains(email, "target@daitgym.com")).contains(false);
+    }
+
+    @DisplayName("캐시가 없으면 팔로우를 반영하지 않는다.")
+    @Test
+    void noAddWhenAbsent() {
+        // given
+        String email = randomEmail();
+
+        // when
+        followGraphCache.addAfterCommit(email, "new@daitgym.com");
+
+        // then
+        assertThat(followGraphCache.contains(email, "new@daitgym.com")).isEmpty();
+    }
+
+    private String randomEmail() {
+        return UUID.randomUUID() + "@daitgym.com";
+    }
+}
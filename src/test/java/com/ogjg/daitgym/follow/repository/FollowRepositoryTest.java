@@ -0,0 +1,122 @@
+package com.ogjg.daitgym.follow.repository;
+
+import com.ogjg.daitgym.config.StatementCounter;
+import com.ogjg.daitgym.domain.Inbody;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.follow.Follow;
+import com.ogjg.daitgym.follow.dto.response.FollowListDto;
+import com.ogjg.daitgym.user.repository.InbodyRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@Import(StatementCounter.Config.class)
+@ActiveProfiles("local")
+class FollowRepositoryTest {
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InbodyRepository inbodyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @DisplayName("팔로워 목록은 팔로워마다 자신의 최신 인바디 점수를 함께 조회하고, 인바디가 없다면 0 이다.")
+    @Test
+    void followerListWithLatestInbodyScore() {
+        // given
+        User owner = createTestUser("owner@test.com", "owner");
+        User follower1 = createTestUser("follower1@test.com", "follower1");
+        User follower2 = createTestUser("follower2@test.com", "follower2");
+        userRepository.saveAll(List.of(owner, follower1, follower2));
+        followRepository.saveAll(List.of(createFollow(owner, follower1), createFollow(owner, follower2)));
+        inbodyRepository.saveAll(List.of(
+                createInbody(owner, 99),
+                createInbody(follower1, 60),
+                createInbody(follower1, 75)
+        ));
+
+        // when
+        Slice<FollowListDto> followers = followRepository.followerList("owner@test.com", PageRequest.of(0, 10));
+
+        // then
+        assertThat(followers.getContent())
+                .extracting(FollowListDto::getNickname, FollowListDto::getScore)
+                .containsExactly(
+                        tuple("follower1", 75),
+                        tuple("follower2", 0)
+                );
+        assertThat(followers.hasNext()).isFalse();
+    }
+
+    @DisplayName("팔로워 1000명의 목록과 최신 인바디 점수를 한 번의 쿼리로 조회한다.")
+    @Test
+    void followerListInOneQuery() {
+        // given
+        User owner = createTestUser("owner@test.com", "owner");
+        List<User> followers = IntStream.rangeClosed(1, 1000)
+                .mapToObj(i -> createTestUser("follower" + i + "@test.com", String.format("follower%04d", i)))
+                .toList();
+        userRepository.save(owner);
+        userRepository.saveAll(followers);
+        followRepository.saveAll(followers.stream().map(follower -> createFollow(owner, follower)).toList());
+        inbodyRepository.saveAll(followers.stream().map(follower -> createInbody(follower, 70)).toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        statementCounter.clear();
+
+        // when
+        Slice<FollowListDto> firstPage = followRepository.followerList("owner@test.com", PageRequest.of(0, 1000));
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(1000)
+                .allSatisfy(follower -> assertThat(follower.getScore()).isEqualTo(70));
+        assertThat(firstPage.hasNext()).isFalse();
+        assertThat(statementCounter.getCount()).isEqualTo(1);
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+
+    private Follow createFollow(User target, User follower) {
+        return new Follow(Follow.createFollowPK(target.getEmail(), follower.getEmail()), target, follower);
+    }
+
+    private Inbody createInbody(User user, int score) {
+        return Inbody.builder()
+                .user(user)
+                .score(score)
+                .build();
+    }
+}
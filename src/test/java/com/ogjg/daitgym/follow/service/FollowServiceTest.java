@@ -0,0 +1,96 @@
+package com.ogjg.daitgym.follow.service;
+
+import com.ogjg.daitgym.common.exception.follow.AlreadyFollowUser;
+import com.ogjg.daitgym.common.exception.follow.NotFoundFollow;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.follow.Follow;
+import com.ogjg.daitgym.follow.repository.FollowGraphCache;
+import com.ogjg.daitgym.follow.repository.FollowRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class FollowServiceTest {
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @DisplayName("캐시에 팔로우가 없더라도 DB 에 팔로우가 있다면 다시 팔로우할 수 없다.")
+    @Test
+    void followChecksDatabase() {
+        // given
+        User user = userRepository.save(createTestUser());
+        User target = userRepository.save(createTestUser());
+        followRepository.save(createFollow(target, user));
+        followGraphCache.fill(user.getEmail(), List::of);
+
+        // when & then
+        assertThatThrownBy(() -> followService.follow(user.getEmail(), target.getNickname()))
+                .isInstanceOf(AlreadyFollowUser.class);
+    }
+
+    @DisplayName("캐시에 팔로우가 있더라도 DB 에 팔로우가 없다면 언팔로우할 수 없다.")
+    @Test
+    void unfollowChecksDatabase() {
+        // given
+        User user = userRepository.save(createTestUser());
+        User target = userRepository.save(createTestUser());
+        followGraphCache.fill(user.getEmail(), () -> List.of(target.getEmail()));
+
+        // when & then
+        assertThatThrownBy(() -> followService.unfollow(user.getEmail(), target.getNickname()))
+                .isInstanceOf(NotFoundFollow.class);
+    }
+
+    @DisplayName("캐시에 팔로우가 없더라도 DB 에 팔로우가 있다면 언팔로우한다.")
+    @Test
+    void unfollowWhenCacheIsStale() {
+        // given
+        User user = userRepository.save(createTestUser());
+        User target = userRepository.save(createTestUser());
+        Follow follow = followRepository.save(createFollow(target, user));
+        followGraphCache.fill(user.getEmail(), List::of);
+
+        // when
+        followService.unfollow(user.getEmail(), target.getNickname());
+
+        // then
+        assertThat(followRepository.existsById(follow.getFollowPK())).isFalse();
+    }
+
+    private User createTestUser() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .email(id + "@daitgym.com")
+                .nickname(id)
+                .role(Role.USER)
+                .build();
+    }
+
+    private Follow createFollow(User target, User follower) {
+        return new Follow(Follow.createFollowPK(target.getEmail(), follower.getEmail()), target, follower);
+    }
+}
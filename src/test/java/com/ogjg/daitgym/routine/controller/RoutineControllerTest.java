@@ -0,0 +1,34 @@
+package com.ogjg.daitgym.routine.controller;
+
+import com.ogjg.daitgym.config.security.details.OAuth2JwtUserDetails;
+import com.ogjg.daitgym.config.security.jwt.dto.JwtUserClaimsDto;
+import com.ogjg.daitgym.routine.service.RoutineService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RoutineControllerTest {
+
+    private final RoutineService routineService = mock(RoutineService.class);
+    private final RoutineController routineController = new RoutineController(routineService);
+
+    @DisplayName("사용자의 루틴 목록은 작성자가 아니라 조회하는 사용자 기준으로 좋아요, 스크랩 여부를 조회한다.")
+    @Test
+    void getUserRoutinesWithViewerEmail() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        OAuth2JwtUserDetails viewer = new OAuth2JwtUserDetails(
+                JwtUserClaimsDto.defaultClaimsOf("viewer@test.com", "viewer")
+        );
+
+        // when
+        routineController.getUserRoutines("author", pageable, 1, viewer);
+
+        // then
+        verify(routineService).getUserRoutines("author", 1, pageable, "viewer@test.com");
+    }
+}
@@ -0,0 +1,116 @@
+package com.ogjg.daitgym.routine.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.ogjg.daitgym.routine.repository.RoutineReactionCache.Reaction.LIKED;
+import static com.ogjg.daitgym.routine.repository.RoutineReactionCache.Reaction.SCRAPPED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "routine.reaction-cache.enabled=true")
+@ActiveProfiles("local")
+class RoutineReactionCacheTest {
+
+    @Autowired
+    private RoutineReactionCache routineReactionCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("캐시를 채우기 전에는 empty 를 반환한다.")
+    @Test
+    void emptyBeforeFill() {
+        // given
+        String email = randomEmail();
+
+        // when & then
+        assertThat(routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L))).isEmpty();
+    }
+
+    @DisplayName("채운 캐시에서 현재 페이지의 루틴 중 반응한 루틴 id 만 반환한다.")
+    @Test
+    void findMembersAfterFill() {
+        // given
+        String email = randomEmail();
+        routineReactionCache.fill(LIKED, email, () -> Set.of(1L, 3L));
+
+        // when & then
+        assertThat(routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L, 3L))).contains(Set.of(1L, 3L));
+        assertThat(routineReactionCache.findMembers(SCRAPPED, email, List.of(1L))).isEmpty();
+    }
+
+    @DisplayName("반응한 루틴이 없는 사용자도 캐시가 채워진다.")
+    @Test
+    void fillWithoutReactions() {
+        // given
+        String email = randomEmail();
+
+        // when
+        routineReactionCache.fill(SCRAPPED, email, Set::of);
+
+        // then
+        assertThat(routineReactionCache.findMembers(SCRAPPED, email, List.of(1L))).contains(Set.of());
+    }
+
+    @DisplayName("DB 에서 전체 기록을 읽는 동안 좋아요가 바뀌면 읽은 값으로 채우지 않는다.")
+    @Test
+    void noFillWhenChangedWhileLoading() {
+        // given
+        String email = randomEmail();
+
+        // when
+        Set<Long> loaded = routineReactionCache.fill(LIKED, email, () -> {
+            routineReactionCache.addAfterCommit(LIKED, email, 2L);
+            return Set.of(1L);
+        });
+
+        // then
+        assertThat(loaded).containsExactly(1L);
+        assertThat(routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L))).isEmpty();
+    }
+
+    @DisplayName("채워진 캐시에는 트랜잭션이 커밋된 뒤 좋아요와 취소를 반영한다.")
+    @Test
+    void addAndRemoveAfterCommit() {
+        // given
+        String email = randomEmail();
+        routineReactionCache.fill(LIKED, email, () -> Set.of(1L));
+
+        // when
+        Set<Long> beforeCommit = transactionTemplate.execute(status -> {
+            routineReactionCache.addAfterCommit(LIKED, email, 2L);
+            routineReactionCache.removeAfterCommit(LIKED, email, 1L);
+            return routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L)).orElseThrow();
+        });
+
+        // then
+        assertThat(beforeCommit).containsExactly(1L);
+        assertThat(routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L))).contains(Set.of(2L));
+    }
+
+    @DisplayName("이미 채워진 캐시는 다시 채우지 않는다.")
+    @Test
+    void noOverwriteWhenPresent() {
+        // given
+        String email = randomEmail();
+        routineReactionCache.fill(LIKED, email, () -> Set.of(1L));
+
+        // when
+        routineReactionCache.fill(LIKED, email, () -> Set.of(2L));
+
+        // then
+        assertThat(routineReactionCache.findMembers(LIKED, email, List.of(1L, 2L))).contains(Set.of(1L));
+    }
+
+    private String randomEmail() {
+        return UUID.randomUUID() + "@daitgym.com";
+    }
+}
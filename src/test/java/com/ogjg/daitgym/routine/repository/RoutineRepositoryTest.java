@@ -1,18 +1,26 @@
 package com.ogjg.daitgym.routine.repository;
 
+import com.ogjg.daitgym.config.StatementCounter;
 import com.ogjg.daitgym.domain.User;
 import com.ogjg.daitgym.domain.follow.Follow;
 import com.ogjg.daitgym.domain.routine.Routine;
+import com.ogjg.daitgym.domain.routine.RoutineLike;
+import com.ogjg.daitgym.domain.routine.UserRoutineCollection;
 import com.ogjg.daitgym.follow.repository.FollowRepository;
+import com.ogjg.daitgym.like.routine.repository.RoutineLikeRepository;
+import com.ogjg.daitgym.routine.dto.RoutineDto;
 import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -22,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @Transactional
+@Import(StatementCounter.Config.class)
 @ActiveProfiles("local")
 class RoutineRepositoryTest {
 
@@ -34,6 +43,18 @@ class RoutineRepositoryTest {
     @Autowired
     private FollowRepository followRepository;
 
+    @Autowired
+    private RoutineLikeRepository routineLikeRepository;
+
+    @Autowired
+    private UserRoutineCollectionRepository userRoutineCollectionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
     @DisplayName("운동 분할 종류로 루틴을 조회한다.")
     @Test
     void findRoutinesByDivision() {
@@ -237,6 +258,45 @@ class RoutineRepositoryTest {
         assertThat(routines.isEmpty()).isTrue();
     }
 
+    @DisplayName("루틴 목록을 작성자, 좋아요 수, 스크랩 수와 함께 한 번의 쿼리로 조회한다.")
+    @Test
+    void findRoutineDtosByDivision() {
+        // given
+        User author = createUser("author@test.com", "author");
+        User viewer = createUser("viewer@test.com", "viewer");
+        userRepository.saveAll(List.of(author, viewer));
+
+        List<Routine> routines = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> createRoutine(author, 1))
+                .toList();
+        routineRepository.saveAll(routines);
+
+        Routine popularRoutine = routines.get(2);
+        routineLikeRepository.saveAll(List.of(new RoutineLike(author, popularRoutine), new RoutineLike(viewer, popularRoutine)));
+        userRoutineCollectionRepository.save(new UserRoutineCollection(viewer, popularRoutine));
+        entityManager.flush();
+        entityManager.clear();
+
+        statementCounter.clear();
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+        // when
+        Slice<RoutineDto> routineDtos = routineRepository.findRoutineDtosByDivision(1, pageable);
+
+        // then
+        assertThat(statementCounter.getCount()).isEqualTo(1);
+        assertThat(routineDtos.hasNext()).isTrue();
+        assertThat(routineDtos.getContent()).hasSize(2);
+
+        RoutineDto first = routineDtos.getContent().get(0);
+        assertThat(first.getId()).isEqualTo(popularRoutine.getId());
+        assertThat(first.getAuthor()).isEqualTo("author");
+        assertThat(first.getLikeCounts()).isEqualTo(2);
+        assertThat(first.getScrapCounts()).isEqualTo(1);
+        assertThat(routineDtos.getContent().get(1).getLikeCounts()).isZero();
+    }
+
     private User createUser(String mail, String nickname) {
         return User.builder()
                 .email(mail)
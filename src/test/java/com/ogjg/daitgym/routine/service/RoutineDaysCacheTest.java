@@ -0,0 +1,66 @@
+package com.ogjg.daitgym.routine.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.ogjg.daitgym.routine.dto.RoutineDetailsResponseDto.DayDto;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutineDaysCacheTest {
+
+    private final RoutineDaysCache routineDaysCache = new RoutineDaysCache();
+
+    @DisplayName("같은 루틴의 구성은 한 번만 만든다.")
+    @Test
+    void loadOnce() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        routineDaysCache.get(1L, () -> load(loadCount));
+        List<DayDto> days = routineDaysCache.get(1L, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(days).hasSize(1);
+    }
+
+    @DisplayName("루틴이 삭제되어 캐시를 비우면 다시 만든다.")
+    @Test
+    void evict() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        routineDaysCache.get(1L, () -> load(loadCount));
+
+        // when
+        routineDaysCache.evict(1L);
+        routineDaysCache.get(1L, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 루틴부터 비운다.")
+    @Test
+    void sizeBounded() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        LongStream.rangeClosed(1, 1_001).forEach(routineId -> routineDaysCache.get(routineId, () -> load(loadCount)));
+        routineDaysCache.get(1L, () -> load(loadCount));
+
+        // then
+        assertThat(routineDaysCache.size()).isEqualTo(1_000);
+        assertThat(loadCount.get()).isEqualTo(1_002);
+    }
+
+    private List<DayDto> load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return List.of(DayDto.builder().order(1).exercises(List.of()).build());
+    }
+}
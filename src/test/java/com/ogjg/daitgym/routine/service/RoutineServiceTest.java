@@ -0,0 +1,321 @@
+package com.ogjg.daitgym.routine.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.config.StatementCounter;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.routine.Day;
+import com.ogjg.daitgym.domain.routine.Routine;
+import com.ogjg.daitgym.domain.routine.RoutineLike;
+import com.ogjg.daitgym.exercise.service.ExerciseCatalog;
+import com.ogjg.daitgym.like.routine.repository.RoutineLikeRepository;
+import com.ogjg.daitgym.routine.dto.RoutineDto;
+import com.ogjg.daitgym.routine.dto.RoutineListResponseDto;
+import com.ogjg.daitgym.routine.dto.RoutineRequestDto;
+import com.ogjg.daitgym.routine.repository.DayRepository;
+import com.ogjg.daitgym.routine.repository.RoutineBulkRepository;
+import com.ogjg.daitgym.routine.repository.RoutineRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Import(StatementCounter.Config.class)
+@ActiveProfiles("local")
+class RoutineServiceTest {
+
+    private static final String EXERCISE_NAME = "routine-service-test-exercise";
+
+    @Autowired
+    private RoutineService routineService;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private ExerciseCatalog exerciseCatalog;
+
+    @Autowired
+    private RoutineLikeRepository routineLikeRepository;
+
+    @Autowired
+    private RoutineSearchIndexBackfill routineSearchIndexBackfill;
+
+    @Autowired
+    private RoutineBulkRepository routineBulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email("routine@test.com")
+                .nickname("routine")
+                .role(Role.USER)
+                .build());
+        entityManager.createNativeQuery("INSERT INTO exercise (name) VALUES (?)")
+                .setParameter(1, EXERCISE_NAME)
+                .executeUpdate();
+        entityManager.flush();
+        exerciseCatalog.refresh();
+    }
+
+    @DisplayName("루틴의 일차와 세트 수가 늘어나도 루틴 생성 쿼리 수는 같다.")
+    @Test
+    void createRoutineStatementCount() {
+        // given
+        RoutineRequestDto smallRoutine = createRequest("small", 1, 1);
+        RoutineRequestDto largeRoutine = createRequest("large", 6, 5);
+
+        // when
+        statementCounter.clear();
+        routineService.createRoutine(smallRoutine, "routine@test.com");
+        long smallRoutineStatements = statementCounter.getCount();
+
+        statementCounter.clear();
+        routineService.createRoutine(largeRoutine, "routine@test.com");
+        long largeRoutineStatements = statementCounter.getCount();
+
+        // then
+        assertThat(largeRoutineStatements).isEqualTo(smallRoutineStatements);
+    }
+
+    @DisplayName("루틴을 생성하면 일차별로 모든 세트가 저장된다.")
+    @Test
+    void createRoutine() {
+        // given
+        RoutineRequestDto request = createRequest("created", 6, 5);
+
+        // when
+        routineService.createRoutine(request, "routine@test.com");
+        entityManager.clear();
+
+        // then
+        Routine routine = routineRepository.findAll().stream()
+                .filter(saved -> "created".equals(saved.getTitle()))
+                .findFirst()
+                .orElseThrow();
+        List<Day> days = dayRepository.findAllWithExerciseDetailsByRoutineId(routine.getId()).orElseThrow();
+
+        assertThat(days).hasSize(6);
+        assertThat(days).allSatisfy(day -> {
+            assertThat(day.getExerciseDetails()).hasSize(5);
+            assertThat(day.getExerciseDetails().get(0).getExercise().getName()).isEqualTo(EXERCISE_NAME);
+        });
+    }
+
+    @DisplayName("루틴을 제목 일부와 운동, 기간으로 검색하고, 삭제한 루틴은 검색되지 않는다.")
+    @Test
+    void searchRoutines() {
+        // given
+        routineService.createRoutine(createRequest("검색테스트 상체루틴", 3, 1), "routine@test.com");
+        routineService.createRoutine(createRequest("검색테스트 하체루틴", 5, 1), "routine@test.com");
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // when
+        List<String> byKeyword = searchTitles("상체", null, null, null, pageable);
+        List<String> byExerciseAndDuration = searchTitles("검색테스트", EXERCISE_NAME, 4, null, pageable);
+
+        Long deletedRoutineId = routineRepository.findAll().stream()
+                .filter(saved -> "검색테스트 상체루틴".equals(saved.getTitle()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        routineService.deleteRoutine(deletedRoutineId, "routine@test.com");
+        List<String> afterDelete = searchTitles("검색테스트", null, null, null, pageable);
+
+        // then
+        assertThat(byKeyword).containsExactly("검색테스트 상체루틴");
+        assertThat(byExerciseAndDuration).containsExactly("검색테스트 하체루틴");
+        assertThat(afterDelete).containsExactly("검색테스트 하체루틴");
+    }
+
+    @DisplayName("검색 결과는 이전 페이지의 마지막 루틴 id 아래부터 최신순으로 이어서 조회한다.")
+    @Test
+    void searchRoutinesWithCursor() {
+        // given
+        routineService.createRoutine(createRequest("커서테스트 첫째", 1, 1), "routine@test.com");
+        routineService.createRoutine(createRequest("커서테스트 둘째", 1, 1), "routine@test.com");
+        routineService.createRoutine(createRequest("커서테스트 셋째", 1, 1), "routine@test.com");
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        // when
+        RoutineListResponseDto firstPage = routineService.searchRoutines(
+                "커서테스트", null, null, null, null, null, pageable, "routine@test.com");
+        Long cursor = firstPage.getRoutines().get(firstPage.getRoutines().size() - 1).getId();
+        RoutineListResponseDto secondPage = routineService.searchRoutines(
+                "커서테스트", null, null, null, null, cursor, pageable, "routine@test.com");
+
+        // then
+        assertThat(firstPage.getRoutines()).extracting(RoutineDto::getTitle)
+                .containsExactly("커서테스트 셋째", "커서테스트 둘째");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getRoutines()).extracting(RoutineDto::getTitle)
+                .containsExactly("커서테스트 첫째");
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @DisplayName("검색 색인이 없는 루틴은 backfill 후 검색된다.")
+    @Test
+    void backfillSearchIndex() {
+        // given
+        routineRepository.save(Routine.builder()
+                .user(userRepository.findByEmail("routine@test.com").orElseThrow())
+                .title("색인전루틴")
+                .content("description")
+                .duration(1)
+                .division(1)
+                .build());
+        entityManager.flush();
+        PageRequest pageable = PageRequest.of(0, 10);
+        List<String> beforeBackfill = searchTitles("색인전루틴", null, null, null, pageable);
+
+        // when
+        routineSearchIndexBackfill.backfill();
+        List<String> afterBackfill = searchTitles("색인전루틴", null, null, null, pageable);
+
+        // then
+        assertThat(beforeBackfill).isEmpty();
+        assertThat(afterBackfill).containsExactly("색인전루틴");
+    }
+
+    @DisplayName("같은 루틴의 같은 검색어는 두 번 저장할 수 없다.")
+    @Test
+    void uniqueSearchTermPerRoutine() {
+        // given
+        Routine routine = saveUnindexedRoutine("중복색인");
+        routineBulkRepository.insertSearchTerms(routine.getId(), routine.getDuration(), Set.of("t:중복"));
+
+        // when & then
+        assertThatThrownBy(() -> routineBulkRepository.insertSearchTerms(routine.getId(), routine.getDuration(), Set.of("t:중복")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @DisplayName("backfill 은 다른 트랜잭션이 이미 검색어를 저장한 루틴을 건너뛰고 중복 저장하지 않는다.")
+    @Test
+    void backfillSkipsIndexedRoutine() {
+        // given
+        Routine routine = saveUnindexedRoutine("동시색인");
+        routineBulkRepository.insertSearchTerms(routine.getId(), routine.getDuration(), Set.of("t:동시"));
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> routineSearchIndexBackfill.backfill());
+        assertThat(((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM routine_search_term WHERE routine_id = ? AND term = ?")
+                .setParameter(1, routine.getId())
+                .setParameter(2, "t:동시")
+                .getSingleResult()).longValue()).isEqualTo(1);
+    }
+
+    @DisplayName("사용자의 루틴 목록의 좋아요 여부는 조회하는 사용자 기준이다.")
+    @Test
+    void getUserRoutinesLikedByViewer() {
+        // given
+        User viewer = userRepository.save(User.builder()
+                .email("viewer@test.com")
+                .nickname("viewer")
+                .role(Role.USER)
+                .build());
+        routineService.createRoutine(createRequest("좋아요테스트", 1, 1), "routine@test.com");
+        Routine routine = routineRepository.findAll().stream()
+                .filter(saved -> "좋아요테스트".equals(saved.getTitle()))
+                .findFirst()
+                .orElseThrow();
+        routineLikeRepository.save(new RoutineLike(viewer, routine));
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // when
+        List<RoutineDto> viewedByViewer = routineService.getUserRoutines("routine", null, pageable, "viewer@test.com").getRoutines();
+        List<RoutineDto> viewedByAuthor = routineService.getUserRoutines("routine", null, pageable, "routine@test.com").getRoutines();
+
+        // then
+        assertThat(viewedByViewer).filteredOn(dto -> dto.getId().equals(routine.getId()))
+                .singleElement()
+                .satisfies(dto -> assertThat(dto.isLiked()).isTrue());
+        assertThat(viewedByAuthor).filteredOn(dto -> dto.getId().equals(routine.getId()))
+                .singleElement()
+                .satisfies(dto -> assertThat(dto.isLiked()).isFalse());
+    }
+
+    private List<String> searchTitles(String keyword, String exerciseName, Integer minDuration, Integer maxDuration, PageRequest pageable) {
+        return routineService.searchRoutines(keyword, null, exerciseName, minDuration, maxDuration, null, pageable, "routine@test.com")
+                .getRoutines().stream()
+                .map(RoutineDto::getTitle)
+                .toList();
+    }
+
+    private RoutineRequestDto createRequest(String title, int dayCount, int setCount) {
+        List<Map<String, Object>> sets = IntStream.rangeClosed(1, setCount)
+                .mapToObj(order -> Map.<String, Object>of("order", order, "weights", 50, "counts", 10))
+                .toList();
+
+        List<Map<String, Object>> days = IntStream.rangeClosed(1, dayCount)
+                .mapToObj(order -> Map.<String, Object>of(
+                        "order", order,
+                        "exercises", List.of(Map.of(
+                                "order", 1,
+                                "name", EXERCISE_NAME,
+                                "restTime", Map.of("hours", 0, "minutes", 1, "seconds", 30),
+                                "exerciseSets", sets
+                        ))
+                ))
+                .toList();
+
+        return objectMapper.convertValue(Map.of(
+                "title", title,
+                "description", "description",
+                "division", dayCount,
+                "routine", Map.of("days", days)
+        ), RoutineRequestDto.class);
+    }
+
+    private Routine saveUnindexedRoutine(String title) {
+        Routine routine = routineRepository.save(Routine.builder()
+                .user(userRepository.findByEmail("routine@test.com").orElseThrow())
+                .title(title)
+                .content("description")
+                .duration(1)
+                .division(1)
+                .build());
+        entityManager.flush();
+        return routine;
+    }
+}
@@ -0,0 +1,186 @@
+package com.ogjg.daitgym.user.client;
+
+import com.ogjg.daitgym.common.exception.user.FailedKaKaoApi;
+import com.ogjg.daitgym.common.exception.user.ForbiddenKaKaoSocial;
+import com.ogjg.daitgym.user.dto.request.KaKaoFriendsRequest;
+import com.ogjg.daitgym.user.dto.response.KakaoAccountResponse;
+import com.ogjg.daitgym.user.dto.response.KakaoTokenResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 mock OAuth 서버를 띄워 카카오 API 호출을 검증한다.
+ * 각 경로는 등록된 응답을 순서대로 돌려주고, 마지막 응답은 이후 요청에도 반복된다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class KakaoApiClientTest {
+
+    private static final HttpServer mockServer = startMockServer();
+    private static final Map<String, List<MockResponse>> responses = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private static final List<String> requestBodies = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private KakaoApiClient kakaoApiClient;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        String baseUrl = "http://localhost:" + mockServer.getAddress().getPort();
+        registry.add("kakao.token-uri", () -> baseUrl + "/oauth/token");
+        registry.add("kakao.user-info-uri", () -> baseUrl + "/v2/user/me");
+        registry.add("kakao.friends-uri", () -> baseUrl + "/v1/api/talk/friends");
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        mockServer.stop(0);
+    }
+
+    @BeforeEach
+    void clear() {
+        responses.clear();
+        requestCounts.clear();
+        requestBodies.clear();
+    }
+
+    @DisplayName("인가 코드로 토큰을 발급받는다.")
+    @Test
+    void requestToken() {
+        // given
+        respond("/oauth/token", 200, """
+                {"access_token":"kakao-access","token_type":"bearer","refresh_token":"kakao-refresh","expires_in":21599,"unknown":"ignored"}
+                """);
+
+        // when
+        KakaoTokenResponse response = kakaoApiClient.requestToken("auth-code").block();
+
+        // then
+        assertThat(response.getAccess_token()).isEqualTo("kakao-access");
+        assertThat(response.getRefresh_token()).isEqualTo("kakao-refresh");
+        assertThat(response.getExpires_in()).isEqualTo(21599);
+        assertThat(requestBodies.get(0)).contains("grant_type=authorization_code", "code=auth-code");
+    }
+
+    @DisplayName("토큰 발급은 서버 오류가 나도 재시도하지 않는다.")
+    @Test
+    void requestTokenNotRetried() {
+        // given
+        respond("/oauth/token", 500, "{}");
+
+        // when & then
+        assertThatThrownBy(() -> kakaoApiClient.requestToken("auth-code").block())
+                .isInstanceOf(FailedKaKaoApi.class);
+        assertThat(requestCounts.get("/oauth/token").get()).isEqualTo(1);
+    }
+
+    @DisplayName("사용자 정보 조회는 서버 오류가 나면 재시도한다.")
+    @Test
+    void requestUserInfoRetried() {
+        // given
+        respond("/v2/user/me", 503, "{}");
+        respond("/v2/user/me", 200, """
+                {"id":1234,"kakao_account":{"email":"kakao@test.com","profile":{"nickname":"kakao"}}}
+                """);
+
+        // when
+        KakaoAccountResponse response = kakaoApiClient.requestUserInfo("kakao-access").block();
+
+        // then
+        assertThat(response.getId()).isEqualTo(1234L);
+        assertThat(response.getKakao_account().getEmail()).isEqualTo("kakao@test.com");
+        assertThat(requestCounts.get("/v2/user/me").get()).isEqualTo(2);
+    }
+
+    @DisplayName("친구 목록 조회가 403 이면 정보동의 예외가 발생한다.")
+    @Test
+    void requestFriendsForbidden() {
+        // given
+        respond("/v1/api/talk/friends", 403, "{\"msg\":\"insufficient scopes.\",\"code\":-402}");
+
+        // when & then
+        assertThatThrownBy(() -> kakaoApiClient.requestFriends("kakao-access").block())
+                .isInstanceOf(ForbiddenKaKaoSocial.class);
+        assertThat(requestCounts.get("/v1/api/talk/friends").get()).isEqualTo(1);
+    }
+
+    @DisplayName("친구 목록을 조회한다.")
+    @Test
+    void requestFriends() {
+        // given
+        respond("/v1/api/talk/friends", 200, """
+                {"elements":[{"id":1,"uuid":"a"},{"id":2,"uuid":"b"}],"total_count":2}
+                """);
+
+        // when
+        KaKaoFriendsRequest response = kakaoApiClient.requestFriends("kakao-access").block();
+
+        // then
+        assertThat(response.getElements()).hasSize(2);
+        assertThat(response.getTotal_count()).isEqualTo(2);
+    }
+
+    private static void respond(String path, int status, String body) {
+        responses.computeIfAbsent(path, key -> new CopyOnWriteArrayList<>())
+                .add(new MockResponse(status, body));
+    }
+
+    private static HttpServer startMockServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", KakaoApiClientTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int count = requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).getAndIncrement();
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        List<MockResponse> registered = responses.getOrDefault(path, List.of(new MockResponse(404, "{}")));
+        MockResponse response = registered.get(Math.min(count, registered.size() - 1));
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static class MockResponse {
+        private final int status;
+        private final String body;
+
+        private MockResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
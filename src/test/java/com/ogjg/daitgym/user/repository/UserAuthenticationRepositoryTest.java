@@ -0,0 +1,121 @@
+package com.ogjg.daitgym.user.repository;
+
+import com.ogjg.daitgym.config.StatementCounter;
+import com.ogjg.daitgym.domain.Inbody;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.UserAuthentication;
+import com.ogjg.daitgym.user.dto.response.KaKaoFriendResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@Import(StatementCounter.Config.class)
+@ActiveProfiles("local")
+class UserAuthenticationRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserAuthenticationRepository userAuthenticationRepository;
+
+    @Autowired
+    private InbodyRepository inbodyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @DisplayName("카카오 회원번호로 가입한 친구의 프로필과 최신 인바디 점수를 조회하고, 가입하지 않은 회원번호는 제외한다.")
+    @Test
+    void findFriendProfilesByProviderIds() {
+        // given
+        User friend1 = createTestUser("friend1@test.com", "friend1");
+        User friend2 = createTestUser("friend2@test.com", "friend2");
+        userRepository.saveAll(List.of(friend1, friend2));
+        userAuthenticationRepository.saveAll(List.of(
+                createAuthentication(1001L, friend1),
+                createAuthentication(1002L, friend2)
+        ));
+        inbodyRepository.saveAll(List.of(createInbody(friend1, 60), createInbody(friend1, 75)));
+
+        // when
+        List<KaKaoFriendResponseDto> profiles = userAuthenticationRepository.findFriendProfilesByProviderIds(
+                List.of(1001L, 1002L, 9999L)
+        );
+
+        // then
+        assertThat(profiles)
+                .extracting(KaKaoFriendResponseDto::getNickName, KaKaoFriendResponseDto::getScore)
+                .containsExactlyInAnyOrder(
+                        tuple("friend1", 75),
+                        tuple("friend2", 0)
+                );
+    }
+
+    @DisplayName("친구 500명의 프로필을 한 번의 쿼리로 조회한다.")
+    @Test
+    void findFriendProfilesInOneQuery() {
+        // given
+        List<User> friends = LongStream.rangeClosed(1, 500)
+                .mapToObj(i -> createTestUser("friend" + i + "@test.com", "friend" + i))
+                .toList();
+        userRepository.saveAll(friends);
+        userAuthenticationRepository.saveAll(IntStream.range(0, friends.size())
+                .mapToObj(i -> createAuthentication(2000L + i, friends.get(i)))
+                .toList());
+        inbodyRepository.saveAll(friends.stream().map(friend -> createInbody(friend, 70)).toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> providerIds = LongStream.range(2000, 2500).boxed().toList();
+        statementCounter.clear();
+
+        // when
+        List<KaKaoFriendResponseDto> profiles = userAuthenticationRepository.findFriendProfilesByProviderIds(providerIds);
+
+        // then
+        assertThat(profiles).hasSize(500);
+        assertThat(statementCounter.getCount()).isEqualTo(1);
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+
+    private UserAuthentication createAuthentication(Long providerId, User user) {
+        return UserAuthentication.builder()
+                .providerId(providerId)
+                .provider_name("kakao")
+                .user(user)
+                .build();
+    }
+
+    private Inbody createInbody(User user, int score) {
+        return Inbody.builder()
+                .user(user)
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ogjg.daitgym.user.service;
+
+import com.ogjg.daitgym.domain.Inbody;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.domain.follow.Follow;
+import com.ogjg.daitgym.domain.journal.ExerciseJournal;
+import com.ogjg.daitgym.follow.repository.FollowRepository;
+import com.ogjg.daitgym.journal.repository.journal.ExerciseJournalRepository;
+import com.ogjg.daitgym.user.repository.InbodyRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("local")
+class UserCounterReconcilerTest {
+
+    private static final String LOCK_KEY = "job-lock:user-counter-reconcile";
+
+    @Autowired
+    private UserCounterReconciler userCounterReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private ExerciseJournalRepository exerciseJournalRepository;
+
+    @Autowired
+    private InbodyRepository inbodyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @DisplayName("보정 작업은 증감 쿼리를 거치지 않고 저장된 팔로우, 운동일지 수로 카운터를 맞춘다.")
+    @Test
+    void reconcile() {
+        // given
+        User owner = createTestUser("owner@test.com", "owner");
+        User follower = createTestUser("follower@test.com", "follower");
+        userRepository.saveAll(List.of(owner, follower));
+        followRepository.save(new Follow(Follow.createFollowPK(owner.getEmail(), follower.getEmail()), owner, follower));
+        exerciseJournalRepository.saveAll(List.of(
+                ExerciseJournal.createJournal(owner, LocalDate.of(2023, 11, 1)),
+                ExerciseJournal.createJournal(owner, LocalDate.of(2023, 11, 2))
+        ));
+        userRepository.addFollowerCount(owner.getEmail(), 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        userCounterReconciler.reconcile();
+        entityManager.clear();
+
+        // then
+        User reconciledOwner = userRepository.findById("owner@test.com").orElseThrow();
+        User reconciledFollower = userRepository.findById("follower@test.com").orElseThrow();
+
+        assertThat(reconciledOwner.getFollowerCount()).isEqualTo(1);
+        assertThat(reconciledOwner.getJournalCount()).isEqualTo(2);
+        assertThat(reconciledOwner.getLatestApprovalStatus()).isNull();
+        assertThat(reconciledFollower.getFollowingCount()).isEqualTo(1);
+    }
+
+    @DisplayName("보정 작업은 인바디 누적 값이 없는 기존 사용자의 인바디 점수 합계와 개수를 채운다.")
+    @Test
+    void backfillInbodyScores() {
+        // given
+        User owner = createTestUser("owner@test.com", "owner");
+        userRepository.save(owner);
+        inbodyRepository.saveAll(List.of(
+                Inbody.builder().user(owner).score(70).build(),
+                Inbody.builder().user(owner).score(81).build()
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        userCounterReconciler.reconcile();
+        entityManager.clear();
+
+        // then
+        User reconciledOwner = userRepository.findById("owner@test.com").orElseThrow();
+
+        assertThat(reconciledOwner.getInbodyScoreSum()).isEqualTo(151);
+        assertThat(reconciledOwner.getInbodyCount()).isEqualTo(2);
+        assertThat(reconciledOwner.getInbodyScoreAverage()).isEqualTo(76);
+    }
+
+    @DisplayName("다른 서버가 보정 작업의 잠금을 잡고 있다면 새벽 보정 작업을 실행하지 않는다.")
+    @Test
+    void skipDailyWhenLocked() {
+        // given
+        User owner = createTestUser("owner@test.com", "owner");
+        userRepository.save(owner);
+        userRepository.addFollowerCount(owner.getEmail(), 5);
+        entityManager.flush();
+        entityManager.clear();
+        stringRedisTemplate.opsForValue().set(LOCK_KEY, "other-server");
+
+        // when
+        try {
+            userCounterReconciler.reconcileDaily();
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+        entityManager.clear();
+
+        // then
+        assertThat(userRepository.findById("owner@test.com").orElseThrow().getFollowerCount()).isEqualTo(5);
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+}
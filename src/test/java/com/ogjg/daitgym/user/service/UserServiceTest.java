@@ -0,0 +1,112 @@
+package com.ogjg.daitgym.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogjg.daitgym.config.StatementCounter;
+import com.ogjg.daitgym.domain.Inbody;
+import com.ogjg.daitgym.domain.Role;
+import com.ogjg.daitgym.domain.User;
+import com.ogjg.daitgym.user.dto.request.RegisterInbodyRequest;
+import com.ogjg.daitgym.user.dto.response.GetSearchUsersResponse;
+import com.ogjg.daitgym.user.repository.InbodyRepository;
+import com.ogjg.daitgym.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@Import(StatementCounter.Config.class)
+@ActiveProfiles("local")
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InbodyRepository inbodyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("인바디를 등록하면 유저 검색 결과에 등록한 인바디의 평균 점수가 나온다.")
+    @Test
+    void searchedUserHasInbodyAverage() {
+        // given
+        userRepository.save(createTestUser("searcher@test.com", "searcher_avg"));
+        List.of(60, 70, 81).forEach(score ->
+                userService.registerInbody("searcher@test.com", createInbodyRequest(score)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        GetSearchUsersResponse response = userService.getSearchedUsers("searcher_a", PageRequest.of(0, 10));
+
+        // then
+        assertThat(response.getUserResponses())
+                .extracting(GetSearchUsersResponse.GetSearchUserResponse::getNickname,
+                        GetSearchUsersResponse.GetSearchUserResponse::getInbodyScore)
+                .containsExactly(tuple("searcher_avg", 70));
+    }
+
+    @DisplayName("유저 검색 한 페이지는 인바디 기록 수와 상관없이 한 번의 쿼리로 조회한다.")
+    @Test
+    void searchUsersInOneQuery() {
+        // given
+        List<User> users = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> createTestUser("searcher" + i + "@test.com", String.format("searcher_%02d", i)))
+                .toList();
+        userRepository.saveAll(users);
+        users.forEach(user -> inbodyRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> Inbody.builder().user(user).score(70).build())
+                .toList()));
+        entityManager.flush();
+        entityManager.clear();
+
+        statementCounter.clear();
+
+        // when
+        GetSearchUsersResponse response = userService.getSearchedUsers("searcher_", PageRequest.of(0, 10));
+
+        // then
+        assertThat(response.getUserResponses()).hasSize(10);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(statementCounter.getCount()).isEqualTo(1);
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+
+    private RegisterInbodyRequest createInbodyRequest(int score) {
+        return objectMapper.convertValue(Map.of(
+                "inbodyScore", score,
+                "routineId", -1L
+        ), RegisterInbodyRequest.class);
+    }
+}